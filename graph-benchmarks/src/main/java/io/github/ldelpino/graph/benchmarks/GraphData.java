@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Los vertices, las aristas y las consultas aleatorias de una prueba de
+ * rendimiento.
+ * <p>
+ * Los datos se generan con una semilla fija, por lo que todas las
+ * implementaciones se miden sobre el mismo grafo. Los vertices son los enteros
+ * desde <b>0</b> hasta <b>vertices - 1</b> y cada vertice es cola en promedio
+ * de <b>degree</b> aristas, las aristas repetidas se insertan una sola
+ * vez.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class GraphData {
+
+    /**
+     * La semilla de los datos aleatorios.
+     */
+    public static final long SEED = 42L;
+
+    /**
+     * La cantidad de pares de vertices consultados.
+     */
+    public static final int QUERIES = 1024;
+
+    final int vertices;
+    final double[] vertexWeights;
+    final int[] tails;
+    final int[] heads;
+    final double[] edgeWeights;
+    final int[] queryTails;
+    final int[] queryHeads;
+
+    /**
+     * Genera los datos de una prueba de rendimiento.
+     *
+     * @param vertices la cantidad de vertices.
+     * @param degree la cantidad promedio de aristas que parten de cada
+     * vertice.
+     */
+    public GraphData(int vertices, int degree) {
+        Random random = new Random(SEED);
+        int edges = vertices * degree;
+        this.vertices = vertices;
+        this.vertexWeights = new double[vertices];
+        this.tails = new int[edges];
+        this.heads = new int[edges];
+        this.edgeWeights = new double[edges];
+        this.queryTails = new int[QUERIES];
+        this.queryHeads = new int[QUERIES];
+        for (int i = 0; i < vertices; i++) {
+            vertexWeights[i] = 1 + random.nextInt(100);
+        }
+        for (int i = 0; i < edges; i++) {
+            tails[i] = random.nextInt(vertices);
+            heads[i] = random.nextInt(vertices);
+            edgeWeights[i] = 1 + random.nextInt(100);
+        }
+        for (int i = 0; i < QUERIES; i++) {
+            queryTails[i] = random.nextInt(vertices);
+            queryHeads[i] = random.nextInt(vertices);
+        }
+    }
+
+    /**
+     * Inserta los vertices en un grafo.
+     *
+     * @param loader el cargador del grafo.
+     */
+    public void loadVertices(GraphKind.Loader loader) {
+        for (int i = 0; i < vertices; i++) {
+            loader.insertVertex(i, vertexWeights[i]);
+        }
+    }
+
+    /**
+     * Inserta las aristas en un grafo cuyos vertices fueron insertados.
+     *
+     * @param loader el cargador del grafo.
+     */
+    public void loadEdges(GraphKind.Loader loader) {
+        for (int i = 0; i < tails.length; i++) {
+            loader.insertEdge(tails[i], heads[i], edgeWeights[i]);
+        }
+    }
+
+    /**
+     * Crea un grafo con todos los vertices y aristas.
+     *
+     * @param kind la implementacion del grafo.
+     * @return el cargador del grafo creado.
+     */
+    public GraphKind.Loader load(GraphKind kind) {
+        GraphKind.Loader loader = kind.create();
+        loadVertices(loader);
+        loadEdges(loader);
+        return loader;
+    }
+}
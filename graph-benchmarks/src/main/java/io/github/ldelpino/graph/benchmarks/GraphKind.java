@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.benchmarks;
+
+import io.github.ldelpino.graph.api.AbstractGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexEdgeDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexEdgeNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexNotDirectedGraph;
+
+/**
+ * Las implementaciones de grafo medidas por las pruebas de rendimiento.
+ * <p>
+ * Cada implementacion se inserta de forma distinta segun los pesos de sus
+ * vertices y aristas, por lo que cada constante crea un
+ * {@link io.github.ldelpino.graph.benchmarks.GraphKind.Loader} que unifica la
+ * insercion. Los pesos se ignoran en las implementaciones que no los
+ * utilizan.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public enum GraphKind {
+
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph}.
+     */
+    SIMPLE_DIRECTED {
+        @Override
+        public Loader create() {
+            SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex),
+                    (tail, head, weight) -> graph.insertEdge(tail, head));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph}.
+     */
+    SIMPLE_NOT_DIRECTED {
+        @Override
+        public Loader create() {
+            SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex),
+                    (tail, head, weight) -> graph.insertEdge(tail, head));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedVertexDirectedGraph}.
+     */
+    WEIGHTED_VERTEX_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedVertexDirectedGraph<Integer, Double> graph = new WeightedVertexDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex, weight),
+                    (tail, head, weight) -> graph.insertEdge(tail, head));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedVertexNotDirectedGraph}.
+     */
+    WEIGHTED_VERTEX_NOT_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedVertexNotDirectedGraph<Integer, Double> graph = new WeightedVertexNotDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex, weight),
+                    (tail, head, weight) -> graph.insertEdge(tail, head));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph}.
+     */
+    WEIGHTED_EDGE_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex),
+                    (tail, head, weight) -> graph.insertEdge(tail, head, weight));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedEdgeNotDirectedGraph}.
+     */
+    WEIGHTED_EDGE_NOT_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedEdgeNotDirectedGraph<Integer, Double> graph = new WeightedEdgeNotDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex),
+                    (tail, head, weight) -> graph.insertEdge(tail, head, weight));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedVertexEdgeDirectedGraph}.
+     */
+    WEIGHTED_VERTEX_EDGE_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedVertexEdgeDirectedGraph<Integer, Double, Double> graph = new WeightedVertexEdgeDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex, weight),
+                    (tail, head, weight) -> graph.insertEdge(tail, head, weight));
+        }
+    },
+    /**
+     * {@link io.github.ldelpino.graph.graph_implementation.WeightedVertexEdgeNotDirectedGraph}.
+     */
+    WEIGHTED_VERTEX_EDGE_NOT_DIRECTED {
+        @Override
+        public Loader create() {
+            WeightedVertexEdgeNotDirectedGraph<Integer, Double, Double> graph = new WeightedVertexEdgeNotDirectedGraph<>();
+            return new Loader(graph, (vertex, weight) -> graph.insertVertex(vertex, weight),
+                    (tail, head, weight) -> graph.insertEdge(tail, head, weight));
+        }
+    };
+
+    /**
+     * Crea un grafo vacio de esta implementacion.
+     *
+     * @return el cargador del grafo creado.
+     */
+    public abstract Loader create();
+
+    /**
+     * Permite insertar vertices y aristas en un grafo sin importar su
+     * implementacion.
+     */
+    public static final class Loader {
+
+        private final AbstractGraph<Integer> graph;
+        private final VertexInserter vertexInserter;
+        private final EdgeInserter edgeInserter;
+
+        Loader(AbstractGraph<Integer> graph, VertexInserter vertexInserter, EdgeInserter edgeInserter) {
+            this.graph = graph;
+            this.vertexInserter = vertexInserter;
+            this.edgeInserter = edgeInserter;
+        }
+
+        /**
+         * Devuelve el grafo cargado.
+         *
+         * @return el grafo.
+         */
+        public AbstractGraph<Integer> graph() {
+            return graph;
+        }
+
+        /**
+         * Inserta un vertice en el grafo.
+         *
+         * @param vertex el vertice.
+         * @param weight el peso del vertice.
+         * @return <b>true</b> si el vertice fue insertado, de lo contrario
+         * devuelve <b>false</b>.
+         */
+        public boolean insertVertex(int vertex, double weight) {
+            return vertexInserter.insert(vertex, weight);
+        }
+
+        /**
+         * Inserta una arista en el grafo.
+         *
+         * @param tail el vertice que hace funcion de cola.
+         * @param head el vertice que hace funcion de cabeza.
+         * @param weight el peso de la arista.
+         * @return <b>true</b> si la arista fue insertada, de lo contrario
+         * devuelve <b>false</b>.
+         */
+        public boolean insertEdge(int tail, int head, double weight) {
+            return edgeInserter.insert(tail, head, weight);
+        }
+    }
+
+    @FunctionalInterface
+    interface VertexInserter {
+
+        boolean insert(Integer vertex, Double weight);
+    }
+
+    @FunctionalInterface
+    interface EdgeInserter {
+
+        boolean insert(Integer tail, Integer head, Double weight);
+    }
+}
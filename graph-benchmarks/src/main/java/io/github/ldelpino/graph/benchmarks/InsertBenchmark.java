@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import io.github.ldelpino.graph.api.AbstractGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide la insercion de vertices y aristas en cada implementacion de grafo.
+ * <p>
+ * Cada invocacion parte de un grafo nuevo, vacio para la insercion de
+ * vertices y con todos los vertices para la insercion de aristas.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class InsertBenchmark {
+
+    @Param
+    private GraphKind kind;
+
+    @Param({"1000", "10000"})
+    private int vertices;
+
+    @Param({"4", "16"})
+    private int degree;
+
+    private GraphData data;
+    private GraphKind.Loader empty;
+    private GraphKind.Loader withVertices;
+
+    /**
+     * Genera los datos del grafo.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        data = new GraphData(vertices, degree);
+    }
+
+    /**
+     * Crea los grafos de partida de la invocacion.
+     */
+    @Setup(Level.Invocation)
+    public void prepare() {
+        empty = kind.create();
+        withVertices = kind.create();
+        data.loadVertices(withVertices);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public AbstractGraph<Integer> insertVertices() {
+        data.loadVertices(empty);
+        return empty.graph();
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public AbstractGraph<Integer> insertEdges() {
+        data.loadEdges(withVertices);
+        return withVertices.graph();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import io.github.ldelpino.graph.api.AbstractGraph;
+import io.github.ldelpino.graph.api.SparseMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide la exportacion de cada implementacion de grafo a matriz.
+ * <p>
+ * Las matrices densas limitan el tamano de los grafos, que son menores que
+ * los de {@link io.github.ldelpino.graph.benchmarks.QueryBenchmark}, las
+ * matrices dispersas se miden sobre los mismos grafos.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @Param
+    private GraphKind kind;
+
+    @Param({"100", "1000"})
+    private int vertices;
+
+    @Param({"4", "16"})
+    private int degree;
+
+    private AbstractGraph<Integer> graph;
+
+    /**
+     * Crea el grafo exportado.
+     */
+    @Setup(Level.Trial)
+    public void load() {
+        graph = new GraphData(vertices, degree).load(kind).graph();
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public int[][] getAdyacentsMatrix() {
+        return graph.getAdyacentsMatrix();
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public int[][] getIncidenceMatrix() {
+        return graph.getIncidenceMatrix();
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public SparseMatrix getSparseAdjacencyMatrix() {
+        return graph.getSparseAdjacencyMatrix();
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public SparseMatrix getSparseIncidenceMatrix() {
+        return graph.getSparseIncidenceMatrix();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import io.github.ldelpino.graph.api.AbstractGraph;
+import io.github.ldelpino.graph.api.AritmethicNumber;
+import io.github.ldelpino.graph.api.DeltaStepping;
+import io.github.ldelpino.graph.api.HopDistances;
+import io.github.ldelpino.graph.api.ParallelBreadthFirst;
+import io.github.ldelpino.graph.api.ShortestDistances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mide las consultas sobre cada implementacion de grafo.
+ * <p>
+ * Las consultas sobre pares de vertices recorren los pares generados en
+ * {@link io.github.ldelpino.graph.benchmarks.GraphData}, una invocacion por
+ * par, de modo que el resultado es el tiempo promedio de una consulta.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+    @Param
+    private GraphKind kind;
+
+    @Param({"1000", "10000"})
+    private int vertices;
+
+    @Param({"4", "16"})
+    private int degree;
+
+    private GraphData data;
+    private AbstractGraph<Integer> graph;
+    private ParallelBreadthFirst<Integer> breadthFirst;
+    private DeltaStepping<Integer> deltaStepping;
+    private int query;
+
+    /**
+     * Crea el grafo consultado.
+     */
+    @Setup(Level.Trial)
+    public void load() {
+        data = new GraphData(vertices, degree);
+        graph = data.load(kind).graph();
+        breadthFirst = new ParallelBreadthFirst<>(graph.freeze());
+        deltaStepping = new DeltaStepping<>(graph.freeze());
+    }
+
+    private int nextQuery() {
+        int current = query;
+        query = (query + 1) % GraphData.QUERIES;
+        return current;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public boolean areAdjacents() {
+        int i = nextQuery();
+        return graph.areAdjacents(data.queryTails[i], data.queryHeads[i]);
+    }
+
+    /**
+     *
+     * @param blackhole
+     */
+    @Benchmark
+    public void getAdjacents(Blackhole blackhole) {
+        for (Integer adjacent : graph.getAdjacents(data.queryTails[nextQuery()])) {
+            blackhole.consume(adjacent);
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public boolean existPath() {
+        int i = nextQuery();
+        return graph.existPath(data.queryTails[i], data.queryHeads[i]);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public AritmethicNumber bidirectionalDjisktra() {
+        int i = nextQuery();
+        List<Integer> path = new ArrayList<>();
+        return graph.bidirectionalDjisktra(data.queryTails[i], data.queryHeads[i], path);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public HopDistances<Integer> parallelBreadthFirst() {
+        return breadthFirst.search(data.queryTails[nextQuery()]);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public AritmethicNumber djisktra() {
+        int i = nextQuery();
+        List<Integer> path = new ArrayList<>();
+        return graph.djisktra(data.queryTails[i], data.queryHeads[i], path);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public ShortestDistances<Integer> deltaStepping() {
+        return deltaStepping.search(data.queryTails[nextQuery()]);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Benchmark
+    public boolean isCyclic() {
+        return graph.isCyclic();
+    }
+}
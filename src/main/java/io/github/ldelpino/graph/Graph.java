@@ -281,15 +281,39 @@ public interface Graph<T> extends Collection<T> {
     /**
      * Establece si existe un camino de una longitud especifica entre dos
      * vertices.
+     * <p>
+     * El camino es un recorrido de exactamente la cantidad de aristas
+     * establecida, en el cual los vertices y las aristas pueden repetirse. Los
+     * vertices deben ser distintos.</p>
      *
      * @param infoTail el vertice inicial.
      * @param infoHead el vertice final.
      * @param length la longitud del camino.
      * @return <b>true</b> si existe un camino con una longitud especificada, de
      * lo contrario devuelve <b>false</b>.
+     * @see io.github.ldelpino.graph.Graph#existPathWithin(java.lang.Object,
+     * java.lang.Object, int)
      */
     public boolean existPathWithLength(T infoTail, T infoHead, int length);
 
+    /**
+     * Establece si existe un camino de a lo sumo una longitud entre dos
+     * vertices.
+     * <p>
+     * Existe un camino de a lo sumo la cantidad de aristas establecida si el
+     * camino mas corto entre los vertices no es mayor que dicha cantidad. Los
+     * vertices deben ser distintos.</p>
+     *
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @param length la longitud maxima del camino.
+     * @return <b>true</b> si existe un camino de a lo sumo la longitud
+     * especificada, de lo contrario devuelve <b>false</b>.
+     * @see io.github.ldelpino.graph.Graph#existPathWithLength(java.lang.Object,
+     * java.lang.Object, int)
+     */
+    public boolean existPathWithin(T infoTail, T infoHead, int length);
+
     /**
      * Devuelve el camino mas corto entre dos vertices.
      * <p>
@@ -315,10 +339,14 @@ public interface Graph<T> extends Collection<T> {
     /**
      * Establece si existe un camino de Euler.
      * <p>
-     * El camino de Euler se establece como un algoritmo que permite pasar por
-     * todos los vertices y las aristas de un grafo solo una vez. Para que esto
-     * sea posible el grafo de be ser conexo, o sea no tener vertices
-     * desconectados y cada vertice tener grado <b>par</b>.</p>
+     * El camino de Euler es un camino que pasa por todas las aristas de un
+     * grafo solo una vez. Para que esto sea posible todas las aristas deben
+     * pertenecer a una misma componente y, en un grafo no dirigido, a lo sumo
+     * dos vertices pueden tener grado <b>impar</b>, que seran el inicio y el
+     * fin del camino. En un grafo dirigido a lo sumo un vertice puede tener una
+     * arista de salida mas que de entrada, que sera el inicio, y otro una de
+     * entrada mas que de salida, que sera el fin. Si todos los grados estan
+     * balanceados el camino es un circuito.</p>
      *
      * @return <b>true</b> si existe un camino de Euler, de lo contrario de
      * vuelve <b>false</b>.
@@ -329,6 +357,9 @@ public interface Graph<T> extends Collection<T> {
 
     /**
      * Devuelve una lista con el camino de Euler en el grafo, si este existe.
+     * <p>
+     * Entre cada par de vertices consecutivos de la lista existe una arista,
+     * por lo que la lista tiene un vertice mas que aristas el grafo.</p>
      *
      * @return la lista del camino de euler si este existe, de lo contrario
      * devuelve una lista vacia.
@@ -0,0 +1,951 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import io.github.ldelpino.graph.Graph;
+
+/**
+ * Permite establecer las consultas de un grafo inmutable almacenado en formato
+ * CSR (compressed sparse row).
+ * <p>
+ * A cada vertice se le asigna un identificador denso entre <b>0</b> y la
+ * cantidad de vertices. Los adyacentes del vertice con identificador <b>i</b>
+ * ocupan las posiciones entre {@link #offset(int) offset(i)} y
+ * {@link #offset(int) offset(i + 1)} del arreglo de destinos, ordenados por su
+ * identificador, y si el grafo tiene peso en las aristas los pesos ocupan las
+ * mismas posiciones de un arreglo paralelo. Las posiciones son de tipo
+ * <b>long</b> para permitir grafos con mas de <b>2^31</b> aristas.</p>
+ * <p>
+ * La clase implementa las operaciones de consulta de
+ * {@link io.github.ldelpino.graph.Graph} sobre los metodos de acceso al
+ * almacenamiento, las clases que hereden de esta solo establecen donde se
+ * almacenan los arreglos. Las operaciones que modifican el grafo lanzan
+ * {@link java.lang.UnsupportedOperationException}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.FrozenGraph
+ * @see io.github.ldelpino.graph.api.MappedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public abstract class AbstractCsrGraph<T> extends AbstractCollection<T> implements Graph<T> {
+
+    private final boolean directed;
+    private final boolean weightedVertex;
+    private final boolean weightedEdge;
+
+    /**
+     * Permite la creacion de un nuevo grafo inmutable.
+     *
+     * @param directed <b>true</b> si el grafo es dirigido.
+     * @param weightedVertex <b>true</b> si el grafo tiene peso en los
+     * vertices.
+     * @param weightedEdge <b>true</b> si el grafo tiene peso en las aristas.
+     */
+    protected AbstractCsrGraph(boolean directed, boolean weightedVertex, boolean weightedEdge) {
+        this.directed = directed;
+        this.weightedVertex = weightedVertex;
+        this.weightedEdge = weightedEdge;
+    }
+
+    /**
+     * Devuelve el identificador denso de un vertice.
+     *
+     * @param info la informacion del vertice.
+     * @return el identificador del vertice, o <b>-1</b> si no existe.
+     */
+    public abstract int indexOf(Object info);
+
+    /**
+     * Devuelve la informacion del vertice con el identificador establecido.
+     *
+     * @param id el identificador del vertice.
+     * @return la informacion del vertice.
+     */
+    public abstract T infoOf(int id);
+
+    /**
+     * Devuelve la posicion del primer adyacente de un vertice en el arreglo de
+     * destinos.
+     *
+     * @param id el identificador del vertice, entre <b>0</b> y la cantidad de
+     * vertices inclusive.
+     * @return la posicion del primer adyacente.
+     */
+    protected abstract long offset(int id);
+
+    /**
+     * Devuelve el identificador de un adyacente.
+     *
+     * @param position la posicion en el arreglo de destinos.
+     * @return el identificador del vertice adyacente.
+     */
+    protected abstract int target(long position);
+
+    /**
+     * Devuelve el peso de una arista.
+     *
+     * @param position la posicion de la arista en el arreglo de destinos.
+     * @return el peso de la arista.
+     */
+    protected abstract double weight(long position);
+
+    /**
+     * Devuelve la cantidad de aristas que tienen a un vertice como cabeza.
+     * <p>
+     * El metodo solo se utiliza en los grafos dirigidos. Un lazo cuenta en la
+     * cantidad de aristas de salida y de entrada del vertice, igual que en el
+     * grafo a partir del cual se creo la instantanea.</p>
+     *
+     * @param id el identificador del vertice.
+     * @return la cantidad de aristas de entrada.
+     */
+    protected abstract int inDegree(int id);
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isWeightedVertex() {
+        return weightedVertex;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isWeigthedEdge() {
+        return weightedEdge;
+    }
+
+    /**
+     * Establece si existe al menos un ciclo dentro del grafo.
+     * <p>
+     * En un grafo dirigido se realiza un recorrido en profundidad iterativo,
+     * en un grafo no dirigido se unen los extremos de cada arista hasta
+     * encontrar dos vertices que ya estan unidos.</p>
+     *
+     * @return <b>true</b> si el grafo contiene al menos un ciclo, de lo
+     * contrario devuelve <b>false</b>.
+     */
+    @Override
+    public boolean isCyclic() {
+        return directed ? isCyclicDirected() : isCyclicNotDirected();
+    }
+
+    /**
+     * Devuelve la cantidad de aristas en un vertice del grafo.
+     *
+     * @param info el vertice que esta contenido en el grafo.
+     * @return numero mayor o igual que cero si el vertice esta contenido en el
+     * grafo, de lo contrario devuelve <b>-1</b>
+     */
+    @Override
+    public int getEdgesCount(T info) {
+        int id = indexOf(info);
+        return id < 0 ? -1 : degree(id);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getTotalEdgesCount() {
+        int total = 0;
+        for (int id = 0, count = getVertexCount(); id < count; id++) {
+            total += degree(id);
+        }
+        return total;
+    }
+
+    /**
+     * Devuelve los vertices del grafo.
+     * <p>
+     * La coleccion devuelta es una vista no modificable ordenada por el
+     * identificador de los vertices.</p>
+     *
+     * @return la coleccion de vertices.
+     */
+    @Override
+    public Collection<T> getVertices() {
+        int count = getVertexCount();
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return infoOf(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean existVerticesDisconnected() {
+        for (int id = 0, count = getVertexCount(); id < count; id++) {
+            if (degree(id) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Collection<T> getDisconnectedVertices() {
+        Collection<T> disconnected = new LinkedList<>();
+        for (int id = 0, count = getVertexCount(); id < count; id++) {
+            if (degree(id) == 0) {
+                disconnected.add(infoOf(id));
+            }
+        }
+        return disconnected;
+    }
+
+    /**
+     * La operacion no esta soportada por el grafo inmutable.
+     *
+     * @return nunca devuelve un valor.
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public Collection<T> removeDisconnectedVertices() {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public int degree(T info) {
+        int id = indexOf(info);
+        return id < 0 ? -1 : degree(id);
+    }
+
+    /**
+     * Establece si dos vertices son adyacentes entre si.
+     * <p>
+     * Los adyacentes de cada vertice estan ordenados, por lo que la busqueda
+     * es binaria sobre los adyacentes del vertice cola.</p>
+     *
+     * @param infoTail el vertice que hace funcion de cola.
+     * @param infoHead el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si los vertices son adyacentes, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    @Override
+    public boolean areAdjacents(T infoTail, T infoHead) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        return tail >= 0 && head >= 0 && edgeIndex(tail, head) >= 0;
+    }
+
+    /**
+     * Devuelve los vertices adyacentes a un vertice establecido.
+     * <p>
+     * La coleccion devuelta es una vista no modificable sobre el arreglo de
+     * destinos.</p>
+     *
+     * @param info el vertice.
+     * @return la coleccion de vertices adyacentes si el vertice existe, de lo
+     * contrario devuelve <b>null</b>.
+     */
+    @Override
+    public Collection<T> getAdjacents(T info) {
+        int id = indexOf(info);
+        if (id < 0) {
+            return null;
+        }
+        long from = offset(id);
+        int size = (int) (offset(id + 1) - from);
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return infoOf(target(from + index));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * La operacion no esta soportada por el grafo inmutable.
+     *
+     * @param info el vertice.
+     * @return nunca devuelve un valor.
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public T removeVertex(T info) {
+        throw immutable();
+    }
+
+    /**
+     * La operacion no esta soportada por el grafo inmutable.
+     *
+     * @param info el vertice inicial.
+     * @return nunca devuelve un valor.
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public Collection<T> removeVertexCascade(T info) {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public boolean existVertex(T info) {
+        return indexOf(info) >= 0;
+    }
+
+    /**
+     * La operacion no esta soportada por el grafo inmutable.
+     *
+     * @param infoTail el vertice que hace funcion de cola.
+     * @param infoHead el vertice que hace funcion de cabeza.
+     * @return nunca devuelve un valor.
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public boolean removeEdge(T infoTail, T infoHead) {
+        throw immutable();
+    }
+
+    /**
+     * Establece si existe un camino entre dos vertices distintos.
+     * <p>
+     * El camino se busca con un recorrido en anchura iterativo.</p>
+     *
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @return <b>true</b> si existe un camino, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    @Override
+    public boolean existPath(T infoTail, T infoHead) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        if (tail < 0 || head < 0 || tail == head) {
+            return false;
+        }
+        return breadthFirst(tail, head, null) >= 0;
+    }
+
+    /**
+     * Establece si existe un recorrido de una longitud exacta entre dos
+     * vertices distintos.
+     * <p>
+     * El conjunto de vertices alcanzables se expande un salto a la vez, por lo
+     * que el costo es proporcional a la longitud por la cantidad de vertices y
+     * aristas.</p>
+     *
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @param length la longitud del recorrido.
+     * @return <b>true</b> si existe un recorrido con la longitud especificada,
+     * de lo contrario devuelve <b>false</b>.
+     */
+    @Override
+    public boolean existPathWithLength(T infoTail, T infoHead, int length) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        if (tail < 0 || head < 0 || tail == head || length < 1) {
+            return false;
+        }
+        int count = getVertexCount();
+        BitSet frontier = new BitSet(count);
+        frontier.set(tail);
+        for (int step = 0; step < length && !frontier.isEmpty(); step++) {
+            BitSet next = new BitSet(count);
+            for (int id = frontier.nextSetBit(0); id >= 0; id = frontier.nextSetBit(id + 1)) {
+                for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                    next.set(target(k));
+                }
+            }
+            frontier = next;
+        }
+        return frontier.get(head);
+    }
+
+    /**
+     * Establece si existe un camino de a lo sumo una longitud entre dos
+     * vertices distintos.
+     * <p>
+     * Los vertices se recorren en anchura por niveles hasta alcanzar el
+     * vertice final o la longitud especificada. Para responder varias
+     * consultas desde un mismo vertice dirijase a
+     * {@link io.github.ldelpino.graph.api.ParallelBreadthFirst}.</p>
+     *
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @param length la longitud maxima del camino.
+     * @return <b>true</b> si existe un camino de a lo sumo la longitud
+     * especificada, de lo contrario devuelve <b>false</b>.
+     */
+    @Override
+    public boolean existPathWithin(T infoTail, T infoHead, int length) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        if (tail < 0 || head < 0 || tail == head || length < 1) {
+            return false;
+        }
+        BitSet visited = new BitSet(getVertexCount());
+        visited.set(tail);
+        int[] queue = new int[getVertexCount()];
+        int first = 0;
+        int last = 0;
+        queue[last++] = tail;
+        for (int step = 0; step < length && first < last; step++) {
+            for (int levelEnd = last; first < levelEnd; first++) {
+                int id = queue[first];
+                for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                    int target = target(k);
+                    if (target == head) {
+                        return true;
+                    }
+                    if (!visited.get(target)) {
+                        visited.set(target);
+                        queue[last++] = target;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices.
+     * <p>
+     * Si el grafo tiene peso en las aristas se utiliza el algoritmo de
+     * <b>Djisktra</b> con una cola de prioridad indexada sobre los
+     * identificadores densos, de lo contrario se realiza un recorrido en
+     * anchura y la distancia es la cantidad de saltos. El camino se agrega a la
+     * lista establecida, que debe estar vacia.</p>
+     *
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @param path la lista en la que se agrega el camino, si existe.
+     * @return la distancia del camino, <b>-1</b> si no existe un camino o
+     * <b>null</b> si alguno de los vertices no existe.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo.
+     */
+    @Override
+    public AritmethicNumber<?> djisktra(T infoTail, T infoHead, List<T> path) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        if (tail < 0 || head < 0) {
+            return null;
+        }
+        int[] parents = new int[getVertexCount()];
+        parents[tail] = -1;
+        double distance;
+        if (weightedEdge) {
+            distance = weightedSearch(tail, head, parents);
+        } else {
+            distance = tail == head ? 0 : breadthFirst(tail, head, parents);
+        }
+        if (distance >= 0) {
+            LinkedList<T> reversed = new LinkedList<>();
+            for (int id = head; id != tail; id = parents[id]) {
+                reversed.addFirst(infoOf(id));
+            }
+            reversed.addFirst(infoOf(tail));
+            path.addAll(reversed);
+        }
+        if (weightedEdge) {
+            return new DoubleAritmethicNumber(distance);
+        }
+        return new IntegerAritmethicNumber((int) distance);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isEulerPath() {
+        return !eulerPath().isEmpty();
+    }
+
+    /**
+     * Devuelve el camino de Euler del grafo, si este existe.
+     * <p>
+     * Se utiliza el algoritmo de <b>Hierholzer</b> con una pila explicita,
+     * por lo que el costo es lineal en la cantidad de aristas y la
+     * profundidad no depende de la pila de llamadas. En un grafo dirigido el
+     * camino comienza en el vertice con una arista de salida mas que de
+     * entrada, en un grafo no dirigido en el primer vertice de grado
+     * <b>impar</b>, si todos los grados estan balanceados el camino es un
+     * circuito que comienza en el primer vertice con aristas. En un grafo no
+     * dirigido cada arista se recorre una sola vez en cualquiera de sus dos
+     * sentidos y un lazo no altera la paridad del grado.</p>
+     *
+     * @return la lista de vertices del camino, con una arista entre cada par
+     * de vertices consecutivos, o una lista vacia si el grafo no tiene aristas
+     * o el camino no existe.
+     */
+    @Override
+    public List<T> eulerPath() {
+        int count = getVertexCount();
+        long arcs = offset(count);
+        if (arcs == 0 || arcs >= Integer.MAX_VALUE) {
+            return new ArrayList<>();
+        }
+        int start = directed ? eulerStartDirected(count) : eulerStartNotDirected(count);
+        if (start < 0) {
+            return new ArrayList<>();
+        }
+        int edges = (int) arcs;
+        BitSet used = null;
+        if (!directed) {
+            int loops = 0;
+            for (int id = 0; id < count; id++) {
+                if (edgeIndex(id, id) >= 0) {
+                    loops++;
+                }
+            }
+            edges = (edges - loops) / 2 + loops;
+            used = new BitSet((int) arcs);
+        }
+        long[] next = new long[count];
+        for (int id = 0; id < count; id++) {
+            next[id] = offset(id);
+        }
+        int[] stack = new int[edges + 1];
+        int[] path = new int[edges + 1];
+        int top = 0;
+        int position = path.length;
+        stack[top++] = start;
+        while (top > 0) {
+            int id = stack[top - 1];
+            long end = offset(id + 1);
+            //las aristas recorridas desde el otro extremo se omiten
+            while (used != null && next[id] < end && used.get((int) next[id])) {
+                next[id]++;
+            }
+            if (next[id] < end) {
+                long arc = next[id]++;
+                int target = target(arc);
+                if (used != null) {
+                    used.set((int) arc);
+                    used.set((int) edgeIndex(target, id));
+                }
+                stack[top++] = target;
+            } else {
+                top--;
+                path[--position] = id;
+            }
+        }
+        //si quedaron aristas sin recorrer, el grafo no es conexo
+        if (position != 0) {
+            return new ArrayList<>();
+        }
+        List<T> camino = new ArrayList<>(path.length);
+        for (int id : path) {
+            camino.add(infoOf(id));
+        }
+        return camino;
+    }
+
+    /**
+     * Devuelve la matriz de incidencia del grafo.
+     * <p>
+     * Cada columna representa una arista, en un grafo no dirigido cada arista
+     * se cuenta una sola vez.</p>
+     *
+     * @return una matriz de enteros con valores entre <b>1</b> y <b>0</b>.
+     */
+    @Override
+    public int[][] getIncidenceMatrix() {
+        int count = getVertexCount();
+        int columns = 0;
+        for (int id = 0; id < count; id++) {
+            for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                if (directed || id <= target(k)) {
+                    columns++;
+                }
+            }
+        }
+        int[][] matrix = new int[count][columns];
+        int column = 0;
+        for (int id = 0; id < count; id++) {
+            for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                int target = target(k);
+                if (directed || id <= target) {
+                    matrix[id][column] = 1;
+                    matrix[target][column] = 1;
+                    column++;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int[][] getAdyacentsMatrix() {
+        int count = getVertexCount();
+        int[][] matrix = new int[count][count];
+        for (int id = 0; id < count; id++) {
+            for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                matrix[id][target(k)] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * La operacion no esta soportada por el grafo inmutable.
+     *
+     * @throws UnsupportedOperationException siempre.
+     */
+    @Override
+    public void cleanGraph() {
+        throw immutable();
+    }
+
+    /**
+     * Devuelve el peso de la arista dado sus vertices.
+     *
+     * @param infoTail el vertice que hace funcion de cola.
+     * @param infoHead el vertice que hace funcion de cabeza.
+     * @return el peso de la arista, <b>1</b> si el grafo no tiene peso en las
+     * aristas o {@link java.lang.Double#NaN} si la arista no existe.
+     */
+    public double getEdgeWeight(T infoTail, T infoHead) {
+        int tail = indexOf(infoTail);
+        int head = indexOf(infoHead);
+        long k = tail >= 0 && head >= 0 ? edgeIndex(tail, head) : -1;
+        if (k < 0) {
+            return Double.NaN;
+        }
+        return weightedEdge ? weight(k) : 1;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return getVertexCount();
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return getVertices().iterator();
+    }
+
+    /**
+     * Devuelve la excepcion lanzada por las operaciones que modifican el
+     * grafo.
+     *
+     * @return la excepcion.
+     */
+    protected UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException(getClass().getSimpleName() + " is immutable.");
+    }
+
+    private int outDegree(int id) {
+        return (int) (offset(id + 1) - offset(id));
+    }
+
+    private int degree(int id) {
+        return directed ? outDegree(id) + inDegree(id) : outDegree(id);
+    }
+
+    private int eulerStartDirected(int count) {
+        int[] balance = new int[count];
+        for (int id = 0; id < count; id++) {
+            balance[id] += outDegree(id);
+            for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                balance[target(k)]--;
+            }
+        }
+        int start = -1;
+        int first = -1;
+        int ends = 0;
+        for (int id = 0; id < count; id++) {
+            if (balance[id] == 1 && start < 0) {
+                start = id;
+            } else if (balance[id] == -1 && ends == 0) {
+                ends++;
+            } else if (balance[id] != 0) {
+                return -1;
+            }
+            if (first < 0 && outDegree(id) > 0) {
+                first = id;
+            }
+        }
+        if (start < 0 && ends == 0) {
+            return first;
+        }
+        return start >= 0 && ends == 1 ? start : -1;
+    }
+
+    private int eulerStartNotDirected(int count) {
+        int first = -1;
+        int start = -1;
+        int odd = 0;
+        for (int id = 0; id < count; id++) {
+            int degree = outDegree(id);
+            if (degree > 0 && first < 0) {
+                first = id;
+            }
+            if (edgeIndex(id, id) >= 0) {
+                degree--;
+            }
+            if (degree % 2 != 0) {
+                if (start < 0) {
+                    start = id;
+                }
+                odd++;
+            }
+        }
+        if (odd == 0) {
+            return first;
+        }
+        return odd == 2 ? start : -1;
+    }
+
+    private long edgeIndex(int tail, int head) {
+        long low = offset(tail);
+        long high = offset(tail + 1) - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int target = target(middle);
+            if (target < head) {
+                low = middle + 1;
+            } else if (target > head) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Recorre el grafo en anchura desde un vertice hasta encontrar otro.
+     *
+     * @param tail el vertice inicial.
+     * @param head el vertice final.
+     * @param parents el arreglo donde almacenar el antecesor de cada vertice
+     * visitado, puede ser <b>null</b>.
+     * @return la cantidad de saltos hasta el vertice final, o <b>-1</b> si no
+     * es alcanzable.
+     */
+    private int breadthFirst(int tail, int head, int[] parents) {
+        int count = getVertexCount();
+        int[] distances = new int[count];
+        Arrays.fill(distances, -1);
+        int[] queue = new int[count];
+        int first = 0;
+        int last = 0;
+        queue[last++] = tail;
+        distances[tail] = 0;
+        while (first < last) {
+            int current = queue[first++];
+            for (long k = offset(current), end = offset(current + 1); k < end; k++) {
+                int next = target(k);
+                if (distances[next] < 0) {
+                    distances[next] = distances[current] + 1;
+                    if (parents != null) {
+                        parents[next] = current;
+                    }
+                    if (next == head) {
+                        return distances[next];
+                    }
+                    queue[last++] = next;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca la distancia ponderada mas corta entre dos vertices.
+     *
+     * @param tail el vertice inicial.
+     * @param head el vertice final.
+     * @param parents el arreglo donde almacenar el antecesor de cada vertice.
+     * @return la distancia hasta el vertice final, o <b>-1</b> si no es
+     * alcanzable.
+     */
+    private double weightedSearch(int tail, int head, int[] parents) {
+        int count = getVertexCount();
+        double[] distances = new double[count];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        boolean[] settled = new boolean[count];
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, count);
+        distances[tail] = 0;
+        heap.insertOrDecrease(tail, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            if (current == head) {
+                return distances[current];
+            }
+            settled[current] = true;
+            for (long k = offset(current), end = offset(current + 1); k < end; k++) {
+                int next = target(k);
+                double weight = weight(k);
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Negative edge weight from "
+                            + infoOf(current) + " to " + infoOf(next) + ": " + weight);
+                }
+                double candidate = distances[current] + weight;
+                if (!settled[next] && candidate < distances[next]) {
+                    distances[next] = candidate;
+                    parents[next] = current;
+                    heap.insertOrDecrease(next, candidate);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean isCyclicDirected() {
+        int count = getVertexCount();
+        //0 sin visitar, 1 en la pila del recorrido, 2 terminado
+        byte[] state = new byte[count];
+        int[] stack = new int[count];
+        long[] cursor = new long[count];
+        for (int root = 0; root < count; root++) {
+            if (state[root] != 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top] = root;
+            cursor[root] = offset(root);
+            state[root] = 1;
+            while (top >= 0) {
+                int current = stack[top];
+                if (cursor[current] < offset(current + 1)) {
+                    int next = target(cursor[current]++);
+                    if (state[next] == 1) {
+                        return true;
+                    }
+                    if (state[next] == 0) {
+                        state[next] = 1;
+                        cursor[next] = offset(next);
+                        stack[++top] = next;
+                    }
+                } else {
+                    state[current] = 2;
+                    top--;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isCyclicNotDirected() {
+        int count = getVertexCount();
+        int[] parents = new int[count];
+        for (int id = 0; id < count; id++) {
+            parents[id] = id;
+        }
+        for (int id = 0; id < count; id++) {
+            for (long k = offset(id), end = offset(id + 1); k < end; k++) {
+                int target = target(k);
+                if (target < id) {
+                    continue;
+                }
+                int rootTail = find(parents, id);
+                int rootHead = find(parents, target);
+                if (target == id || rootTail == rootHead) {
+                    return true;
+                }
+                parents[rootHead] = rootTail;
+            }
+        }
+        return false;
+    }
+
+    private static int find(int[] parents, int id) {
+        while (parents[id] != id) {
+            parents[id] = parents[parents[id]];
+            id = parents[id];
+        }
+        return id;
+    }
+}
@@ -16,13 +16,29 @@
  */
 package io.github.ldelpino.graph.api;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleBiFunction;
 import io.github.ldelpino.graph.Graph;
+import io.github.ldelpino.graph.edge.Edge;
+import io.github.ldelpino.graph.edge.WeightedEdge;
 import io.github.ldelpino.graph.vertex.Vertex;
 
 /**
@@ -35,6 +51,12 @@ import io.github.ldelpino.graph.vertex.Vertex;
  * informacion de los vertices, al tratar de obtener los elementos del grafo
  * como {@link java.util.Collection} se pierde la estructura de vertices y
  * aristas.</p>
+ * <p>
+ * Los vertices se indexan por su informacion en un mapa que se mantiene
+ * sincronizado con la coleccion de vertices, de modo que la busqueda de un
+ * vertice no requiere recorrer todo el grafo. El indice puede sustituirse
+ * reimplementando el metodo
+ * {@link io.github.ldelpino.graph.api.AbstractGraph#createVertexIndex()}.</p>
  *
  * @param <T> el tipo de dato de la informacion de los vertices.
  * @see io.github.ldelpino.graph.Graph
@@ -47,19 +69,47 @@ import io.github.ldelpino.graph.vertex.Vertex;
  * @since jdk-16.0.1
  * @version 1.0.0
  */
-public abstract class AbstractGraph<T> extends AbstractCollection<T> implements Graph<T> {
+public abstract class AbstractGraph<T> extends AbstractCollection<T> implements Graph<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * El conjunto de vertices del grafo.
+     * El conjunto de vertices del grafo, en el orden de insercion.
+     * <p>
+     * Los vertices se almacenan por su posicion, ver
+     * {@link io.github.ldelpino.graph.vertex.Vertex#getIndex()}, por lo que
+     * eliminar un vertice no requiere recorrer la coleccion.</p>
      */
     protected Collection<Vertex<T>> vertices;
 
+    /**
+     * El indice de vertices del grafo.
+     * <p>
+     * Asocia la informacion de cada vertice con el vertice que la almacena,
+     * permitiendo obtener un vertice sin recorrer la coleccion de
+     * vertices.</p>
+     */
+    protected Map<T, Vertex<T>> index;
+
+    /**
+     * La cantidad de posiciones asignadas a los vertices del grafo.
+     */
+    private int indexBound;
+
+    /**
+     * Las posiciones liberadas por los vertices eliminados, que se reutilizan
+     * al insertar nuevos vertices.
+     */
+    private final Deque<Integer> freeIndexes;
+
     /**
      * Permite la creacion de un nuevo grafo.
      */
     protected AbstractGraph() {
         super();
-        this.vertices = new LinkedList<>();
+        this.vertices = new VertexList<>();
+        this.index = createVertexIndex();
+        this.freeIndexes = new ArrayDeque<>();
     }
 
     /**
@@ -167,10 +217,14 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
     @Override
     public boolean existPath(T infoTail, T infoHead) {
         if (existVertex(infoTail) && existVertex(infoHead) && !infoTail.equals(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Collection<Vertex<T>> visited = new LinkedList<>();
-            visited.add(vertexTail);
-            return existPathRecursive(vertexTail, getVertex(infoHead), visited);
+            Vertex<T> vertexHead = getVertex(infoHead);
+            //el recorrido se detiene al examinar una arista hacia el vertice final
+            return !newTraversal().breadthFirst(getVertex(infoTail), new GraphTraversal.Visitor<>() {
+                @Override
+                public boolean examine(Vertex<T> tail, Vertex<T> head, GraphTraversal.State state) {
+                    return head != vertexHead;
+                }
+            });
         }
         return false;
     }
@@ -184,11 +238,18 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
     @Override
     public void cleanGraph() {
         getVertices0().clear();
+        getVertexIndex().clear();
+        freeIndexes.clear();
+        indexBound = 0;
     }
 
     /**
      * Establece si existe un camino entre dos vertices con una longitud
      * especificada, si existen los vertices.
+     * <p>
+     * El camino es un recorrido de exactamente la longitud especificada, en
+     * el cual los vertices pueden repetirse, ver
+     * {@link #path(io.github.ldelpino.graph.vertex.Vertex, io.github.ldelpino.graph.vertex.Vertex, int)}.</p>
      *
      * @param infoTail el vertice inicial en el camino.
      * @param infoHead el vertice final en el camino.
@@ -206,6 +267,63 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
         return found;
     }
 
+    /**
+     * Establece si existe un camino entre dos vertices con una longitud de a
+     * lo sumo la especificada, si existen los vertices.
+     * <p>
+     * Los vertices se recorren en anchura por niveles hasta alcanzar el
+     * vertice final o la longitud especificada, por lo que el costo es a lo
+     * sumo lineal en la cantidad de vertices y aristas.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param length la longitud maxima.
+     * @return <b>true</b> si los vertices estan contenidos dentro del grafo y
+     * existe un camino de a lo sumo la longitud especificada, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    @Override
+    public boolean existPathWithin(T infoTail, T infoHead, int length) {
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail == null || vertexHead == null || vertexTail == vertexHead || length < 1) {
+            return false;
+        }
+        BitSet visited = new BitSet(getIndexBound());
+        visited.set(vertexTail.getIndex());
+        List<Vertex<T>> frontier = List.of(vertexTail);
+        for (int step = 0; step < length && !frontier.isEmpty(); step++) {
+            List<Vertex<T>> next = new ArrayList<>();
+            for (Vertex<T> vertex : frontier) {
+                for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                    if (adjacent == vertexHead) {
+                        return true;
+                    }
+                    if (!visited.get(adjacent.getIndex())) {
+                        visited.set(adjacent.getIndex());
+                        next.add(adjacent);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return false;
+    }
+
+    /**
+     * Crea una instantanea inmutable del grafo.
+     * <p>
+     * La instantanea almacena el grafo en formato CSR, permitiendo recorrer
+     * los adyacentes de cada vertice sobre arreglos contiguos. Los cambios
+     * posteriores en el grafo no se reflejan en la instantanea.</p>
+     *
+     * @return la instantanea del grafo.
+     * @see io.github.ldelpino.graph.api.FrozenGraph
+     */
+    public FrozenGraph<T> freeze() {
+        return new FrozenGraph<>(this);
+    }
+
     /**
      * Devuelve el vertice con mayor cantidad de adyacentes.
      *
@@ -227,7 +345,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      */
     @Override
     public boolean existVerticesDisconnected() {
-        return getVertices0().stream().anyMatch((v) -> (degree(v.getInfo()) == 0));
+        return getVertices0().stream().anyMatch((v) -> (degree(v) == 0));
     }
 
     /**
@@ -242,7 +360,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
         Iterator<Vertex<T>> iter = getVertices0().iterator();
         while (iter.hasNext()) {
             Vertex<T> next = iter.next();
-            if (degree(next.getInfo()) == 0) {
+            if (degree(next) == 0) {
                 disconnected.add(next.getInfo());
             }
         }
@@ -278,7 +396,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
     public Collection<T> removeVertexCascade(T info) {
         Collection<Vertex<T>> deleted = new LinkedList<>();
         if (existVertex(info)) {
-            selectVerticesInCascadeRecurs(getVertex(info), deleted);
+            selectVerticesInCascade(getVertex(info), deleted);
             Iterator<Vertex<T>> iter = deleted.iterator();
             while (iter.hasNext()) {
                 removeVertex(iter.next());
@@ -290,119 +408,370 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
     /**
      * Devuelve el camino mas corto entre dos vertices, si estos existen y
      * existe un camino entre ellos.
+     * <p>
+     * Si el grafo tiene peso en las aristas y el peso es numerico, la
+     * distancia es la suma de los pesos de las aristas del camino y se
+     * devuelve como {@link io.github.ldelpino.graph.api.DoubleAritmethicNumber},
+     * de lo contrario cada arista tiene peso <b>1</b> y la distancia es la
+     * cantidad de saltos, devuelta como
+     * {@link io.github.ldelpino.graph.api.IntegerAritmethicNumber}.</p>
      *
      * @param infoTail el vertice inicial en el camino.
      * @param infoHead el vertice final en el camino.
-     * @param path el camino entre los dos vertices.
-     * @return un numero que coincide con la longitud del camino mas corto, si
-     * los vertices existen y existe un camino, si no existe un camino o los
-     * vetices no existen devuelve <b>-1</b>, si los vertices son iguales
-     * devuelve<b>0</b>, si los vertices son adyacentes devuelve <b>1</b>.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas corto si los vertices existen y
+     * existe un camino, si no existe un camino devuelve <b>-1</b>, si los
+     * vertices son iguales devuelve <b>0</b>, si los vertices no existen
+     * devuelve <b>null</b>.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo.
      */
     @Override
     public AritmethicNumber djisktra(T infoTail, T infoHead, List<T> path) {
-        path = new LinkedList<>();
         if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> initialVertex = getVertex(infoTail);
-            Vertex<T> finalVertex = getVertex(infoHead);
-            path.add(initialVertex.getInfo());
-            LinkedList<Vertex<T>> visited = new LinkedList<>();
-            visited.add(initialVertex);
-            return djisktraAbstract(initialVertex, finalVertex, path, visited);
+            return distance(djisktraAbstract(getVertex(infoTail), getVertex(infoHead), path));
         }
         return null;
     }
 
     /**
-     * Devuelve el camino mas corto entre dos vertices, si estos existen y
-     * existe un camino entre ellos.
+     * Devuelve la distancia del camino mas corto entre dos vertices.
      * <p>
      * El metodo no esta pensado para ser utilizado dirctamente, en su lugar
      * utilice el metodo
-     * {@link ldelpino.graph.Graph#djisktra(java.lang.Object, java.lang.Object, java.util.List)}</p>
+     * {@link io.github.ldelpino.graph.Graph#djisktra(java.lang.Object, java.lang.Object, java.util.List)}</p>
      * <p>
-     * El metodo realiza el algoritmo de forma recursiva.</p>
+     * El algoritmo utiliza una cola de prioridad indexada
+     * {@link io.github.ldelpino.graph.api.IndexedDaryHeap}, a cada vertice
+     * alcanzado se le asigna un identificador denso en el orden en que es
+     * descubierto, y las distancias y antecesores se almacenan en arreglos
+     * primitivos indexados por ese identificador. La busqueda termina en cuanto
+     * el vertice final es extraido de la cola.</p>
      *
      * @param initialVertex el vertice inicial en el camino.
      * @param finalVertex el vertice final en el camino.
-     * @param path el camino entre los dos vertices.
-     * @param visited los vertices que ya han sido vsitados.
-     * @return un numero que coincide con la longitud del camino mas corto, si
-     * los vertices existen y existe un camino, si no existe un camino o los
-     * vetices no existen devuelve <b>-1</b>, si los vertices son iguales
-     * devuelve<b>0</b>, si los vertices son adyacentes devuelve <b>1</b>.
-     */
-    protected AritmethicNumber<Integer> djisktraAbstract(Vertex<T> initialVertex, Vertex<T> finalVertex,
-            List<T> path, List<Vertex<T>> visited) {
-        if (initialVertex.isAdjacents(finalVertex)) {
-            path.add(finalVertex.getInfo());
-            if (initialVertex.equals(finalVertex)) {
-                return new IntegerAritmethicNumber(0);
+     * @param path la lista en la que se agregan los vertices del camino.
+     * @return la distancia del camino mas corto, o <b>-1</b> si no existe un
+     * camino.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo.
+     */
+    protected double djisktraAbstract(Vertex<T> initialVertex, Vertex<T> finalVertex, List<T> path) {
+        Map<Vertex<T>, Integer> ids = new IdentityHashMap<>();
+        List<Vertex<T>> discovered = new ArrayList<>();
+        double[] distances = new double[16];
+        int[] parents = new int[16];
+        BitSet settled = new BitSet();
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, 16);
+        ids.put(initialVertex, 0);
+        discovered.add(initialVertex);
+        parents[0] = -1;
+        heap.insertOrDecrease(0, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            settled.set(current);
+            Vertex<T> vertex = discovered.get(current);
+            if (vertex == finalVertex) {
+                LinkedList<T> reversed = new LinkedList<>();
+                for (int id = current; id >= 0; id = parents[id]) {
+                    reversed.addFirst(discovered.get(id).getInfo());
+                }
+                path.addAll(reversed);
+                return distances[current];
+            }
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                double weight = edgeWeight(vertex.getEdge(adjacent));
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Negative edge weight from "
+                            + vertex.getInfo() + " to " + adjacent.getInfo() + ": " + weight);
+                }
+                Integer id = ids.get(adjacent);
+                if (id == null) {
+                    id = discovered.size();
+                    ids.put(adjacent, id);
+                    discovered.add(adjacent);
+                    if (id == distances.length) {
+                        distances = Arrays.copyOf(distances, id << 1);
+                        parents = Arrays.copyOf(parents, id << 1);
+                    }
+                    distances[id] = Double.POSITIVE_INFINITY;
+                } else if (settled.get(id)) {
+                    continue;
+                }
+                double candidate = distances[current] + weight;
+                if (candidate < distances[id]) {
+                    distances[id] = candidate;
+                    parents[id] = current;
+                    heap.insertOrDecrease(id, candidate);
+                }
             }
-            return new IntegerAritmethicNumber(1);
         }
-        Iterator<Vertex<T>> iterator = initialVertex.getAdjacents().iterator();
-        AritmethicNumber<Integer> jump = new IntegerAritmethicNumber(0);
-        boolean found = false;
-        while (iterator.hasNext() && !found) {
-            Vertex<T> next = iterator.next();
-            if (!visited.contains(next)) {
-                visited.add(next);
-                jump.increment();
-                path.add(next.getInfo());
-                AritmethicNumber<Integer> recursiveJumps = djisktraAbstract(next, finalVertex, path, visited);
-                found = recursiveJumps.getNumber() > 0;
-                if (found) {
-                    jump.sumAndAsign(recursiveJumps);
-                } else {
-                    jump.decrement();
-                    path.remove(next.getInfo());
+        return -1;
+    }
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices guiado por una
+     * heuristica, si existe un camino entre ellos.
+     * <p>
+     * Se utiliza el algoritmo <b>A*</b>: los vertices se extraen de la cola
+     * por su distancia desde el vertice inicial mas la estimacion de la
+     * heuristica hasta el vertice final, por lo que la busqueda se dirige
+     * hacia el vertice final y extrae menos vertices que el algoritmo de
+     * <b>Djisktra</b>. La heuristica recibe la informacion de un vertice y la
+     * del vertice final y debe ser admisible, o sea, no sobreestimar la
+     * distancia restante, para que el camino sea el mas corto. Una heuristica
+     * que siempre devuelve <b>0</b> equivale al algoritmo de Djisktra. El peso
+     * de las aristas y el tipo de la distancia siguen las mismas reglas que
+     * {@link #djisktra(java.lang.Object, java.lang.Object, java.util.List)}.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param heuristic la estimacion de la distancia de un vertice al vertice
+     * final.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas corto si los vertices existen y
+     * existe un camino, si no existe un camino devuelve <b>-1</b>, si los
+     * vertices son iguales devuelve <b>0</b>, si los vertices no existen
+     * devuelve <b>null</b>.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo o la heuristica devuelve un valor negativo.
+     */
+    public AritmethicNumber<?> aStar(T infoTail, T infoHead, ToDoubleBiFunction<? super T, ? super T> heuristic,
+            List<T> path) {
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail == null || vertexHead == null) {
+            return null;
+        }
+        return distance(aStarAbstract(vertexTail, vertexHead, heuristic, path));
+    }
+
+    /**
+     * Devuelve la distancia del camino mas corto entre dos vertices guiado por
+     * una heuristica.
+     * <p>
+     * Los vertices se identifican en el orden en que son descubiertos, como
+     * en {@link #djisktraAbstract(io.github.ldelpino.graph.vertex.Vertex, io.github.ldelpino.graph.vertex.Vertex, java.util.List)},
+     * y la heuristica se evalua una sola vez por vertice. Un vertice extraido
+     * vuelve a la cola si se encuentra un camino mas corto hasta el, por lo
+     * que basta con que la heuristica sea admisible.</p>
+     *
+     * @param initialVertex el vertice inicial en el camino.
+     * @param finalVertex el vertice final en el camino.
+     * @param heuristic la estimacion de la distancia de un vertice al vertice
+     * final.
+     * @param path la lista en la que se agregan los vertices del camino.
+     * @return la distancia del camino mas corto, o <b>-1</b> si no existe un
+     * camino.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo o la heuristica devuelve un valor negativo.
+     */
+    protected double aStarAbstract(Vertex<T> initialVertex, Vertex<T> finalVertex,
+            ToDoubleBiFunction<? super T, ? super T> heuristic, List<T> path) {
+        Map<Vertex<T>, Integer> ids = new IdentityHashMap<>();
+        List<Vertex<T>> discovered = new ArrayList<>();
+        double[] distances = new double[16];
+        double[] estimates = new double[16];
+        int[] parents = new int[16];
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, 16);
+        T goal = finalVertex.getInfo();
+        ids.put(initialVertex, 0);
+        discovered.add(initialVertex);
+        parents[0] = -1;
+        estimates[0] = estimate(heuristic, initialVertex, goal);
+        heap.insertOrDecrease(0, estimates[0]);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            Vertex<T> vertex = discovered.get(current);
+            if (vertex == finalVertex) {
+                path.addAll(pathTo(discovered, parents, current));
+                return distances[current];
+            }
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                double weight = checkedWeight(vertex, adjacent);
+                Integer id = ids.get(adjacent);
+                if (id == null) {
+                    id = discovered.size();
+                    ids.put(adjacent, id);
+                    discovered.add(adjacent);
+                    if (id == distances.length) {
+                        distances = Arrays.copyOf(distances, id << 1);
+                        estimates = Arrays.copyOf(estimates, id << 1);
+                        parents = Arrays.copyOf(parents, id << 1);
+                    }
+                    distances[id] = Double.POSITIVE_INFINITY;
+                    estimates[id] = estimate(heuristic, adjacent, goal);
+                }
+                double candidate = distances[current] + weight;
+                if (candidate < distances[id]) {
+                    distances[id] = candidate;
+                    parents[id] = current;
+                    heap.insertOrDecrease(id, candidate + estimates[id]);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices buscando desde ambos
+     * extremos, si existe un camino entre ellos.
+     * <p>
+     * Se ejecutan a la vez dos busquedas del algoritmo de <b>Djisktra</b>, una
+     * desde el vertice inicial sobre las aristas de salida y otra desde el
+     * vertice final sobre las aristas de entrada, expandiendo en cada paso la
+     * busqueda con menos vertices en cola. La busqueda termina cuando la suma
+     * de las menores distancias en cola de ambas busquedas no mejora el mejor
+     * camino encontrado, por lo que cada busqueda extrae aproximadamente los
+     * vertices a la mitad de la distancia. El peso de las aristas y el tipo de
+     * la distancia siguen las mismas reglas que
+     * {@link #djisktra(java.lang.Object, java.lang.Object, java.util.List)}.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas corto si los vertices existen y
+     * existe un camino, si no existe un camino devuelve <b>-1</b>, si los
+     * vertices son iguales devuelve <b>0</b>, si los vertices no existen
+     * devuelve <b>null</b>.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo.
+     */
+    public AritmethicNumber<?> bidirectionalDjisktra(T infoTail, T infoHead, List<T> path) {
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail == null || vertexHead == null) {
+            return null;
+        }
+        return distance(bidirectionalDjisktraAbstract(vertexTail, vertexHead, path));
+    }
+
+    /**
+     * Devuelve la distancia del camino mas corto entre dos vertices buscando
+     * desde ambos extremos.
+     * <p>
+     * Ambas busquedas comparten los identificadores de los vertices
+     * descubiertos y cada una almacena sus distancias, antecesores y vertices
+     * extraidos. En un grafo no dirigido la busqueda desde el vertice final
+     * recorre los vertices adyacentes.</p>
+     *
+     * @param initialVertex el vertice inicial en el camino.
+     * @param finalVertex el vertice final en el camino.
+     * @param path la lista en la que se agregan los vertices del camino.
+     * @return la distancia del camino mas corto, o <b>-1</b> si no existe un
+     * camino.
+     * @throws IllegalArgumentException si alguna arista recorrida tiene peso
+     * negativo.
+     */
+    protected double bidirectionalDjisktraAbstract(Vertex<T> initialVertex, Vertex<T> finalVertex,
+            List<T> path) {
+        if (initialVertex == finalVertex) {
+            path.add(initialVertex.getInfo());
+            return 0;
+        }
+        boolean directed = isDirected();
+        Map<Vertex<T>, Integer> ids = new IdentityHashMap<>();
+        List<Vertex<T>> discovered = new ArrayList<>();
+        double[][] distances = {new double[16], new double[16]};
+        int[][] parents = {new int[16], new int[16]};
+        BitSet[] settled = {new BitSet(), new BitSet()};
+        IndexedDaryHeap[] heaps = {new IndexedDaryHeap(4, 16), new IndexedDaryHeap(4, 16)};
+        ids.put(initialVertex, 0);
+        ids.put(finalVertex, 1);
+        discovered.add(initialVertex);
+        discovered.add(finalVertex);
+        for (int side = 0; side < 2; side++) {
+            distances[side][side] = 0;
+            distances[side][1 - side] = Double.POSITIVE_INFINITY;
+            parents[side][0] = -1;
+            parents[side][1] = -1;
+            heaps[side].insertOrDecrease(side, 0);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+        while (!heaps[0].isEmpty() && !heaps[1].isEmpty()
+                && heaps[0].peekKey() + heaps[1].peekKey() < best) {
+            //la busqueda hacia atras es el lado 1
+            int side = heaps[0].size() <= heaps[1].size() ? 0 : 1;
+            boolean backward = side == 1 && directed;
+            int current = heaps[side].poll();
+            settled[side].set(current);
+            Vertex<T> vertex = discovered.get(current);
+            for (Vertex<T> next : backward ? vertex.getPredecessors() : vertex.getAdjacents()) {
+                double weight = backward ? checkedWeight(next, vertex) : checkedWeight(vertex, next);
+                Integer id = ids.get(next);
+                if (id == null) {
+                    id = discovered.size();
+                    ids.put(next, id);
+                    discovered.add(next);
+                    if (id == distances[0].length) {
+                        for (int i = 0; i < 2; i++) {
+                            distances[i] = Arrays.copyOf(distances[i], id << 1);
+                            parents[i] = Arrays.copyOf(parents[i], id << 1);
+                        }
+                    }
+                    distances[0][id] = Double.POSITIVE_INFINITY;
+                    distances[1][id] = Double.POSITIVE_INFINITY;
+                } else if (settled[side].get(id)) {
+                    continue;
+                }
+                double candidate = distances[side][current] + weight;
+                if (candidate < distances[side][id]) {
+                    distances[side][id] = candidate;
+                    parents[side][id] = current;
+                    heaps[side].insertOrDecrease(id, candidate);
+                }
+                double through = distances[side][id] + distances[1 - side][id];
+                if (through < best) {
+                    best = through;
+                    meeting = id;
                 }
             }
         }
-        if (found) {
-            return jump;
+        if (meeting < 0) {
+            return -1;
+        }
+        List<T> forward = pathTo(discovered, parents[0], meeting);
+        for (int id = parents[1][meeting]; id >= 0; id = parents[1][id]) {
+            forward.add(discovered.get(id).getInfo());
         }
-        return new IntegerAritmethicNumber(-1);
+        path.addAll(forward);
+        return best;
     }
 
     /**
      * Establece si existe un camino de Euler en el grafo.
      * <p>
-     * Existe un camino de Euler si no existen vertices desconectados, y todos
-     * los vertices tienen grado <b>par</b>.</p>
+     * Existe un camino de Euler si todas las aristas pertenecen a una misma
+     * componente y, en un grafo no dirigido, a lo sumo dos vertices tienen
+     * grado <b>impar</b>, o en un grafo dirigido, a lo sumo un vertice tiene
+     * una arista de salida mas que de entrada y otro una de entrada mas que de
+     * salida.</p>
      *
      * @return <b>true</b> si existe un camino de Euler.
      */
     @Override
     public boolean isEulerPath() {
-        return eulerPath().isEmpty();
+        return !eulerPath().isEmpty();
     }
 
     /**
      * Devuelve el camino de Euler en el grafo, si este existe.
+     * <p>
+     * El camino se busca con el algoritmo de <b>Hierholzer</b> sobre una
+     * instantanea del grafo, por lo que el costo es lineal en la cantidad de
+     * aristas.</p>
      *
      * @return una lista ordenada con el camino de Euler, si este existe, de lo
      * contrario devuelve una lista vacia.
+     * @see io.github.ldelpino.graph.api.AbstractCsrGraph#eulerPath()
      */
     @Override
     public List<T> eulerPath() {
-        LinkedList<T> camino = new LinkedList<>();
-        if (!existVerticesDisconnected()) {
-            boolean euler = true;
-            Iterator<Vertex<T>> iter = getVertices0().iterator();
-            while (iter.hasNext() && euler) {
-                Vertex<T> next = iter.next();
-                euler = degree(next.getInfo()) % 2 == 0;
-                if (euler) {
-                    camino.add(next.getInfo());
-                }
-            }
-            if (!euler) {
-                camino.clear();
-            }
-        }
-        return camino;
+        return freeze().eulerPath();
     }
 
     /**
@@ -410,27 +779,15 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * <p>
      * La matriz de incidencia es una matriz igual al total de vertices por el
      * total de aristas, donde los elementos son <b>1</b> si la arista es
-     * incidente con el vertice, de lo contrario contiene valor <b>0</b>.</p>
+     * incidente con el vertice, de lo contrario contiene valor <b>0</b>. En un
+     * grafo no dirigido cada arista ocupa una sola columna. La matriz se
+     * construye a partir de {@link #getSparseIncidenceMatrix()}.</p>
      *
      * @return una matriz de enteros con valores entre <b>1</b> y <b>0</b>.
      */
     @Override
     public int[][] getIncidenceMatrix() {
-        int totalAristas = getTotalEdgesCount();
-        int totalVertices = getVertexCount();
-        int[][] matrix = new int[totalVertices][totalAristas];
-        fillZeros(matrix);
-        LinkedList<Vertex<T>> listVertex = new LinkedList<>(getVertices0());
-        for (int i = 0; i < totalVertices; i++) {
-            Vertex<T> vertexTail = listVertex.get(i);
-            Iterator<Vertex<T>> adjacents = vertexTail.getAdjacents().iterator();
-            while (adjacents.hasNext()) {
-                Vertex<T> vertexHead = adjacents.next();
-                int indexNext = listVertex.indexOf(vertexHead);
-                matrix[i][indexNext] = 1;
-            }
-        }
-        return matrix;
+        return getSparseIncidenceMatrix().toDense();
     }
 
     /**
@@ -438,25 +795,109 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * <p>
      * La matriz de adyacencia es una matriz igual al total de vertices al
      * cuadrado, donde los elementos son <b>1</b> si dos vertices son
-     * adyacentes, de lo contrario contiene valor <b>0</b>.</p>
+     * adyacentes, de lo contrario contiene valor <b>0</b>. La matriz se
+     * construye a partir de {@link #getSparseAdjacencyMatrix()}.</p>
      *
      * @return una matriz de enteros con valores entre <b>1</b> y <b>0</b>.
      */
     @Override
     public int[][] getAdyacentsMatrix() {
-        int[][] matrix = new int[getVertexCount()][getVertexCount()];
-        LinkedList<Vertex<T>> listVertex = new LinkedList<>(getVertices0());
-        fillZeros(matrix);
-        for (int i = 0; i < getVertexCount(); i++) {
-            Vertex<T> vertexTail = listVertex.get(i);
-            for (int j = 0; j < getVertexCount(); j++) {
-                Vertex<T> vertexHead = listVertex.get(j);
-                if (areAdjacents(vertexTail.getInfo(), vertexHead.getInfo())) {
-                    matrix[i][j] = 1;
+        return getSparseAdjacencyMatrix().toDense();
+    }
+
+    /**
+     * Devuelve la matriz de adyacencia dispersa del grafo.
+     * <p>
+     * Las filas y las columnas siguen el orden de insercion de los vertices. Si
+     * el grafo tiene peso en las aristas cada elemento contiene el peso de la
+     * arista, ver {@link #edgeWeight(io.github.ldelpino.graph.edge.Edge)}, de
+     * lo contrario la matriz es de patron. En un grafo no dirigido la matriz
+     * es simetrica. La matriz se construye recorriendo una sola vez los
+     * vertices y las aristas.</p>
+     *
+     * @return la matriz de adyacencia en formato CSR.
+     */
+    public SparseMatrix getSparseAdjacencyMatrix() {
+        Collection<Vertex<T>> vertices = getVertices0();
+        int count = vertices.size();
+        int[] ids = new int[getIndexBound()];
+        int[] offsets = new int[count + 1];
+        int id = 0;
+        for (Vertex<T> vertex : vertices) {
+            ids[vertex.getIndex()] = id;
+            offsets[id + 1] = offsets[id] + vertex.getAdjacentsCount();
+            id++;
+        }
+        int[] columns = new int[offsets[count]];
+        double[] values = isWeigthedEdge() ? new double[offsets[count]] : null;
+        id = 0;
+        for (Vertex<T> vertex : vertices) {
+            int position = offsets[id];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                columns[position] = ids[adjacent.getIndex()];
+                if (values != null) {
+                    values[position] = edgeWeight(vertex.getEdge(adjacent));
                 }
+                position++;
             }
+            sortRow(columns, values, offsets[id], offsets[id + 1]);
+            id++;
         }
-        return matrix;
+        return SparseMatrix.wrap(count, count, offsets, columns, values);
+    }
+
+    /**
+     * Devuelve la matriz de incidencia dispersa del grafo.
+     * <p>
+     * Las filas siguen el orden de insercion de los vertices y cada columna
+     * representa una arista, numeradas en el orden de los elementos de
+     * {@link #getSparseAdjacencyMatrix()}. En un grafo no dirigido cada arista
+     * ocupa una sola columna, un arco dirigido tiene un elemento en la fila de
+     * cada extremo y un lazo, dirigido o no, tiene un solo elemento. La matriz es de
+     * patron y se construye en tiempo lineal a partir de la matriz de
+     * adyacencia.</p>
+     *
+     * @return la matriz de incidencia en formato CSR.
+     */
+    public SparseMatrix getSparseIncidenceMatrix() {
+        SparseMatrix adjacency = getSparseAdjacencyMatrix();
+        int count = adjacency.getRowCount();
+        int[] adjacencyOffsets = adjacency.getRowOffsets();
+        int[] heads = adjacency.getColumnIndices();
+        boolean directed = isDirected();
+        int[] offsets = new int[count + 1];
+        int edges = 0;
+        for (int tail = 0; tail < count; tail++) {
+            for (int k = adjacencyOffsets[tail]; k < adjacencyOffsets[tail + 1]; k++) {
+                int head = heads[k];
+                if (directed || head >= tail) {
+                    edges++;
+                    offsets[tail + 1]++;
+                    if (head != tail) {
+                        offsets[head + 1]++;
+                    }
+                }
+            }
+        }
+        for (int row = 0; row < count; row++) {
+            offsets[row + 1] += offsets[row];
+        }
+        int[] columns = new int[offsets[count]];
+        int[] positions = Arrays.copyOf(offsets, count);
+        int column = 0;
+        for (int tail = 0; tail < count; tail++) {
+            for (int k = adjacencyOffsets[tail]; k < adjacencyOffsets[tail + 1]; k++) {
+                int head = heads[k];
+                if (directed || head >= tail) {
+                    columns[positions[tail]++] = column;
+                    if (head != tail) {
+                        columns[positions[head]++] = column;
+                    }
+                    column++;
+                }
+            }
+        }
+        return SparseMatrix.wrap(count, edges, offsets, columns, null);
     }
 
     /**
@@ -489,7 +930,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
             return existVertex(vertex);
         }
         //busqueda de la informacion del vertice
-        return getVertices().stream().anyMatch((vertex) -> (vertex.equals(o)));
+        return o != null && getVertexIndex().containsKey(o);
     }
 
     /**
@@ -513,14 +954,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
             }
         }
         //busqued de la informacion del vertice
-        T vertex = null;
-        Iterator<T> iter = getVertices().iterator();
-        while (iter.hasNext() && vertex == null) {
-            T next = iter.next();
-            if (next.equals(o)) {
-                vertex = next;
-            }
-        }
+        Vertex<T> vertex = o != null ? getVertexIndex().get(o) : null;
         if (vertex != null) {
             removeVertex(vertex);
         }
@@ -700,27 +1134,203 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
 
     /**
      * Establece la nueva coleccion de vertices del grafo.
+     * <p>
+     * Los vertices se copian en la coleccion del grafo en el orden de la
+     * coleccion especificada.</p>
      *
      * @param vertices la nueva coleccion de vertices.
      */
     protected void setVerticesList(Collection<Vertex<T>> vertices) {
-        this.vertices = Objects.requireNonNull(vertices);
+        VertexList<T> list = new VertexList<>();
+        getVertexIndex().clear();
+        freeIndexes.clear();
+        indexBound = 0;
+        Objects.requireNonNull(vertices).forEach((vertex) -> {
+            getVertexIndex().put(vertex.getInfo(), vertex);
+            vertex.setIndex(indexBound++);
+            list.add(vertex);
+        });
+        this.vertices = list;
+    }
+
+    /**
+     * Crea el indice de vertices del grafo.
+     * <p>
+     * De forma predeterminada el indice es un {@link java.util.HashMap}, las
+     * clases que hereden de esta pueden reimplementar el metodo para utilizar
+     * otra estructura de indexado, siempre que asocie la informacion de cada
+     * vertice con el vertice.</p>
+     *
+     * @return el nuevo indice de vertices vacio.
+     */
+    protected Map<T, Vertex<T>> createVertexIndex() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Devuelve el indice de vertices del grafo.
+     *
+     * @return el indice de vertices.
+     */
+    protected Map<T, Vertex<T>> getVertexIndex() {
+        return index;
+    }
+
+    /**
+     * Devuelve el limite superior de las posiciones de los vertices.
+     * <p>
+     * Todos los vertices del grafo tienen una posicion mayor o igual que
+     * <b>0</b> y menor que el limite, ver
+     * {@link io.github.ldelpino.graph.vertex.Vertex#getIndex()}.</p>
+     *
+     * @return el limite superior de las posiciones.
+     */
+    protected int getIndexBound() {
+        return indexBound;
+    }
+
+    /**
+     * Crea un nuevo recorrido sobre los vertices del grafo.
+     *
+     * @return el nuevo recorrido sin vertices visitados.
+     */
+    protected GraphTraversal<T> newTraversal() {
+        return new GraphTraversal<>(getIndexBound());
     }
 
     /**
      * Inserta un vertice en el grafo.
+     * <p>
+     * El vertice no es insertado si ya existe en el grafo un vertice con la
+     * misma informacion.</p>
      *
      * @param vertex el vertice a ser insertado.
      * @return <b>true</b> si el vertice fue insertado correctamente, de lo
      * contrario devuelve <b>false</b>.
      */
     protected boolean insertVertex(Vertex<T> vertex) {
-        if (!existVertex(vertex)) {
+        if (!getVertexIndex().containsKey(vertex.getInfo())) {
+            getVertexIndex().put(vertex.getInfo(), vertex);
+            vertex.setIndex(freeIndexes.isEmpty() ? indexBound++ : freeIndexes.pop());
             return getVertices0().add(vertex);
         }
         return false;
     }
 
+    /**
+     * Inserta una coleccion de vertices en el grafo.
+     * <p>
+     * El indice de vertices se dimensiona una sola vez antes de la insercion,
+     * ver
+     * {@link io.github.ldelpino.graph.api.AbstractGraph#ensureVertexCapacity(int)}.</p>
+     *
+     * @param <E> el tipo de dato de los elementos a partir de los cuales se
+     * crean los vertices.
+     * @param elements los elementos a partir de los cuales se crean los
+     * vertices.
+     * @param factory la creacion del vertice de cada elemento.
+     * @return la cantidad de vertices insertados.
+     */
+    protected <E> int insertVerticesAbstract(Collection<? extends E> elements,
+            Function<? super E, ? extends Vertex<T>> factory) {
+        ensureVertexCapacity(getVertexIndex().size() + elements.size());
+        int inserted = 0;
+        for (E element : elements) {
+            if (insertVertex(factory.apply(element))) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Prepara el indice de vertices para almacenar una cantidad de vertices.
+     * <p>
+     * De forma predeterminada solo se redimensiona el indice creado por
+     * {@link io.github.ldelpino.graph.api.AbstractGraph#createVertexIndex()},
+     * las clases que reimplementen la creacion del indice pueden reimplementar
+     * tambien este metodo.</p>
+     *
+     * @param count la cantidad de vertices esperada.
+     */
+    protected void ensureVertexCapacity(int count) {
+        Map<T, Vertex<T>> current = getVertexIndex();
+        if (current.getClass() == HashMap.class && count > 2 * current.size() && count > 12) {
+            Map<T, Vertex<T>> resized = new HashMap<>((int) (count / 0.75f) + 1);
+            resized.putAll(current);
+            index = resized;
+        }
+    }
+
+    /**
+     * Inserta un conjunto de aristas en el grafo.
+     * <p>
+     * Los vertices de cada arista se buscan una sola vez. Si las aristas son
+     * una {@link java.util.Collection} se recorren dos veces: en el primer
+     * recorrido se buscan los vertices y se cuentan las aristas de cada uno,
+     * de modo que sus tablas de aristas se dimensionen antes del segundo
+     * recorrido, ver
+     * {@link io.github.ldelpino.graph.vertex.Vertex#ensureEdgeCapacity(int, int)}.</p>
+     *
+     * @param <E> el tipo de dato de las aristas a insertar.
+     * @param edges las aristas a insertar.
+     * @param connector la insercion de una arista entre dos vertices del
+     * grafo.
+     * @return la cantidad de aristas insertadas.
+     */
+    protected <E extends EdgePair<T>> int insertEdgesAbstract(Iterable<? extends E> edges,
+            EdgeConnector<T, ? super E> connector) {
+        int inserted = 0;
+        if (!(edges instanceof Collection<?> collection) || collection.size() < 2) {
+            for (E edge : edges) {
+                Vertex<T> tail = getVertex(edge.getTail());
+                Vertex<T> head = getVertex(edge.getHead());
+                if (tail != null && head != null && connector.connect(tail, head, edge)) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        }
+        int size = collection.size();
+        List<Vertex<T>> tails = new ArrayList<>(size);
+        List<Vertex<T>> heads = new ArrayList<>(size);
+        int[] outEdges = new int[getIndexBound()];
+        int[] inEdges = new int[getIndexBound()];
+        boolean directed = isDirected();
+        for (E edge : edges) {
+            Vertex<T> tail = getVertex(edge.getTail());
+            Vertex<T> head = getVertex(edge.getHead());
+            tails.add(tail);
+            heads.add(head);
+            if (tail != null && head != null) {
+                outEdges[tail.getIndex()]++;
+                if (directed) {
+                    inEdges[head.getIndex()]++;
+                } else if (tail != head) {
+                    outEdges[head.getIndex()]++;
+                }
+            }
+        }
+        for (Vertex<T> vertex : getVertices0()) {
+            int position = vertex.getIndex();
+            if (outEdges[position] > 0 || inEdges[position] > 0) {
+                vertex.ensureEdgeCapacity(outEdges[position], inEdges[position]);
+            }
+        }
+        int position = 0;
+        for (E edge : edges) {
+            if (position == tails.size()) {
+                break;
+            }
+            Vertex<T> tail = tails.get(position);
+            Vertex<T> head = heads.get(position++);
+            if (tail != null && head != null && connector.connect(tail, head, edge)) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
     /**
      * Establece si el vertice existe en el grafo o no..
      *
@@ -729,7 +1339,8 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * <b>false</b>.
      */
     protected boolean existVertex(Vertex vertex) {
-        return getVertices0().stream().anyMatch((v) -> (v.equals(vertex)));
+        Vertex<T> indexed = getVertexIndex().get(vertex.getInfo());
+        return indexed != null && indexed.equals(vertex);
     }
 
     /**
@@ -740,12 +1351,7 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * <b>null</b>.
      */
     protected Vertex<T> getVertex(T info) {
-        for (Vertex<T> vertex : getVertices0()) {
-            if (vertex.getInfo().equals(info)) {
-                return vertex;
-            }
-        }
-        return null;
+        return info != null ? getVertexIndex().get(info) : null;
     }
 
     /**
@@ -757,15 +1363,26 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      */
     protected T removeVertex(Vertex<T> vertex) {
         T info = vertex.getInfo();
+        getVertexIndex().remove(info);
         getVertices0().remove(vertex);
-        getVertices0().forEach((v) -> {
+        freeIndexes.push(vertex.getIndex());
+        //aristas de los adyacentes hacia el vertice, en grafos no dirigidos
+        new LinkedList<>(vertex.getAdjacents()).forEach((v) -> {
             v.removeEdge(vertex);
         });
+        vertex.disconnect();
         return info;
     }
 
     /**
      * Establece si existe un camino de longitud entre dos vertices.
+     * <p>
+     * El conjunto de vertices alcanzables con exactamente una cantidad de
+     * aristas se almacena en un conjunto de bits indexado por la posicion de
+     * los vertices y se expande un salto a la vez, por lo que el costo es
+     * proporcional a la longitud por la cantidad de vertices y aristas, en
+     * lugar de enumerar cada recorrido. La expansion se detiene si el conjunto
+     * queda vacio.</p>
      *
      * @param vertex1 el vertice inicial a buscar si existe un camino.
      * @param vertex2 el vertice final a buscar si existe un camino.
@@ -773,37 +1390,49 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * @return <b>true</b> si existe un camino de longitud, de lo contrario
      * devuelve <b>false</b>.
      */
+    @SuppressWarnings("unchecked")
     protected boolean path(Vertex<T> vertex1, Vertex<T> vertex2, int length) {
-        boolean found = false;
-        if (length == 1) {
-            found = vertex1.isAdjacents(vertex2);
-        } else {
-            Iterator<Vertex<T>> iter = vertex1.getAdjacents().iterator();
-            while (!found && iter.hasNext()) {
-                Vertex<T> next = iter.next();
-                found = path(next, vertex2, length - 1);
+        if (length < 1) {
+            return false;
+        }
+        Vertex<T>[] vertices = (Vertex<T>[]) new Vertex<?>[getIndexBound()];
+        for (Vertex<T> vertex : getVertices0()) {
+            vertices[vertex.getIndex()] = vertex;
+        }
+        BitSet frontier = new BitSet(vertices.length);
+        frontier.set(vertex1.getIndex());
+        for (int step = 0; step < length && !frontier.isEmpty(); step++) {
+            BitSet next = new BitSet(vertices.length);
+            for (int i = frontier.nextSetBit(0); i >= 0; i = frontier.nextSetBit(i + 1)) {
+                for (Vertex<T> adjacent : vertices[i].getAdjacents()) {
+                    next.set(adjacent.getIndex());
+                }
             }
+            frontier = next;
         }
-        return found;
+        return frontier.get(vertex2.getIndex());
     }
 
     /**
-     * Devuelve una lista de vertices seleccionados en cascada a partir de un
-     * vertice inicial.
+     * Selecciona los vertices alcanzables en cascada a partir de un vertice
+     * inicial.
+     * <p>
+     * Los vertices se seleccionan con un recorrido en profundidad iterativo,
+     * en el orden en que son descubiertos.</p>
      *
      * @param vertex el vertice inicial a partir del cual seleccionar sus
      * adyacentes.
-     * @param selected la lista de vertices adyacentes almacenados
-     * recursivamente, inicialmente la lista estara vacia.
+     * @param selected la coleccion en la que se agregan los vertices
+     * seleccionados, incluido el vertice inicial.
      */
-    protected void selectVerticesInCascadeRecurs(Vertex<T> vertex, Collection<Vertex<T>> selected) {
-        if (!selected.contains(vertex)) {
-            Iterator<Vertex<T>> iter = vertex.getAdjacents().iterator();
-            selected.add(vertex);
-            while (iter.hasNext()) {
-                selectVerticesInCascadeRecurs(iter.next(), selected);
+    protected void selectVerticesInCascade(Vertex<T> vertex, Collection<Vertex<T>> selected) {
+        newTraversal().depthFirst(vertex, new GraphTraversal.Visitor<>() {
+            @Override
+            public boolean discover(Vertex<T> discovered, Vertex<T> parent) {
+                selected.add(discovered);
+                return true;
             }
-        }
+        });
     }
 
     /**
@@ -829,37 +1458,155 @@ public abstract class AbstractGraph<T> extends AbstractCollection<T> implements
      * @return la cantidad de adyacentes del vertice.
      */
     protected int outDegree(Vertex<T> vertex) {
+        return vertex.getAdjacentsCount();
+    }
+
+    /**
+     * Devuelve el grado de un vertice.
+     * <p>
+     * Los vertices mantienen sus tablas de aristas de salida y de entrada, por
+     * lo que el grado se obtiene sin recorrer el grafo. En un grafo dirigido
+     * cada arista se almacena en la tabla de salida de su cola y en la tabla de
+     * entrada de su cabeza, mientras que en un grafo no dirigido cada vertice
+     * almacena su propia arista en la tabla de salida, por lo que en ambos
+     * casos el grado es la cantidad de aristas del vertice.</p>
+     *
+     * @param vertex el vertice con el cual saber su grado.
+     * @return el grado del vertice.
+     */
+    protected int degree(Vertex<T> vertex) {
         return vertex.getEdgesCount();
     }
 
-    private boolean existPathRecursive(Vertex<T> vertexTail, Vertex<T> vertexHead,
-            Collection<Vertex<T>> visited) {
-        boolean found = false;
-        if (areAdjacents(vertexTail.getInfo(), vertexHead.getInfo())) {
-            return true;
+    /**
+     * Devuelve una distancia como el tipo numerico del grafo.
+     * <p>
+     * Si el grafo tiene peso en las aristas la distancia se devuelve como
+     * {@link io.github.ldelpino.graph.api.DoubleAritmethicNumber}, de lo
+     * contrario como
+     * {@link io.github.ldelpino.graph.api.IntegerAritmethicNumber}.</p>
+     *
+     * @param distance la distancia.
+     * @return la distancia como numero.
+     */
+    protected AritmethicNumber<?> distance(double distance) {
+        if (isWeigthedEdge()) {
+            return new DoubleAritmethicNumber(distance);
         }
-        Iterator<Vertex<T>> iter = vertexTail.getAdjacents().iterator();
-        while (iter.hasNext() && !found) {
-            Vertex<T> next = iter.next();
-            if (!visited.contains(next)) {
-                if (next.isAdjacents(vertexHead)) {
-                    return true;
-                }
-                visited.add(next);
-                found = existPathRecursive(next, vertexHead, visited);
-                if (!found) {
-                    visited.remove(next);
-                }
-            }
+        return new IntegerAritmethicNumber((int) distance);
+    }
+
+    private static <T> double checkedWeight(Vertex<T> tail, Vertex<T> head) {
+        double weight = edgeWeight(tail.getEdge(head));
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("Negative edge weight from "
+                    + tail.getInfo() + " to " + head.getInfo() + ": " + weight);
         }
-        return found;
+        return weight;
     }
 
-    private void fillZeros(int[][] matrix) {
-        for (int[] m : matrix) {
-            for (int i = 0; i < m.length; i++) {
-                m[i] = 0;
+    private static <T> double estimate(ToDoubleBiFunction<? super T, ? super T> heuristic, Vertex<T> vertex,
+            T goal) {
+        double estimate = heuristic.applyAsDouble(vertex.getInfo(), goal);
+        if (!(estimate >= 0)) {
+            throw new IllegalArgumentException("Negative heuristic from " + vertex.getInfo() + ": " + estimate);
+        }
+        return estimate;
+    }
+
+    private static <T> List<T> pathTo(List<Vertex<T>> discovered, int[] parents, int last) {
+        LinkedList<T> reversed = new LinkedList<>();
+        for (int id = last; id >= 0; id = parents[id]) {
+            reversed.addFirst(discovered.get(id).getInfo());
+        }
+        return reversed;
+    }
+
+    /**
+     * Devuelve el valor numerico del peso de una arista.
+     * <p>
+     * Si la arista no tiene peso, o su peso no es instancia de
+     * {@link java.lang.Number} ni de
+     * {@link io.github.ldelpino.graph.api.AritmethicNumber}, se considera que
+     * la arista tiene peso <b>1</b>, lo que equivale a contar saltos.</p>
+     *
+     * @param edge la arista.
+     * @return el peso de la arista como numero real.
+     */
+    protected static double edgeWeight(Edge<?> edge) {
+        if (edge instanceof WeightedEdge<?, ?> weighted) {
+            Object weight = weighted.getWeight();
+            if (weight instanceof Number number) {
+                return number.doubleValue();
             }
+            if (weight instanceof AritmethicNumber<?> number) {
+                return number.getNumber().doubleValue();
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Ordena las columnas de una fila junto con sus valores.
+     */
+    private static void sortRow(int[] columns, double[] values, int from, int to) {
+        if (values == null) {
+            Arrays.sort(columns, from, to);
+            return;
+        }
+        long[] keys = new long[to - from];
+        for (int k = from; k < to; k++) {
+            keys[k - from] = ((long) columns[k] << 32) | (k - from);
+        }
+        Arrays.sort(keys);
+        double[] row = Arrays.copyOfRange(values, from, to);
+        for (int k = 0; k < keys.length; k++) {
+            columns[from + k] = (int) (keys[k] >>> 32);
+            values[from + k] = row[(int) keys[k]];
         }
     }
+
+    /**
+     * Reemplaza el grafo por su forma serializada.
+     * <p>
+     * Los vertices no almacenan sus aristas al ser serializados, por lo que el
+     * grafo se serializa en el formato de
+     * {@link io.github.ldelpino.graph.api.GraphCodec}, que conserva los
+     * vertices, las aristas y sus pesos. La clase del grafo debe tener un
+     * constructor sin parametros.</p>
+     *
+     * @return la forma serializada del grafo.
+     * @throws java.io.ObjectStreamException nunca.
+     */
+    protected Object writeReplace() throws ObjectStreamException {
+        return GraphCodec.serializedForm(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Graphs are deserialized from their serialized form.");
+    }
+
+    /**
+     * Permite insertar una arista entre dos vertices del grafo.
+     * <p>
+     * Es utilizada por la insercion masiva de aristas, cada implementacion de
+     * grafo crea las aristas de acuerdo a su tipo.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param <E> el tipo de dato de las aristas a insertar.
+     */
+    @FunctionalInterface
+    protected interface EdgeConnector<T, E> {
+
+        /**
+         * Inserta una arista entre dos vertices del grafo.
+         *
+         * @param tail el vertice que hace funcion de cola.
+         * @param head el vertice que hace funcion de cabeza.
+         * @param edge la arista a insertar.
+         * @return <b>true</b> si la arista fue insertada, de lo contrario
+         * devuelve <b>false</b>.
+         */
+        public boolean connect(Vertex<T> tail, Vertex<T> head, E edge);
+    }
 }
@@ -0,0 +1,423 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+/**
+ * Permite establecer las funcionalidades basicas de un grafo de vertices
+ * enteros.
+ * <p>
+ * Cada vertice tiene un bloque de enteros con sus adyacentes que crece a
+ * medida que se insertan aristas, los bloques se indexan por el propio
+ * vertice. Cada arista ocupa un entero en el bloque de su cola, y en un grafo
+ * no dirigido un entero mas en el bloque de su cabeza.</p>
+ * <p>
+ * Cuando un bloque supera {@link #HASHED_BLOCK} adyacentes se le asocia una
+ * tabla hash de direccionamiento abierto con la posicion de cada adyacente, de
+ * forma que la comprobacion de aristas repetidas al insertar no recorra el
+ * bloque completo de los vertices con muchos adyacentes.</p>
+ * <p>
+ * Los vertices se almacenan en arreglos indexados por su valor, por lo que
+ * los vertices deben ser enteros no negativos y preferiblemente densos.</p>
+ *
+ * @see io.github.ldelpino.graph.api.IntGraph
+ * @see io.github.ldelpino.graph.graph_implementation.IntDirectedGraph
+ * @see io.github.ldelpino.graph.graph_implementation.IntNotDirectedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public abstract class AbstractIntGraph implements IntGraph {
+
+    /**
+     * La capacidad inicial del bloque de adyacentes de un vertice.
+     */
+    protected static final int INITIAL_BLOCK = 4;
+
+    /**
+     * La cantidad de adyacentes a partir de la cual un bloque se indexa con
+     * una tabla hash.
+     */
+    protected static final int HASHED_BLOCK = 32;
+
+    /**
+     * El mayor vertice que puede insertarse, ya que los vertices son
+     * posiciones de arreglos.
+     */
+    public static final int MAX_VERTEX = Integer.MAX_VALUE - 9;
+
+    private static final int[] EMPTY_BLOCK = new int[0];
+
+    /**
+     * Los vertices existentes en el grafo.
+     */
+    protected final BitSet present;
+
+    /**
+     * El bloque de adyacentes de cada vertice.
+     */
+    protected int[][] adjacents;
+
+    /**
+     * La cantidad de adyacentes de cada vertice.
+     */
+    protected int[] sizes;
+
+    /**
+     * La tabla hash de cada bloque con mas de {@link #HASHED_BLOCK}
+     * adyacentes, o <b>null</b> si el bloque se recorre. Cada entrada contiene
+     * la posicion de un adyacente en el bloque mas uno, o <b>0</b> si esta
+     * vacia.
+     */
+    private int[][] indexes;
+
+    /**
+     * La cantidad de vertices del grafo.
+     */
+    protected int vertexCount;
+
+    /**
+     * La cantidad de aristas del grafo.
+     */
+    protected int edgeCount;
+
+    /**
+     * Permite la creacion de un nuevo grafo de vertices enteros.
+     */
+    protected AbstractIntGraph() {
+        this(16);
+    }
+
+    /**
+     * Permite la creacion de un nuevo grafo de vertices enteros con una
+     * capacidad inicial.
+     *
+     * @param capacity la cantidad de vertices esperada.
+     */
+    protected AbstractIntGraph(int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.present = new BitSet(capacity);
+        this.adjacents = new int[capacity][];
+        this.sizes = new int[capacity];
+        this.indexes = new int[capacity][];
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getTotalEdgesCount() {
+        return edgeCount;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public IntCursor getVertices() {
+        return new IntCursor() {
+            private int current = present.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return current >= 0;
+            }
+
+            @Override
+            public int next() {
+                if (current < 0) {
+                    throw new NoSuchElementException();
+                }
+                int vertex = current;
+                current = present.nextSetBit(current + 1);
+                return vertex;
+            }
+
+            @Override
+            public int size() {
+                return vertexCount;
+            }
+        };
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    public boolean insertVertex(int vertex) {
+        if (vertex > MAX_VERTEX) {
+            throw new IllegalArgumentException("Vertex " + vertex + " is greater than " + MAX_VERTEX + ".");
+        }
+        if (vertex < 0 || existVertex(vertex)) {
+            return false;
+        }
+        ensureCapacity(vertex + 1);
+        present.set(vertex);
+        adjacents[vertex] = EMPTY_BLOCK;
+        sizes[vertex] = 0;
+        vertexCount++;
+        return true;
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    public boolean existVertex(int vertex) {
+        return vertex >= 0 && present.get(vertex);
+    }
+
+    /**
+     *
+     * @param tail
+     * @param head
+     * @return
+     */
+    @Override
+    public boolean areAdjacents(int tail, int head) {
+        return existVertex(tail) && existVertex(head) && indexOfArc(tail, head) >= 0;
+    }
+
+    /**
+     * Devuelve los vertices adyacentes a un vertice establecido.
+     * <p>
+     * El cursor recorre directamente el bloque del vertice, por lo que no debe
+     * modificarse el grafo durante el recorrido.</p>
+     *
+     * @param vertex el vertice.
+     * @return el cursor con los vertices adyacentes si el vertice existe, de
+     * lo contrario devuelve <b>null</b>.
+     */
+    @Override
+    public IntCursor getAdjacents(int vertex) {
+        if (existVertex(vertex)) {
+            return IntCursor.of(adjacents[vertex], 0, sizes[vertex]);
+        }
+        return null;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void cleanGraph() {
+        present.clear();
+        Arrays.fill(adjacents, null);
+        Arrays.fill(sizes, 0);
+        Arrays.fill(indexes, null);
+        vertexCount = 0;
+        edgeCount = 0;
+    }
+
+    /**
+     * Devuelve una cadena de caracteres que representa este grafo.
+     *
+     * @return la cadena de caracteres de este grafo.
+     */
+    @Override
+    public String toString() {
+        return "IntGraph " + (isDirected() ? "Directed " : "NotDirected ")
+                + vertexCount + " vertices and " + edgeCount + " edges.";
+    }
+
+    /**
+     * Asegura que los arreglos indexados por vertice tengan una capacidad
+     * minima.
+     * <p>
+     * Las clases que hereden de esta y tengan otros arreglos indexados por
+     * vertice deben reimplementar el metodo para hacerlos crecer
+     * tambien.</p>
+     *
+     * @param capacity la capacidad minima.
+     */
+    protected void ensureCapacity(int capacity) {
+        if (capacity > adjacents.length) {
+            int length = (int) Math.min(MAX_VERTEX + 1L,
+                    Math.max(capacity, adjacents.length + (adjacents.length >> 1L)));
+            adjacents = Arrays.copyOf(adjacents, length);
+            sizes = Arrays.copyOf(sizes, length);
+            indexes = Arrays.copyOf(indexes, length);
+        }
+    }
+
+    /**
+     * Agrega un adyacente al bloque de un vertice, haciendo crecer el bloque
+     * si es necesario.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     */
+    protected void addArc(int tail, int head) {
+        int[] block = adjacents[tail];
+        int size = sizes[tail];
+        if (size == block.length) {
+            block = Arrays.copyOf(block, Math.max(INITIAL_BLOCK, size << 1));
+            adjacents[tail] = block;
+        }
+        block[size] = head;
+        sizes[tail] = size + 1;
+        int[] index = indexes[tail];
+        if (index != null && (size + 1) << 1 <= index.length) {
+            index[slotOf(index, block, head, -1)] = size + 1;
+        } else if (size + 1 > HASHED_BLOCK) {
+            indexes[tail] = buildIndex(block, size + 1);
+        }
+    }
+
+    /**
+     * Remueve un adyacente del bloque de un vertice.
+     * <p>
+     * El ultimo adyacente del bloque ocupa la posicion del adyacente removido,
+     * por lo que el orden de los adyacentes puede cambiar.</p>
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si el adyacente fue removido, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    protected boolean removeArc(int tail, int head) {
+        int[] table = indexes[tail];
+        if (table == null) {
+            int index = indexOfArc(tail, head);
+            if (index >= 0) {
+                int last = --sizes[tail];
+                adjacents[tail][index] = adjacents[tail][last];
+                return true;
+            }
+            return false;
+        }
+        int[] block = adjacents[tail];
+        int slot = slotOf(table, block, head, head);
+        if (table[slot] == 0) {
+            return false;
+        }
+        int index = table[slot] - 1;
+        deleteSlot(table, block, slot);
+        int last = --sizes[tail];
+        if (index != last) {
+            block[index] = block[last];
+            table[slotOf(table, block, block[index], block[index])] = index + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Devuelve la posicion de un adyacente en el bloque de un vertice.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return la posicion del adyacente, o <b>-1</b> si no existe.
+     */
+    protected int indexOfArc(int tail, int head) {
+        int[] block = adjacents[tail];
+        int[] table = indexes[tail];
+        if (table != null) {
+            return table[slotOf(table, block, head, head)] - 1;
+        }
+        for (int i = 0, size = sizes[tail]; i < size; i++) {
+            if (block[i] == head) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Elimina el bloque de adyacentes de un vertice y lo marca como
+     * inexistente.
+     *
+     * @param vertex el vertice.
+     */
+    protected void dropVertex(int vertex) {
+        present.clear(vertex);
+        adjacents[vertex] = null;
+        sizes[vertex] = 0;
+        indexes[vertex] = null;
+        vertexCount--;
+    }
+
+    /**
+     * Crea la tabla hash de un bloque, con al menos el doble de entradas que
+     * adyacentes.
+     */
+    private static int[] buildIndex(int[] block, int size) {
+        int[] table = new int[Integer.highestOneBit(size) << 2];
+        for (int i = 0; i < size; i++) {
+            table[slotOf(table, block, block[i], -1)] = i + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Devuelve la entrada de la tabla hash que contiene un adyacente, o la
+     * primera entrada vacia en la que deberia estar.
+     *
+     * @param key el adyacente que termina la busqueda al encontrarse, o
+     * <b>-1</b> para buscar solo una entrada vacia.
+     */
+    private static int slotOf(int[] table, int[] block, int head, int key) {
+        int mask = table.length - 1;
+        int slot = hash(head) & mask;
+        while (table[slot] != 0 && block[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Vacia una entrada de la tabla hash desplazando hacia atras las entradas
+     * siguientes, de forma que ninguna busqueda se interrumpa antes de
+     * tiempo.
+     */
+    private static void deleteSlot(int[] table, int[] block, int slot) {
+        int mask = table.length - 1;
+        int next = (slot + 1) & mask;
+        while (table[next] != 0) {
+            int home = hash(block[table[next] - 1]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                table[slot] = table[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[slot] = 0;
+    }
+
+    private static int hash(int vertex) {
+        int h = vertex * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+/**
+ * Permite cancelar de forma cooperativa un calculo que se ejecuta en otro
+ * hilo.
+ * <p>
+ * El calculo consulta el estado del objeto entre cada fase y, si fue
+ * cancelado, termina lanzando una
+ * {@link java.util.concurrent.CancellationException}. Un mismo objeto puede
+ * compartirse entre varios calculos para cancelarlos a la vez.</p>
+ *
+ * @see io.github.ldelpino.graph.api.DeltaStepping
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /**
+     * Solicita la cancelacion de los calculos que consultan este objeto.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Establece si se solicito la cancelacion.
+     *
+     * @return <b>true</b> si se solicito la cancelacion, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
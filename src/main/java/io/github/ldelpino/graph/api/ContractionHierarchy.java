@@ -0,0 +1,861 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Permite responder consultas de camino mas corto entre dos vertices sobre una
+ * jerarquia de contraccion de una instantanea de un grafo.
+ * <p>
+ * En el preprocesamiento los vertices se contraen uno a uno en orden de
+ * importancia: al contraer un vertice, por cada par de vecinos no contraidos
+ * cuyo camino mas corto pasa por el, se agrega un atajo entre ellos con el
+ * peso de ese camino. Si una busqueda local desde el vecino de entrada, que no
+ * pasa por el vertice, encuentra un camino igual o mas corto, el atajo no es
+ * necesario. La importancia de un vertice es el doble de la diferencia entre
+ * la cantidad de atajos que agregaria su contraccion y la cantidad de aristas
+ * que elimina, mas la cantidad de vecinos ya contraidos, y se recalcula de
+ * forma perezosa al extraer el vertice de la cola.</p>
+ * <p>
+ * Las aristas originales y los atajos se dividen en dos grafos en formato CSR:
+ * el grafo ascendente, con las aristas hacia vertices de mayor rango, y el
+ * grafo descendente, con las aristas desde vertices de mayor rango almacenadas
+ * en su cabeza. Una consulta es una busqueda bidireccional del algoritmo de
+ * <b>Djisktra</b>, hacia adelante sobre el grafo ascendente y hacia atras sobre
+ * el descendente, que solo visita vertices de rango creciente, por lo que
+ * extrae una pequena parte de los vertices del grafo. Cada atajo recuerda el
+ * vertice contraido que reemplaza, lo que permite desplegar el camino con los
+ * vertices originales.</p>
+ * <p>
+ * La jerarquia es adecuada para grafos como las redes de carreteras o las
+ * rejillas, que pueden dividirse eliminando pocos vertices. En grafos
+ * aleatorios los ultimos vertices contraidos quedan muy conectados, y el
+ * tiempo de preprocesamiento y la cantidad de atajos crecen rapidamente.</p>
+ * <p>
+ * La jerarquia puede escribirse en un fichero y abrirse junto a la misma
+ * instantanea, por ejemplo un
+ * {@link io.github.ldelpino.graph.api.MappedGraph}, sin repetir el
+ * preprocesamiento. Las consultas pueden realizarse desde varios hilos a la
+ * vez, cada hilo reutiliza su propio estado de busqueda.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.FrozenGraph
+ * @see io.github.ldelpino.graph.api.MappedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class ContractionHierarchy<T> {
+
+    /**
+     * El numero que identifica el formato, los caracteres <b>LDCH</b>.
+     */
+    public static final int MAGIC = 0x4C444348;
+
+    /**
+     * La version del formato.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * La cantidad de bytes de la cabecera del fichero.
+     */
+    private static final int HEADER_SIZE = 36;
+
+    /**
+     * La cantidad maxima de vertices que extrae una busqueda de caminos
+     * alternativos, si se alcanza se agrega el atajo.
+     */
+    private static final int WITNESS_LIMIT = 500;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final AbstractCsrGraph<T> graph;
+
+    /**
+     * La posicion de cada vertice en el orden de contraccion.
+     */
+    private final int[] ranks;
+
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+
+    /**
+     * El vertice que reemplaza cada atajo del grafo ascendente, o <b>-1</b> si
+     * la arista es original.
+     */
+    private final int[] upMiddles;
+
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final double[] downWeights;
+
+    /**
+     * El vertice que reemplaza cada atajo del grafo descendente, o <b>-1</b>
+     * si la arista es original.
+     */
+    private final int[] downMiddles;
+
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+
+    private ContractionHierarchy(AbstractCsrGraph<T> graph, int[] ranks, int[] upOffsets, int[] upTargets,
+            double[] upWeights, int[] upMiddles, int[] downOffsets, int[] downSources, double[] downWeights,
+            int[] downMiddles) {
+        this.graph = graph;
+        this.ranks = ranks;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+    }
+
+    /**
+     * Construye la jerarquia de contraccion de una instantanea.
+     * <p>
+     * Si el grafo no tiene peso en las aristas cada arista tiene peso
+     * <b>1</b>, los lazos se ignoran.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph la instantanea del grafo.
+     * @return la jerarquia de contraccion.
+     * @throws IllegalArgumentException si alguna arista tiene peso negativo.
+     */
+    public static <T> ContractionHierarchy<T> build(AbstractCsrGraph<T> graph) {
+        int count = graph.getVertexCount();
+        Contraction contraction = new Contraction(count);
+        for (int id = 0; id < count; id++) {
+            for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                int target = graph.target(k);
+                double weight = graph.isWeigthedEdge() ? graph.weight(k) : 1;
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Negative edge weight from "
+                            + graph.infoOf(id) + " to " + graph.infoOf(target) + ": " + weight);
+                }
+                if (target != id) {
+                    contraction.connect(id, target, weight, -1);
+                }
+            }
+        }
+        int[] ranks = contraction.contractAll();
+        //al contraerse un vertice solo quedan sus aristas hacia vertices de mayor rango
+        Arcs[] outs = contraction.outs;
+        Arcs[] ins = contraction.ins;
+        int[] upOffsets = new int[count + 1];
+        int[] downOffsets = new int[count + 1];
+        for (int id = 0; id < count; id++) {
+            upOffsets[id + 1] = upOffsets[id] + outs[id].size;
+            downOffsets[id + 1] = downOffsets[id] + ins[id].size;
+        }
+        int[] upTargets = new int[upOffsets[count]];
+        double[] upWeights = new double[upTargets.length];
+        int[] upMiddles = new int[upTargets.length];
+        int[] downSources = new int[downOffsets[count]];
+        double[] downWeights = new double[downSources.length];
+        int[] downMiddles = new int[downSources.length];
+        for (int id = 0; id < count; id++) {
+            outs[id].copyTo(upTargets, upWeights, upMiddles, upOffsets[id]);
+            ins[id].copyTo(downSources, downWeights, downMiddles, downOffsets[id]);
+        }
+        for (int id = 0; id < count; id++) {
+            sortRow(upTargets, upWeights, upMiddles, upOffsets[id], upOffsets[id + 1]);
+            sortRow(downSources, downWeights, downMiddles, downOffsets[id], downOffsets[id + 1]);
+        }
+        return new ContractionHierarchy<>(graph, ranks, upOffsets, upTargets, upWeights, upMiddles,
+                downOffsets, downSources, downWeights, downMiddles);
+    }
+
+    /**
+     * Abre una jerarquia de contraccion escrita con
+     * {@link #write(java.nio.file.Path)}.
+     * <p>
+     * La jerarquia solo es valida para la instantanea a partir de la cual se
+     * construyo, al abrirla se comprueba que la cantidad de vertices y
+     * aristas, y una huella de las aristas y sus pesos, coincidan.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param file el fichero.
+     * @param graph la instantanea a partir de la cual se construyo la
+     * jerarquia.
+     * @return la jerarquia de contraccion.
+     * @throws java.io.IOException si ocurre un error de lectura o el fichero
+     * no tiene el formato correcto.
+     * @throws IllegalArgumentException si la jerarquia no corresponde a la
+     * instantanea.
+     */
+    public static <T> ContractionHierarchy<T> open(Path file, AbstractCsrGraph<T> graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel), BUFFER_SIZE));
+            int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new StreamCorruptedException("Invalid hierarchy file magic: " + Integer.toHexString(magic));
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported hierarchy file version: " + version);
+            }
+            int count = in.readInt();
+            long arcs = in.readLong();
+            long fingerprint = in.readLong();
+            if (count != graph.getVertexCount() || arcs != graph.offset(count)
+                    || fingerprint != fingerprint(graph)) {
+                throw new IllegalArgumentException("The hierarchy file " + file + " does not match the graph.");
+            }
+            int upCount = in.readInt();
+            int downCount = in.readInt();
+            if (upCount < 0 || downCount < 0) {
+                throw new StreamCorruptedException("Negative hierarchy arc count.");
+            }
+            if (channel.size() != HEADER_SIZE + 12L * count + 8 + 16L * ((long) upCount + downCount)) {
+                throw new StreamCorruptedException("Hierarchy file size does not match its header.");
+            }
+            int[] ranks = readInts(in, count);
+            int[] upOffsets = readInts(in, count + 1);
+            int[] upTargets = readInts(in, upCount);
+            double[] upWeights = readDoubles(in, upCount);
+            int[] upMiddles = readInts(in, upCount);
+            int[] downOffsets = readInts(in, count + 1);
+            int[] downSources = readInts(in, downCount);
+            double[] downWeights = readDoubles(in, downCount);
+            int[] downMiddles = readInts(in, downCount);
+            checkRanks(ranks);
+            checkArcs(upOffsets, upTargets, upMiddles, count);
+            checkArcs(downOffsets, downSources, downMiddles, count);
+            return new ContractionHierarchy<>(graph, ranks, upOffsets, upTargets, upWeights, upMiddles,
+                    downOffsets, downSources, downWeights, downMiddles);
+        }
+    }
+
+    /**
+     * Escribe la jerarquia en un fichero.
+     * <p>
+     * El fichero tiene el formato:</p>
+     * <pre>
+     * cabecera:    int MAGIC, int VERSION, int cantidad de vertices,
+     *              long cantidad de aristas, long huella de las aristas,
+     *              int aristas ascendentes, int aristas descendentes
+     * ranks:       int[vertices]
+     * ascendente:  int[vertices + 1] offsets, int[] targets, double[] weights,
+     *              int[] middles
+     * descendente: int[vertices + 1] offsets, int[] sources, double[] weights,
+     *              int[] middles
+     * </pre>
+     *
+     * @param file el fichero, si existe es sobrescrito.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public void write(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+            int count = graph.getVertexCount();
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeLong(graph.offset(count));
+            out.writeLong(fingerprint(graph));
+            out.writeInt(upTargets.length);
+            out.writeInt(downSources.length);
+            writeInts(out, ranks);
+            writeInts(out, upOffsets);
+            writeInts(out, upTargets);
+            writeDoubles(out, upWeights);
+            writeInts(out, upMiddles);
+            writeInts(out, downOffsets);
+            writeInts(out, downSources);
+            writeDoubles(out, downWeights);
+            writeInts(out, downMiddles);
+            out.flush();
+        }
+    }
+
+    /**
+     * Devuelve la instantanea de la jerarquia.
+     *
+     * @return la instantanea del grafo.
+     */
+    public AbstractCsrGraph<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Devuelve la posicion de un vertice en el orden de contraccion.
+     *
+     * @param info el vertice.
+     * @return la posicion del vertice, o <b>-1</b> si el vertice no existe.
+     */
+    public int getRank(T info) {
+        int id = graph.indexOf(info);
+        return id < 0 ? -1 : ranks[id];
+    }
+
+    /**
+     * Devuelve la cantidad de atajos agregados durante la contraccion.
+     *
+     * @return la cantidad de atajos.
+     */
+    public int getShortcutCount() {
+        int shortcuts = 0;
+        for (int middle : upMiddles) {
+            if (middle >= 0) {
+                shortcuts++;
+            }
+        }
+        for (int middle : downMiddles) {
+            if (middle >= 0) {
+                shortcuts++;
+            }
+        }
+        return shortcuts;
+    }
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices.
+     * <p>
+     * El contrato es el mismo que el de
+     * {@link io.github.ldelpino.graph.Graph#djisktra(java.lang.Object, java.lang.Object, java.util.List)}:
+     * los atajos del camino encontrado se despliegan, por lo que la lista
+     * contiene los vertices originales del camino.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas corto si los vertices existen y
+     * existe un camino, si no existe un camino devuelve <b>-1</b>, si los
+     * vertices son iguales devuelve <b>0</b>, si los vertices no existen
+     * devuelve <b>null</b>.
+     */
+    public AritmethicNumber<?> djisktra(T infoTail, T infoHead, List<T> path) {
+        int tail = graph.indexOf(infoTail);
+        int head = graph.indexOf(infoHead);
+        if (tail < 0 || head < 0) {
+            return null;
+        }
+        double distance = searches.get().query(tail, head, path);
+        if (graph.isWeigthedEdge()) {
+            return new DoubleAritmethicNumber(distance);
+        }
+        return new IntegerAritmethicNumber((int) distance);
+    }
+
+    /**
+     * Agrega a un camino los vertices de una arista de la jerarquia,
+     * desplegando sus atajos, sin incluir la cola de la arista.
+     */
+    private void unpack(int tail, int head, int middle, List<T> path) {
+        int[] stack = new int[48];
+        int top = 0;
+        stack[top++] = tail;
+        stack[top++] = head;
+        stack[top++] = middle;
+        while (top > 0) {
+            int m = stack[--top];
+            int b = stack[--top];
+            int a = stack[--top];
+            if (m < 0) {
+                path.add(graph.infoOf(b));
+            } else {
+                if (top + 6 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                //el segundo tramo se apila primero para desplegar el primero
+                stack[top++] = m;
+                stack[top++] = b;
+                stack[top++] = upMiddles[arcIndex(upOffsets, upTargets, m, b)];
+                stack[top++] = a;
+                stack[top++] = m;
+                stack[top++] = downMiddles[arcIndex(downOffsets, downSources, m, a)];
+            }
+        }
+    }
+
+    private static int arcIndex(int[] offsets, int[] ends, int id, int end) {
+        int index = Arrays.binarySearch(ends, offsets[id], offsets[id + 1], end);
+        if (index < 0) {
+            throw new IllegalStateException("Missing hierarchy arc between " + id + " and " + end);
+        }
+        return index;
+    }
+
+    /**
+     * Calcula una huella de las aristas y los pesos de una instantanea.
+     */
+    private static long fingerprint(AbstractCsrGraph<?> graph) {
+        int count = graph.getVertexCount();
+        long hash = 1125899906842597L;
+        for (int id = 0; id < count; id++) {
+            hash = 31 * hash + graph.offset(id + 1);
+            for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                hash = 31 * hash + graph.target(k);
+                if (graph.isWeigthedEdge()) {
+                    hash = 31 * hash + Double.doubleToLongBits(graph.weight(k));
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static void sortRow(int[] ends, double[] weights, int[] middles, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int end = ends[i];
+            double weight = weights[i];
+            int middle = middles[i];
+            int j = i - 1;
+            while (j >= from && ends[j] > end) {
+                ends[j + 1] = ends[j];
+                weights[j + 1] = weights[j];
+                middles[j + 1] = middles[j];
+                j--;
+            }
+            ends[j + 1] = end;
+            weights[j + 1] = weight;
+            middles[j + 1] = middle;
+        }
+    }
+
+    /**
+     * Comprueba que las posiciones leidas sean una permutacion de los
+     * vertices.
+     */
+    private static void checkRanks(int[] ranks) throws StreamCorruptedException {
+        BitSet seen = new BitSet(ranks.length);
+        for (int rank : ranks) {
+            if (rank < 0 || rank >= ranks.length || seen.get(rank)) {
+                throw new StreamCorruptedException("Invalid hierarchy rank " + rank + ".");
+            }
+            seen.set(rank);
+        }
+    }
+
+    /**
+     * Comprueba que los inicios de las filas leidos sean crecientes desde
+     * <b>0</b> hasta la cantidad de aristas, y que los extremos y los vertices
+     * intermedios de las aristas sean vertices del grafo.
+     */
+    private static void checkArcs(int[] offsets, int[] ends, int[] middles, int count)
+            throws StreamCorruptedException {
+        if (offsets[0] != 0 || offsets[count] != ends.length) {
+            throw new StreamCorruptedException("Inconsistent hierarchy offsets.");
+        }
+        for (int id = 0; id < count; id++) {
+            if (offsets[id] > offsets[id + 1]) {
+                throw new StreamCorruptedException("Decreasing hierarchy offset at vertex " + id + ".");
+            }
+        }
+        for (int k = 0; k < ends.length; k++) {
+            if (ends[k] < 0 || ends[k] >= count || middles[k] < -1 || middles[k] >= count) {
+                throw new StreamCorruptedException("Invalid hierarchy arc " + k + ".");
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in, int length) throws IOException {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in, int length) throws IOException {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    /**
+     * Las aristas de salida o de entrada de un vertice durante la
+     * contraccion.
+     */
+    private static final class Arcs {
+
+        private int[] heads = new int[4];
+        private double[] weights = new double[4];
+        private int[] middles = new int[4];
+        private int size;
+
+        int indexOf(int head) {
+            for (int i = 0; i < size; i++) {
+                if (heads[i] == head) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void add(int head, double weight, int middle) {
+            if (size == heads.length) {
+                heads = Arrays.copyOf(heads, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            heads[size] = head;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+        }
+
+        void remove(int head) {
+            int i = indexOf(head);
+            size--;
+            heads[i] = heads[size];
+            weights[i] = weights[size];
+            middles[i] = middles[size];
+        }
+
+        void copyTo(int[] heads, double[] weights, int[] middles, int position) {
+            System.arraycopy(this.heads, 0, heads, position, size);
+            System.arraycopy(this.weights, 0, weights, position, size);
+            System.arraycopy(this.middles, 0, middles, position, size);
+        }
+    }
+
+    /**
+     * El grafo dinamico sobre el que se contraen los vertices.
+     * <p>
+     * Al contraer un vertice se elimina de las listas de sus vecinos, por lo
+     * que las listas de los vertices no contraidos solo contienen vertices no
+     * contraidos, y las listas de un vertice contraido solo contienen vertices
+     * contraidos despues que el.</p>
+     */
+    private static final class Contraction {
+
+        private final Arcs[] outs;
+
+        /**
+         * Las aristas de entrada de cada vertice, la cabeza de cada arista es
+         * el vertice que hace funcion de cola.
+         */
+        private final Arcs[] ins;
+        private final int[] deletedNeighbors;
+
+        /**
+         * El peso del camino por el vertice que se contrae hacia cada cabeza de
+         * sus aristas de salida, o infinito negativo si el vertice no es una
+         * cabeza.
+         */
+        private final double[] bounds;
+        private final double[] distances;
+        private final int[] touched;
+        private int touchedSize;
+        private final IndexedDaryHeap heap;
+
+        Contraction(int count) {
+            this.outs = new Arcs[count];
+            this.ins = new Arcs[count];
+            for (int id = 0; id < count; id++) {
+                outs[id] = new Arcs();
+                ins[id] = new Arcs();
+            }
+            this.deletedNeighbors = new int[count];
+            this.bounds = new double[count];
+            Arrays.fill(bounds, Double.NEGATIVE_INFINITY);
+            this.distances = new double[count];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            this.touched = new int[count];
+            this.heap = new IndexedDaryHeap(4, count);
+        }
+
+        /**
+         * Agrega una arista, o disminuye su peso si ya existe con un peso
+         * mayor.
+         */
+        void connect(int tail, int head, double weight, int middle) {
+            Arcs out = outs[tail];
+            int i = out.indexOf(head);
+            if (i < 0) {
+                out.add(head, weight, middle);
+                ins[head].add(tail, weight, middle);
+            } else if (weight < out.weights[i]) {
+                out.weights[i] = weight;
+                out.middles[i] = middle;
+                Arcs in = ins[head];
+                int j = in.indexOf(tail);
+                in.weights[j] = weight;
+                in.middles[j] = middle;
+            }
+        }
+
+        /**
+         * Contrae todos los vertices en orden de importancia.
+         *
+         * @return la posicion de cada vertice en el orden de contraccion.
+         */
+        int[] contractAll() {
+            int count = outs.length;
+            int[] ranks = new int[count];
+            IndexedDaryHeap queue = new IndexedDaryHeap(4, count);
+            for (int id = 0; id < count; id++) {
+                queue.insertOrDecrease(id, priority(id));
+            }
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                int id = queue.poll();
+                double priority = priority(id);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.insertOrDecrease(id, priority);
+                    continue;
+                }
+                contract(id, false);
+                ranks[id] = rank++;
+            }
+            return ranks;
+        }
+
+        private double priority(int id) {
+            return 2 * (contract(id, true) - outs[id].size - ins[id].size) + deletedNeighbors[id];
+        }
+
+        /**
+         * Contrae un vertice, o simula su contraccion.
+         *
+         * @return la cantidad de atajos necesarios.
+         */
+        private int contract(int id, boolean simulate) {
+            Arcs in = ins[id];
+            Arcs out = outs[id];
+            double maxOut = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < out.size; j++) {
+                maxOut = Math.max(maxOut, out.weights[j]);
+            }
+            int shortcuts = 0;
+            for (int i = 0; i < in.size && out.size > 0; i++) {
+                int tail = in.heads[i];
+                int remaining = 0;
+                for (int j = 0; j < out.size; j++) {
+                    int head = out.heads[j];
+                    if (head != tail) {
+                        bounds[head] = in.weights[i] + out.weights[j];
+                        remaining++;
+                    }
+                }
+                witness(tail, id, in.weights[i] + maxOut, remaining);
+                for (int j = 0; j < out.size; j++) {
+                    int head = out.heads[j];
+                    double weight = in.weights[i] + out.weights[j];
+                    if (head != tail && distances[head] > weight) {
+                        shortcuts++;
+                        if (!simulate) {
+                            connect(tail, head, weight, id);
+                        }
+                    }
+                }
+                reset();
+                for (int j = 0; j < out.size; j++) {
+                    bounds[out.heads[j]] = Double.NEGATIVE_INFINITY;
+                }
+            }
+            if (!simulate) {
+                for (int j = 0; j < out.size; j++) {
+                    ins[out.heads[j]].remove(id);
+                    deletedNeighbors[out.heads[j]]++;
+                }
+                for (int i = 0; i < in.size; i++) {
+                    outs[in.heads[i]].remove(id);
+                    deletedNeighbors[in.heads[i]]++;
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Busca los caminos mas cortos desde un vertice que no pasan por el
+         * vertice contraido, hasta una distancia maxima o hasta encontrar un
+         * camino alternativo hacia cada cabeza de las aristas de salida del
+         * vertice contraido.
+         */
+        private void witness(int source, int ignored, double limit, int remaining) {
+            distances[source] = 0;
+            touched[touchedSize++] = source;
+            heap.insertOrDecrease(source, 0);
+            int settled = 0;
+            while (remaining > 0 && !heap.isEmpty() && heap.peekKey() <= limit && settled++ < WITNESS_LIMIT) {
+                int id = heap.poll();
+                Arcs out = outs[id];
+                for (int j = 0; j < out.size; j++) {
+                    int head = out.heads[j];
+                    if (head == ignored) {
+                        continue;
+                    }
+                    double candidate = distances[id] + out.weights[j];
+                    if (candidate < distances[head]) {
+                        if (candidate <= bounds[head] && distances[head] > bounds[head]) {
+                            remaining--;
+                        }
+                        if (distances[head] == Double.POSITIVE_INFINITY) {
+                            touched[touchedSize++] = head;
+                        }
+                        distances[head] = candidate;
+                        heap.insertOrDecrease(head, candidate);
+                    }
+                }
+            }
+            heap.clear();
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedSize; i++) {
+                distances[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touchedSize = 0;
+        }
+    }
+
+    /**
+     * El estado de una busqueda bidireccional, reutilizado por las consultas
+     * de un mismo hilo.
+     */
+    private final class Search {
+
+        private final double[][] distances = new double[2][];
+        private final int[][] parents = new int[2][];
+
+        /**
+         * La posicion de la arista por la cual se alcanzo cada vertice, en el
+         * grafo ascendente hacia adelante y en el descendente hacia atras.
+         */
+        private final int[][] arcs = new int[2][];
+        private final IndexedDaryHeap[] heaps = new IndexedDaryHeap[2];
+        private final int[] touched;
+        private int touchedSize;
+
+        Search() {
+            int count = ranks.length;
+            for (int side = 0; side < 2; side++) {
+                distances[side] = new double[count];
+                Arrays.fill(distances[side], Double.POSITIVE_INFINITY);
+                parents[side] = new int[count];
+                arcs[side] = new int[count];
+                heaps[side] = new IndexedDaryHeap(4, count);
+            }
+            this.touched = new int[count];
+        }
+
+        double query(int tail, int head, List<T> path) {
+            if (tail == head) {
+                path.add(graph.infoOf(tail));
+                return 0;
+            }
+            try {
+                visit(0, tail, 0, -1, -1);
+                visit(1, head, 0, -1, -1);
+                double best = Double.POSITIVE_INFINITY;
+                int meeting = -1;
+                while (!heaps[0].isEmpty() || !heaps[1].isEmpty()) {
+                    int side = heaps[0].peekKey() <= heaps[1].peekKey() ? 0 : 1;
+                    //una busqueda termina cuando no puede mejorar el camino
+                    if (heaps[side].peekKey() >= best) {
+                        heaps[side].clear();
+                        continue;
+                    }
+                    int id = heaps[side].poll();
+                    double through = distances[0][id] + distances[1][id];
+                    if (through < best) {
+                        best = through;
+                        meeting = id;
+                    }
+                    int[] offsets = side == 0 ? upOffsets : downOffsets;
+                    int[] ends = side == 0 ? upTargets : downSources;
+                    double[] weights = side == 0 ? upWeights : downWeights;
+                    for (int k = offsets[id]; k < offsets[id + 1]; k++) {
+                        double candidate = distances[side][id] + weights[k];
+                        if (candidate < distances[side][ends[k]]) {
+                            visit(side, ends[k], candidate, id, k);
+                        }
+                    }
+                }
+                if (meeting < 0) {
+                    return -1;
+                }
+                List<T> forward = new ArrayList<>();
+                forward.add(graph.infoOf(tail));
+                int[] chain = new int[16];
+                int length = 0;
+                for (int id = meeting; parents[0][id] >= 0; id = parents[0][id]) {
+                    if (length == chain.length) {
+                        chain = Arrays.copyOf(chain, length * 2);
+                    }
+                    chain[length++] = id;
+                }
+                while (length > 0) {
+                    int id = chain[--length];
+                    unpack(parents[0][id], id, upMiddles[arcs[0][id]], forward);
+                }
+                for (int id = meeting; parents[1][id] >= 0; id = parents[1][id]) {
+                    unpack(id, parents[1][id], downMiddles[arcs[1][id]], forward);
+                }
+                path.addAll(forward);
+                return best;
+            } finally {
+                for (int i = 0; i < touchedSize; i++) {
+                    int id = touched[i];
+                    distances[0][id] = Double.POSITIVE_INFINITY;
+                    distances[1][id] = Double.POSITIVE_INFINITY;
+                }
+                touchedSize = 0;
+                heaps[0].clear();
+                heaps[1].clear();
+            }
+        }
+
+        private void visit(int side, int id, double distance, int parent, int arc) {
+            if (distances[0][id] == Double.POSITIVE_INFINITY && distances[1][id] == Double.POSITIVE_INFINITY) {
+                touched[touchedSize++] = id;
+            }
+            distances[side][id] = distance;
+            parents[side][id] = parent;
+            arcs[side][id] = arc;
+            heaps[side].insertOrDecrease(id, distance);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Permite calcular en paralelo la distancia mas corta desde un vertice a todos
+ * los vertices de una instantanea de un grafo.
+ * <p>
+ * Se utiliza el algoritmo <b>delta-stepping</b>: los vertices se agrupan en
+ * cubetas de ancho <b>delta</b> segun su distancia provisional y las cubetas
+ * se procesan en orden. Las aristas ligeras, de peso menor o igual que delta,
+ * se relajan en fases repetidas hasta que la cubeta actual queda vacia, y las
+ * aristas pesadas una sola vez al terminar la cubeta. Los vertices de cada fase
+ * se reparten entre las tareas de un
+ * {@link java.util.concurrent.ForkJoinPool}, y las distancias se almacenan en
+ * un arreglo atomico que cada tarea disminuye con operaciones de comparacion e
+ * intercambio.</p>
+ * <p>
+ * Un delta pequeno se aproxima al algoritmo de <b>Djisktra</b>, con menos
+ * trabajo repetido y menos paralelismo, y un delta grande al algoritmo de
+ * <b>Bellman-Ford</b>. Si no se establece, delta es el peso promedio de las
+ * aristas. Las aristas no pueden tener peso negativo, si el grafo no tiene peso
+ * en las aristas cada arista tiene peso <b>1</b>.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.ShortestDistances
+ * @see io.github.ldelpino.graph.api.CancellationToken
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class DeltaStepping<T> {
+
+    /**
+     * La cantidad minima de vertices que procesa una tarea.
+     */
+    private static final int GRAIN = 1 << 10;
+
+    /**
+     * La representacion de una distancia infinita en el arreglo atomico.
+     */
+    private static final long INFINITY = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    private final AbstractCsrGraph<T> graph;
+    private final double delta;
+    private final ForkJoinPool pool;
+    private final boolean weighted;
+
+    /**
+     * Crea un nuevo calculo con delta igual al peso promedio de las aristas,
+     * que se ejecuta en el
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param graph la instantanea del grafo.
+     * @throws IllegalArgumentException si alguna arista tiene peso negativo.
+     */
+    public DeltaStepping(AbstractCsrGraph<T> graph) {
+        this(graph, Double.NaN, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un nuevo calculo que se ejecuta en el
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param graph la instantanea del grafo.
+     * @param delta el ancho de las cubetas.
+     * @throws IllegalArgumentException si delta no es positivo o alguna
+     * arista tiene peso negativo.
+     */
+    public DeltaStepping(AbstractCsrGraph<T> graph, double delta) {
+        this(graph, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un nuevo calculo.
+     *
+     * @param graph la instantanea del grafo.
+     * @param delta el ancho de las cubetas, o {@link java.lang.Double#NaN} para
+     * utilizar el peso promedio de las aristas.
+     * @param pool el conjunto de hilos en el cual relajar las aristas.
+     * @throws IllegalArgumentException si delta no es positivo o alguna
+     * arista tiene peso negativo.
+     */
+    public DeltaStepping(AbstractCsrGraph<T> graph, double delta, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.weighted = graph.isWeigthedEdge();
+        long arcs = graph.offset(graph.getVertexCount());
+        double total = 0;
+        if (weighted) {
+            for (long k = 0; k < arcs; k++) {
+                double weight = graph.weight(k);
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Negative edge weight: " + weight);
+                }
+                total += weight;
+            }
+        } else {
+            total = arcs;
+        }
+        if (Double.isNaN(delta)) {
+            delta = arcs > 0 && total > 0 ? total / arcs : 1;
+        }
+        if (!(delta > 0) || Double.isInfinite(delta)) {
+            throw new IllegalArgumentException("Delta out of (0, Infinity): " + delta);
+        }
+        this.delta = delta;
+    }
+
+    /**
+     * Devuelve el ancho de las cubetas.
+     *
+     * @return el ancho de las cubetas.
+     */
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * Calcula la distancia mas corta desde un vertice a todos los vertices.
+     *
+     * @param source el vertice inicial.
+     * @return la distancia de cada vertice al vertice inicial, o <b>null</b> si
+     * el vertice no existe.
+     */
+    public ShortestDistances<T> search(T source) {
+        return search(source, new CancellationToken());
+    }
+
+    /**
+     * Calcula la distancia mas corta desde un vertice a todos los vertices.
+     * <p>
+     * La cancelacion se consulta entre cada fase y durante la relajacion de
+     * cada tarea.</p>
+     *
+     * @param source el vertice inicial.
+     * @param token el objeto que permite cancelar el calculo.
+     * @return la distancia de cada vertice al vertice inicial, o <b>null</b> si
+     * el vertice no existe.
+     * @throws CancellationException si se solicito la cancelacion antes de
+     * terminar el calculo.
+     */
+    public ShortestDistances<T> search(T source, CancellationToken token) {
+        int root = graph.indexOf(source);
+        if (root < 0) {
+            return null;
+        }
+        int count = graph.getVertexCount();
+        AtomicLongArray distances = new AtomicLongArray(count);
+        for (int id = 0; id < count; id++) {
+            distances.set(id, INFINITY);
+        }
+        distances.set(root, Double.doubleToRawLongBits(0));
+        TreeMap<Long, Bucket> buckets = new TreeMap<>();
+        buckets.computeIfAbsent(0L, (key) -> new Bucket()).add(root);
+        //la fase en la que cada vertice fue agregado a una frontera o a la
+        //lista de vertices de la cubeta actual
+        int[] frontierStamps = new int[count];
+        int[] settledStamps = new int[count];
+        int phase = 0;
+        int round = 0;
+        while (!buckets.isEmpty()) {
+            Map.Entry<Long, Bucket> first = buckets.pollFirstEntry();
+            long index = first.getKey();
+            Bucket current = first.getValue();
+            Bucket settled = new Bucket();
+            round++;
+            while (current != null) {
+                checkCancelled(token);
+                phase++;
+                Bucket frontier = new Bucket();
+                for (int i = 0; i < current.size; i++) {
+                    int id = current.ids[i];
+                    //se omiten los vertices repetidos y los que ya disminuyeron
+                    //su distancia a una cubeta anterior en la misma fase
+                    if (frontierStamps[id] != phase && bucketOf(distances.get(id)) == index) {
+                        frontierStamps[id] = phase;
+                        frontier.add(id);
+                        if (settledStamps[id] != round) {
+                            settledStamps[id] = round;
+                            settled.add(id);
+                        }
+                    }
+                }
+                enqueue(buckets, distances, relax(distances, frontier, true, token));
+                current = buckets.remove(index);
+            }
+            checkCancelled(token);
+            enqueue(buckets, distances, relax(distances, settled, false, token));
+        }
+        double[] result = new double[count];
+        for (int id = 0; id < count; id++) {
+            result[id] = Double.longBitsToDouble(distances.get(id));
+        }
+        return new ShortestDistances<>(graph, root, result);
+    }
+
+    /**
+     * Relaja en paralelo las aristas ligeras o pesadas de un grupo de
+     * vertices.
+     */
+    private List<Relax> relax(AtomicLongArray distances, Bucket vertices, boolean light,
+            CancellationToken token) {
+        int tasks = (int) Math.max(1, Math.min(4L * pool.getParallelism(),
+                ((long) vertices.size + GRAIN - 1) / GRAIN));
+        List<Relax> steps = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            steps.add(new Relax(distances, vertices.ids, (int) ((long) vertices.size * i / tasks),
+                    (int) ((long) vertices.size * (i + 1) / tasks), light, token));
+        }
+        if (steps.size() == 1) {
+            steps.get(0).invoke();
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(steps)));
+        }
+        checkCancelled(token);
+        return steps;
+    }
+
+    /**
+     * Agrega a su cubeta los vertices cuya distancia disminuyo.
+     */
+    private void enqueue(TreeMap<Long, Bucket> buckets, AtomicLongArray distances, List<Relax> steps) {
+        for (Relax step : steps) {
+            for (int i = 0; i < step.improved.size; i++) {
+                int id = step.improved.ids[i];
+                buckets.computeIfAbsent(bucketOf(distances.get(id)), (key) -> new Bucket()).add(id);
+            }
+        }
+    }
+
+    private long bucketOf(long distance) {
+        return (long) (Double.longBitsToDouble(distance) / delta);
+    }
+
+    private double weight(long position) {
+        return weighted ? graph.weight(position) : 1;
+    }
+
+    private static void checkCancelled(CancellationToken token) {
+        if (token.isCancelled()) {
+            throw new CancellationException("Shortest path search cancelled.");
+        }
+    }
+
+    /**
+     * Una lista de identificadores de vertices.
+     */
+    private static final class Bucket {
+
+        private int[] ids = new int[16];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * Un rango de vertices cuyas aristas ligeras o pesadas se relajan.
+     */
+    private final class Relax extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicLongArray distances;
+        private final int[] vertices;
+        private final int from;
+        private final int to;
+        private final boolean light;
+        private final CancellationToken token;
+
+        /**
+         * Los vertices cuya distancia disminuyo en esta tarea.
+         */
+        private final Bucket improved = new Bucket();
+
+        Relax(AtomicLongArray distances, int[] vertices, int from, int to, boolean light,
+                CancellationToken token) {
+            this.distances = distances;
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+            this.token = token;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to && !token.isCancelled(); i++) {
+                int id = vertices[i];
+                double distance = Double.longBitsToDouble(distances.get(id));
+                for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                    double weight = weight(k);
+                    if ((weight <= delta) == light && decrease(graph.target(k), distance + weight)) {
+                        improved.add(graph.target(k));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Disminuye la distancia de un vertice si la nueva distancia es
+         * menor.
+         */
+        private boolean decrease(int id, double distance) {
+            long bits = Double.doubleToRawLongBits(distance);
+            long current = distances.get(id);
+            //las distancias no son negativas, por lo que el orden de sus bits
+            //coincide con el orden de sus valores
+            while (bits < current) {
+                if (distances.compareAndSet(id, current, bits)) {
+                    return true;
+                }
+                current = distances.get(id);
+            }
+            return false;
+        }
+    }
+}
@@ -16,9 +16,15 @@
  */
 package io.github.ldelpino.graph.api;
 
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import io.github.ldelpino.graph.vertex.Vertex;
 
 /**
@@ -51,6 +57,8 @@ import io.github.ldelpino.graph.vertex.Vertex;
  */
 public abstract class DirectedGraph<T> extends AbstractGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * Crea un nuevo grafo dirigido.
      */
@@ -71,6 +79,9 @@ public abstract class DirectedGraph<T> extends AbstractGraph<T> {
 
     /**
      * Establece si existe al menos un ciclo dentro del grafo.
+     * <p>
+     * Se realiza un unico recorrido en profundidad sobre todo el grafo, cada
+     * vertice se recorre una sola vez.</p>
      *
      * @return <b>true</b> si el grafo contiene al menos un ciclo, de lo
      * contrario devuelve<b>false</b>.
@@ -78,12 +89,12 @@ public abstract class DirectedGraph<T> extends AbstractGraph<T> {
     @Override
     public boolean isCyclic() {
         boolean cycle = false;
+        GraphTraversal<T> traversal = newTraversal();
         Iterator<Vertex<T>> iter = getVertices0().iterator();
         while (!cycle && iter.hasNext()) {
             Vertex<T> current = iter.next();
-            cycle = cycleInNodeDG(current.getAdjacents(), current, new LinkedList<>());
+            cycle = !traversal.isVisited(current) && cycleInNodeDG(current, traversal);
         }
-
         return cycle;
     }
 
@@ -99,8 +110,8 @@ public abstract class DirectedGraph<T> extends AbstractGraph<T> {
     @Override
     public int degree(T info) {
         int degree = -1;
-        if (existVertex(info)) {
-            Vertex<T> vertex = getVertex(info);
+        Vertex<T> vertex = getVertex(info);
+        if (vertex != null) {
             degree = inDegreeDG(vertex) + outDegree(vertex);
         }
         return degree;
@@ -119,6 +130,193 @@ public abstract class DirectedGraph<T> extends AbstractGraph<T> {
         return getVertex(infoTail).removeEdge(getVertex(infoHead));
     }
 
+    /**
+     * Calcula las componentes fuertemente conexas del grafo.
+     * <p>
+     * Se utiliza el algoritmo de <b>Tarjan</b> con una pila explicita, por lo
+     * que el calculo recorre una sola vez los vertices y las aristas y no
+     * depende de la profundidad del grafo. Tarjan encuentra las componentes en
+     * orden topologico inverso, los identificadores se invierten para que las
+     * componentes queden en orden topologico.</p>
+     *
+     * @return las componentes fuertemente conexas y su grafo de componentes.
+     */
+    public StronglyConnectedComponents<T> stronglyConnectedComponents() {
+        int bound = getIndexBound();
+        //numero de descubrimiento de cada vertice, 0 si no ha sido visitado
+        int[] order = new int[bound];
+        int[] low = new int[bound];
+        int[] components = new int[bound];
+        Arrays.fill(components, -1);
+        List<List<T>> members = new ArrayList<>();
+        Deque<Vertex<T>> stack = new ArrayDeque<>();
+        Deque<Vertex<T>> path = new ArrayDeque<>();
+        Deque<Iterator<Vertex<T>>> iterators = new ArrayDeque<>();
+        int counter = 0;
+        for (Vertex<T> root : getVertices0()) {
+            if (order[root.getIndex()] != 0) {
+                continue;
+            }
+            order[root.getIndex()] = low[root.getIndex()] = ++counter;
+            stack.push(root);
+            path.push(root);
+            iterators.push(root.getAdjacents().iterator());
+            while (!path.isEmpty()) {
+                Vertex<T> current = path.peek();
+                int index = current.getIndex();
+                Iterator<Vertex<T>> iter = iterators.peek();
+                if (iter.hasNext()) {
+                    Vertex<T> adjacent = iter.next();
+                    int next = adjacent.getIndex();
+                    if (order[next] == 0) {
+                        order[next] = low[next] = ++counter;
+                        stack.push(adjacent);
+                        path.push(adjacent);
+                        iterators.push(adjacent.getAdjacents().iterator());
+                    } else if (components[next] < 0) {
+                        //el adyacente aun esta en la pila
+                        low[index] = Math.min(low[index], order[next]);
+                    }
+                } else {
+                    path.pop();
+                    iterators.pop();
+                    if (low[index] == order[index]) {
+                        List<T> component = new ArrayList<>();
+                        Vertex<T> member;
+                        do {
+                            member = stack.pop();
+                            components[member.getIndex()] = members.size();
+                            component.add(member.getInfo());
+                        } while (member != current);
+                        Collections.reverse(component);
+                        members.add(Collections.unmodifiableList(component));
+                    }
+                    if (!path.isEmpty()) {
+                        int parent = path.peek().getIndex();
+                        low[parent] = Math.min(low[parent], low[index]);
+                    }
+                }
+            }
+        }
+        int count = members.size();
+        for (int i = 0; i < bound; i++) {
+            if (components[i] >= 0) {
+                components[i] = count - 1 - components[i];
+            }
+        }
+        Collections.reverse(members);
+        return new StronglyConnectedComponents<>(this, components, members, condensation(components, count));
+    }
+
+    /**
+     * Devuelve los vertices del grafo en orden topologico.
+     * <p>
+     * En el orden topologico cada vertice aparece antes que sus adyacentes. Se
+     * utiliza el algoritmo de <b>Kahn</b>: la cantidad de aristas de entrada
+     * que mantiene cada vertice se copia en un arreglo indexado por su
+     * posicion, y cada vez que un vertice se agrega al orden se decrementa el
+     * contador de sus adyacentes, los vertices cuyo contador llega a cero se
+     * agregan a la cola. El costo es lineal en la cantidad de vertices y
+     * aristas.</p>
+     *
+     * @return la lista de vertices en orden topologico.
+     * @throws IllegalStateException si el grafo tiene ciclos.
+     */
+    public List<T> topologicalSort() {
+        List<T> sorted = new ArrayList<>(getVertexCount());
+        for (Vertex<T> vertex : topologicalOrder()) {
+            sorted.add(vertex.getInfo());
+        }
+        return sorted;
+    }
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices de un grafo dirigido
+     * aciclico.
+     * <p>
+     * Los vertices se relajan en orden topologico a partir del vertice
+     * inicial, por lo que el costo es lineal y, a diferencia de
+     * {@link #djisktra(java.lang.Object, java.lang.Object, java.util.List)},
+     * las aristas pueden tener peso negativo. El peso de las aristas y el tipo
+     * de la distancia siguen las mismas reglas que el algoritmo de
+     * <b>Djisktra</b>.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas corto si los vertices existen y
+     * existe un camino, que puede ser negativa, si no existe un camino o los
+     * vertices no existen devuelve <b>null</b> y la lista queda vacia.
+     * @throws IllegalStateException si el grafo tiene ciclos.
+     */
+    public AritmethicNumber<?> dagShortestPath(T infoTail, T infoHead, List<T> path) {
+        return dagPath(infoTail, infoHead, path, false);
+    }
+
+    /**
+     * Devuelve el camino mas largo entre dos vertices de un grafo dirigido
+     * aciclico.
+     * <p>
+     * Los vertices se relajan en orden topologico a partir del vertice
+     * inicial maximizando la distancia, por lo que el costo es lineal. El peso
+     * de las aristas y el tipo de la distancia siguen las mismas reglas que el
+     * algoritmo de <b>Djisktra</b>.</p>
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param path la lista vacia en la que se agregan los vertices del camino,
+     * desde el vertice inicial hasta el vertice final.
+     * @return la distancia del camino mas largo si los vertices existen y
+     * existe un camino, que puede ser negativa, si no existe un camino o los
+     * vertices no existen devuelve <b>null</b> y la lista queda vacia.
+     * @throws IllegalStateException si el grafo tiene ciclos.
+     */
+    public AritmethicNumber<?> dagLongestPath(T infoTail, T infoHead, List<T> path) {
+        return dagPath(infoTail, infoHead, path, true);
+    }
+
+    /**
+     * Devuelve el camino critico de un grafo dirigido aciclico, o sea, el
+     * camino mas largo entre cualquier par de vertices.
+     * <p>
+     * Todos los vertices se consideran iniciales y se relajan en orden
+     * topologico, por lo que el costo es lineal.</p>
+     *
+     * @param path la lista vacia en la que se agregan los vertices del camino
+     * critico.
+     * @return la distancia del camino critico, <b>0</b> si el grafo no tiene
+     * aristas.
+     * @throws IllegalStateException si el grafo tiene ciclos.
+     */
+    public AritmethicNumber<?> criticalPath(List<T> path) {
+        List<Vertex<T>> order = topologicalOrder();
+        int count = order.size();
+        int[] positions = positions(order);
+        double[] distances = new double[count];
+        int[] parents = new int[count];
+        Arrays.fill(parents, -1);
+        int last = -1;
+        for (int i = 0; i < count; i++) {
+            Vertex<T> vertex = order.get(i);
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int next = positions[adjacent.getIndex()];
+                double candidate = distances[i] + edgeWeight(vertex.getEdge(adjacent));
+                if (candidate > distances[next] || (parents[next] < 0 && candidate == distances[next])) {
+                    distances[next] = candidate;
+                    parents[next] = i;
+                }
+            }
+            if (last < 0 || distances[i] > distances[last]) {
+                last = i;
+            }
+        }
+        if (last >= 0) {
+            path.addAll(pathTo(order, parents, last));
+        }
+        return distance(last >= 0 ? distances[last] : 0);
+    }
+
     /**
      * Establece si dos vertices son adyacentes entre si.
      * @param infoTail el vertice que hace funcion de cola.
@@ -132,45 +330,171 @@ public abstract class DirectedGraph<T> extends AbstractGraph<T> {
 
     /**
      * Devuelve la cantidad de adyacentes que hay con el vertice establecido.
+     * <p>
+     * La cantidad es el tamano de la tabla de aristas de entrada del vertice,
+     * que se mantiene al insertar y remover aristas.</p>
      *
      * @param vertex el indice del vertice a buscar los adyacentes con el.
      * @return la cantidad de adyacentes con el vertice.
      */
     protected int inDegreeDG(Vertex<T> vertex) {
-        int degree = 0;
-        Iterator<Vertex<T>> iter = getVertices0().iterator();
-        while (iter.hasNext()) {
-            Vertex<T> next = iter.next();
-            if (next.isAdjacents(vertex)) {
-                degree++;
-            }
-        }
-        return degree;
+        return vertex.getInEdgesCount();
     }
 
     /**
-     * Establece si el grafo tiene ciclos o no de forma recursiva.
+     * Establece si existe un ciclo entre los vertices alcanzables desde un
+     * vertice.
+     * <p>
+     * El recorrido en profundidad encuentra un ciclo cuando examina una arista
+     * hacia un vertice que aun esta en la pila del recorrido. Los vertices ya
+     * visitados por el recorrido en llamadas anteriores no se vuelven a
+     * recorrer.</p>
      *
-     * @param adjacents la lista de adyacentes del vertice inicial.
      * @param vertex el vertice inicial con el cual encontrar un ciclo.
-     * @param visited la lista de vertices visitados.
+     * @param traversal el recorrido con los vertices visitados.
      * @return <b>true</b> si el grafo tiene cicos, de lo contrario devuelve
      * <b>false</b>.
      */
-    protected boolean cycleInNodeDG(Collection<Vertex<T>> adjacents, Vertex<T> vertex, Collection<Vertex<T>> visited) {
-        boolean cycle = false;
-        Iterator<Vertex<T>> iter = adjacents.iterator();
-        while (!cycle && iter.hasNext()) {
-            Vertex<T> current = iter.next();
-            if (!current.equals(vertex)) {
-                if (!visited.contains(current)) {
-                    visited.add(current);
-                    cycle = cycleInNodeDG(current.getAdjacents(), vertex, visited);
+    protected boolean cycleInNodeDG(Vertex<T> vertex, GraphTraversal<T> traversal) {
+        return !traversal.depthFirst(vertex, new GraphTraversal.Visitor<>() {
+            @Override
+            public boolean examine(Vertex<T> tail, Vertex<T> head, GraphTraversal.State state) {
+                return state != GraphTraversal.State.ACTIVE;
+            }
+        });
+    }
+
+    /**
+     * Construye el grafo de componentes, sin aristas repetidas ni lazos.
+     *
+     * @param components la componente de cada vertice por su posicion.
+     * @param count la cantidad de componentes.
+     * @return la matriz de adyacencia del grafo de componentes.
+     */
+    private SparseMatrix condensation(int[] components, int count) {
+        int[] offsets = new int[count + 1];
+        for (Vertex<T> vertex : getVertices0()) {
+            int component = components[vertex.getIndex()];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                if (components[adjacent.getIndex()] != component) {
+                    offsets[component + 1]++;
                 }
-                continue;
             }
-            cycle = true;
         }
-        return cycle;
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] columns = new int[offsets[count]];
+        int[] positions = Arrays.copyOf(offsets, count);
+        for (Vertex<T> vertex : getVertices0()) {
+            int component = components[vertex.getIndex()];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int head = components[adjacent.getIndex()];
+                if (head != component) {
+                    columns[positions[component]++] = head;
+                }
+            }
+        }
+        //ordenar cada fila y eliminar las aristas repetidas
+        int size = 0;
+        int from = 0;
+        for (int i = 0; i < count; i++) {
+            int to = offsets[i + 1];
+            Arrays.sort(columns, from, to);
+            offsets[i] = size;
+            for (int k = from; k < to; k++) {
+                if (k == from || columns[k] != columns[k - 1]) {
+                    columns[size++] = columns[k];
+                }
+            }
+            from = to;
+        }
+        offsets[count] = size;
+        return SparseMatrix.wrap(count, count, offsets, Arrays.copyOf(columns, size), null);
+    }
+
+    /**
+     * Devuelve los vertices del grafo en orden topologico.
+     *
+     * @return la lista de vertices en orden topologico.
+     * @throws IllegalStateException si el grafo tiene ciclos.
+     */
+    protected List<Vertex<T>> topologicalOrder() {
+        int[] inDegrees = new int[getIndexBound()];
+        List<Vertex<T>> order = new ArrayList<>(getVertexCount());
+        for (Vertex<T> vertex : getVertices0()) {
+            inDegrees[vertex.getIndex()] = vertex.getInEdgesCount();
+            if (inDegrees[vertex.getIndex()] == 0) {
+                order.add(vertex);
+            }
+        }
+        //la lista de orden funciona como la cola del algoritmo
+        for (int first = 0; first < order.size(); first++) {
+            for (Vertex<T> adjacent : order.get(first).getAdjacents()) {
+                if (--inDegrees[adjacent.getIndex()] == 0) {
+                    order.add(adjacent);
+                }
+            }
+        }
+        if (order.size() != getVertexCount()) {
+            throw new IllegalStateException("The graph has at least one cycle.");
+        }
+        return order;
+    }
+
+    /**
+     * Busca el camino mas corto o mas largo entre dos vertices relajando los
+     * vertices en orden topologico.
+     */
+    private AritmethicNumber<?> dagPath(T infoTail, T infoHead, List<T> path, boolean longest) {
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail == null || vertexHead == null) {
+            return null;
+        }
+        List<Vertex<T>> order = topologicalOrder();
+        int count = order.size();
+        int[] positions = positions(order);
+        double[] distances = new double[count];
+        int[] parents = new int[count];
+        BitSet reached = new BitSet(count);
+        int tail = positions[vertexTail.getIndex()];
+        int head = positions[vertexHead.getIndex()];
+        parents[tail] = -1;
+        reached.set(tail);
+        //los vertices anteriores al inicial no son alcanzables desde el
+        for (int i = tail; i >= 0 && i < head; i = reached.nextSetBit(i + 1)) {
+            Vertex<T> vertex = order.get(i);
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int next = positions[adjacent.getIndex()];
+                double candidate = distances[i] + edgeWeight(vertex.getEdge(adjacent));
+                if (!reached.get(next) || (longest ? candidate > distances[next] : candidate < distances[next])) {
+                    distances[next] = candidate;
+                    parents[next] = i;
+                    reached.set(next);
+                }
+            }
+        }
+        if (!reached.get(head)) {
+            return null;
+        }
+        path.addAll(pathTo(order, parents, head));
+        return distance(distances[head]);
+    }
+
+    private int[] positions(List<Vertex<T>> order) {
+        int[] positions = new int[getIndexBound()];
+        for (int i = 0; i < order.size(); i++) {
+            positions[order.get(i).getIndex()] = i;
+        }
+        return positions;
+    }
+
+    private List<T> pathTo(List<Vertex<T>> order, int[] parents, int last) {
+        LinkedList<T> reversed = new LinkedList<>();
+        for (int i = last; i >= 0; i = parents[i]) {
+            reversed.addFirst(order.get(i).getInfo());
+        }
+        return reversed;
     }
 }
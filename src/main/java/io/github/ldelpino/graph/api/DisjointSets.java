@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Arrays;
+
+/**
+ * Permite mantener una particion de enteros no negativos en conjuntos
+ * disjuntos.
+ * <p>
+ * Cada conjunto se representa como un arbol en el que cada elemento almacena
+ * a su padre, la union enlaza la raiz del arbol de menor rango a la del arbol
+ * de mayor rango, por lo que la altura de los arboles es logaritmica. La union
+ * ademas comprime los caminos recorridos, mientras que la busqueda de la raiz
+ * no modifica los arboles, lo que permite consultar los conjuntos desde varios
+ * hilos mientras no se realicen uniones.</p>
+ * <p>
+ * Los elementos mayores que la capacidad se consideran conjuntos de un solo
+ * elemento.</p>
+ *
+ * @see io.github.ldelpino.graph.api.NotDirectedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+final class DisjointSets {
+
+    private int[] parents;
+    private byte[] ranks;
+
+    /**
+     * La cantidad de uniones que enlazaron dos conjuntos distintos.
+     */
+    private int unions;
+
+    /**
+     * Crea una nueva particion en la que cada elemento es un conjunto.
+     *
+     * @param capacity la cantidad de elementos.
+     */
+    DisjointSets(int capacity) {
+        this.parents = new int[0];
+        this.ranks = new byte[0];
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Aumenta la cantidad de elementos, los nuevos elementos son conjuntos de
+     * un solo elemento.
+     *
+     * @param capacity la cantidad minima de elementos.
+     */
+    void ensureCapacity(int capacity) {
+        int size = parents.length;
+        if (capacity > size) {
+            int newSize = Math.max(capacity, size + (size >> 1));
+            parents = Arrays.copyOf(parents, newSize);
+            ranks = Arrays.copyOf(ranks, newSize);
+            for (int i = size; i < newSize; i++) {
+                parents[i] = i;
+            }
+        }
+    }
+
+    /**
+     * Devuelve la raiz del conjunto de un elemento, sin modificar la
+     * particion.
+     *
+     * @param element el elemento.
+     * @return la raiz del conjunto.
+     */
+    int find(int element) {
+        if (element >= parents.length) {
+            return element;
+        }
+        while (parents[element] != element) {
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Une los conjuntos de dos elementos.
+     *
+     * @param first el primer elemento.
+     * @param second el segundo elemento.
+     * @return <b>true</b> si los elementos pertenecian a conjuntos distintos,
+     * de lo contrario devuelve <b>false</b>.
+     */
+    boolean union(int first, int second) {
+        ensureCapacity(Math.max(first, second) + 1);
+        int rootFirst = compress(first);
+        int rootSecond = compress(second);
+        if (rootFirst == rootSecond) {
+            return false;
+        }
+        if (ranks[rootFirst] < ranks[rootSecond]) {
+            parents[rootFirst] = rootSecond;
+        } else {
+            parents[rootSecond] = rootFirst;
+            if (ranks[rootFirst] == ranks[rootSecond]) {
+                ranks[rootFirst]++;
+            }
+        }
+        unions++;
+        return true;
+    }
+
+    /**
+     * Devuelve la cantidad de uniones de conjuntos distintos.
+     *
+     * @return la cantidad de uniones.
+     */
+    int getUnions() {
+        return unions;
+    }
+
+    /**
+     * Busca la raiz de un elemento reduciendo a la mitad el camino recorrido.
+     */
+    private int compress(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+}
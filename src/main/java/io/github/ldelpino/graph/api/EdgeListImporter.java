@@ -0,0 +1,489 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Permite cargar un grafo desde un fichero de texto con una lista de aristas.
+ * <p>
+ * Cada linea del fichero contiene una arista con la informacion del vertice
+ * que hace funcion de cola, la del vertice que hace funcion de cabeza y,
+ * opcionalmente, el peso de la arista. Los campos se separan con espacios,
+ * tabuladores, comas o puntos y comas, por lo que la clase lee tanto listas de
+ * aristas como ficheros CSV. Las lineas vacias y las que comienzan con
+ * <b>#</b> o <b>%</b> se ignoran.</p>
+ * <p>
+ * El fichero se divide en bloques que se leen con lecturas posicionales y se
+ * analizan en paralelo en un {@link java.util.concurrent.ForkJoinPool}. Cada
+ * campo se convierte a la informacion de un vertice una sola vez, a traves de
+ * un diccionario concurrente compartido por todos los bloques, por lo que los
+ * vertices repetidos comparten la misma instancia. Al terminar, los vertices se
+ * insertan en el orden en que aparecen en el fichero y las aristas se insertan
+ * con la insercion masiva del grafo, ver
+ * {@link io.github.ldelpino.graph.api.SimpleEdgeGraph#insertEdges(java.lang.Iterable)}.</p>
+ * <p>
+ * Las funciones de conversion son invocadas desde varios hilos a la vez, por lo
+ * que no deben depender de un estado compartido.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.SimpleEdgeGraph
+ * @see io.github.ldelpino.graph.api.WeightedEdgeGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class EdgeListImporter<T> {
+
+    /**
+     * El tamano maximo de un bloque del fichero.
+     */
+    private static final int CHUNK_SIZE = 1 << 24;
+
+    /**
+     * El tamano minimo de un bloque, los ficheros pequenos no se dividen.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * El tamano de las lecturas que completan la ultima linea de un bloque.
+     */
+    private static final int TAIL_READ_SIZE = 1 << 12;
+
+    private final Function<String, ? extends T> keys;
+    private final ForkJoinPool pool;
+
+    /**
+     * El tamano fijo de los bloques, o <b>0</b> si se calcula a partir del
+     * tamano del fichero.
+     */
+    private final long chunkSize;
+
+    /**
+     * Crea un nuevo importador que analiza el fichero en el
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param keys la conversion de un campo a la informacion de un vertice.
+     */
+    public EdgeListImporter(Function<String, ? extends T> keys) {
+        this(keys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un nuevo importador.
+     *
+     * @param keys la conversion de un campo a la informacion de un vertice.
+     * @param pool el conjunto de hilos en el cual analizar el fichero.
+     */
+    public EdgeListImporter(Function<String, ? extends T> keys, ForkJoinPool pool) {
+        this(keys, pool, 0);
+    }
+
+    /**
+     * Crea un nuevo importador que divide el fichero en bloques de un tamano
+     * fijo, permite probar las lineas que atraviesan el limite entre bloques
+     * sin crear ficheros grandes.
+     *
+     * @param keys la conversion de un campo a la informacion de un vertice.
+     * @param pool el conjunto de hilos en el cual analizar el fichero.
+     * @param chunkSize el tamano de los bloques, o <b>0</b> para calcularlo a
+     * partir del tamano del fichero.
+     */
+    EdgeListImporter(Function<String, ? extends T> keys, ForkJoinPool pool, long chunkSize) {
+        this.keys = keys;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Carga los vertices y las aristas de un fichero en un grafo.
+     * <p>
+     * Si las lineas contienen un peso, el peso se ignora.</p>
+     *
+     * @param <G> el tipo de grafo.
+     * @param file el fichero.
+     * @param graph el grafo.
+     * @return el grafo.
+     * @throws java.io.IOException si ocurre un error de lectura o alguna linea
+     * no contiene dos campos.
+     */
+    public <G extends SimpleVertexGraph<T> & SimpleEdgeGraph<T>> G load(Path file, G graph) throws IOException {
+        EdgeList<T> edges = parse(file, null);
+        graph.insertVertices(edges.vertices);
+        graph.insertEdges(edges.pairs());
+        return graph;
+    }
+
+    /**
+     * Carga los vertices y las aristas de un fichero en un grafo con aristas
+     * con peso.
+     *
+     * @param <K> el tipo de dato del peso de las aristas.
+     * @param <G> el tipo de grafo.
+     * @param file el fichero.
+     * @param graph el grafo.
+     * @param edgeWeights la conversion del tercer campo al peso de la arista.
+     * @return el grafo.
+     * @throws java.io.IOException si ocurre un error de lectura o alguna linea
+     * no contiene tres campos.
+     */
+    public <K, G extends SimpleVertexGraph<T> & WeightedEdgeGraph<T, K>> G loadWeightedEdges(Path file, G graph,
+            Function<String, ? extends K> edgeWeights) throws IOException {
+        EdgeList<T> edges = parse(file, edgeWeights);
+        graph.insertVertices(edges.vertices);
+        graph.insertEdges(edges.<K>weightedPairs());
+        return graph;
+    }
+
+    /**
+     * Carga los vertices y las aristas de un fichero en un grafo con vertices
+     * con peso.
+     *
+     * @param <K> el tipo de dato del peso de los vertices.
+     * @param <G> el tipo de grafo.
+     * @param file el fichero.
+     * @param graph el grafo.
+     * @param vertexWeigher el calculo del peso de cada vertice.
+     * @return el grafo.
+     * @throws java.io.IOException si ocurre un error de lectura o alguna linea
+     * no contiene dos campos.
+     */
+    public <K, G extends WeightedVertexGraph<T, K> & SimpleEdgeGraph<T>> G loadWeightedVertices(Path file, G graph,
+            Function<? super T, ? extends K> vertexWeigher) throws IOException {
+        EdgeList<T> edges = parse(file, null);
+        graph.insertVertices(edges.weighVertices(vertexWeigher));
+        graph.insertEdges(edges.pairs());
+        return graph;
+    }
+
+    /**
+     * Carga los vertices y las aristas de un fichero en un grafo con vertices y
+     * aristas con peso.
+     *
+     * @param <K> el tipo de dato del peso de los vertices.
+     * @param <R> el tipo de dato del peso de las aristas.
+     * @param <G> el tipo de grafo.
+     * @param file el fichero.
+     * @param graph el grafo.
+     * @param vertexWeigher el calculo del peso de cada vertice.
+     * @param edgeWeights la conversion del tercer campo al peso de la arista.
+     * @return el grafo.
+     * @throws java.io.IOException si ocurre un error de lectura o alguna linea
+     * no contiene tres campos.
+     */
+    public <K, R, G extends WeightedVertexGraph<T, K> & WeightedEdgeGraph<T, R>> G loadWeighted(Path file, G graph,
+            Function<? super T, ? extends K> vertexWeigher, Function<String, ? extends R> edgeWeights)
+            throws IOException {
+        EdgeList<T> edges = parse(file, edgeWeights);
+        graph.insertVertices(edges.weighVertices(vertexWeigher));
+        graph.insertEdges(edges.<R>weightedPairs());
+        return graph;
+    }
+
+    /**
+     * Analiza en paralelo los bloques de un fichero.
+     *
+     * @param file el fichero.
+     * @param edgeWeights la conversion del peso de las aristas, o <b>null</b>
+     * si el peso se ignora.
+     * @return las aristas del fichero.
+     */
+    private EdgeList<T> parse(Path file, Function<String, ?> edgeWeights) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = this.chunkSize;
+            if (chunkSize == 0) {
+                chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(CHUNK_SIZE, size / (4L * pool.getParallelism()) + 1));
+            }
+            Map<String, T> interned = new ConcurrentHashMap<>();
+            List<Chunk> chunks = new ArrayList<>();
+            for (long start = 0; start < size; start += chunkSize) {
+                chunks.add(new Chunk(channel, start, Math.min(size, start + chunkSize), size,
+                        interned, edgeWeights));
+            }
+            try {
+                pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            return new EdgeList<>(chunks);
+        }
+    }
+
+    /**
+     * Las aristas de todos los bloques de un fichero.
+     */
+    private static final class EdgeList<T> {
+
+        private final Set<T> vertices;
+        private final Object[] tails;
+        private final Object[] heads;
+        private final Object[] weights;
+
+        EdgeList(List<EdgeListImporter<T>.Chunk> chunks) {
+            this.vertices = new LinkedHashSet<>();
+            int count = 0;
+            boolean weighted = false;
+            for (EdgeListImporter<T>.Chunk chunk : chunks) {
+                vertices.addAll(chunk.vertices.values());
+                count = Math.addExact(count, chunk.size);
+                weighted |= chunk.weights != null;
+            }
+            this.tails = new Object[count];
+            this.heads = new Object[count];
+            this.weights = weighted ? new Object[count] : null;
+            int position = 0;
+            for (EdgeListImporter<T>.Chunk chunk : chunks) {
+                System.arraycopy(chunk.tails, 0, tails, position, chunk.size);
+                System.arraycopy(chunk.heads, 0, heads, position, chunk.size);
+                if (weighted) {
+                    System.arraycopy(chunk.weights, 0, weights, position, chunk.size);
+                }
+                position += chunk.size;
+            }
+        }
+
+        <K> Map<T, K> weighVertices(Function<? super T, ? extends K> vertexWeigher) {
+            Map<T, K> weighted = new LinkedHashMap<>(vertices.size() * 4 / 3 + 1);
+            for (T vertex : vertices) {
+                weighted.put(vertex, vertexWeigher.apply(vertex));
+            }
+            return weighted;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<EdgePair<T>> pairs() {
+            return new AbstractList<>() {
+                @Override
+                public EdgePair<T> get(int index) {
+                    return new EdgePair<>((T) tails[index], (T) heads[index]);
+                }
+
+                @Override
+                public int size() {
+                    return tails.length;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        <K> List<WeightedEdgePair<T, K>> weightedPairs() {
+            return new AbstractList<>() {
+                @Override
+                public WeightedEdgePair<T, K> get(int index) {
+                    return new WeightedEdgePair<>((T) tails[index], (T) heads[index], (K) weights[index]);
+                }
+
+                @Override
+                public int size() {
+                    return tails.length;
+                }
+            };
+        }
+    }
+
+    /**
+     * Un bloque del fichero, contiene las lineas que comienzan entre su inicio
+     * y su final.
+     */
+    private final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final long fileSize;
+        private final Map<String, T> interned;
+        private final Function<String, ?> edgeWeights;
+
+        /**
+         * Los vertices del bloque en el orden en que aparecen, indexados por
+         * el campo del que se obtuvieron.
+         */
+        private final Map<String, T> vertices = new LinkedHashMap<>();
+        private Object[] tails = new Object[16];
+        private Object[] heads = new Object[16];
+        private Object[] weights;
+        private int size;
+
+        Chunk(FileChannel channel, long start, long end, long fileSize, Map<String, T> interned,
+                Function<String, ?> edgeWeights) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.fileSize = fileSize;
+            this.interned = interned;
+            this.edgeWeights = edgeWeights;
+            this.weights = edgeWeights != null ? new Object[16] : null;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                parseLines(read());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Lee el bloque a partir del byte anterior a su inicio, hasta el final
+         * de la linea que contiene su ultimo byte.
+         */
+        private byte[] read() throws IOException {
+            long from = Math.max(0, start - 1);
+            byte[] bytes = new byte[(int) (end - from)];
+            readFully(ByteBuffer.wrap(bytes), from);
+            int length = bytes.length;
+            long position = end;
+            while (bytes[length - 1] != '\n' && position < fileSize) {
+                int extra = (int) Math.min(TAIL_READ_SIZE, fileSize - position);
+                bytes = Arrays.copyOf(bytes, length + extra);
+                readFully(ByteBuffer.wrap(bytes, length, extra), position);
+                int newline = indexOf(bytes, (byte) '\n', length, length + extra);
+                position += extra;
+                length = newline >= 0 ? newline + 1 : length + extra;
+            }
+            return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of file at byte " + position + ".");
+                }
+                position += read;
+            }
+        }
+
+        private void parseLines(byte[] bytes) throws IOException {
+            //el byte anterior al inicio pertenece al bloque anterior, si no es
+            //un fin de linea la primera linea tambien
+            int line = 0;
+            if (start > 0) {
+                int newline = indexOf(bytes, (byte) '\n', 0, bytes.length);
+                line = newline >= 0 ? newline + 1 : bytes.length;
+            }
+            int limit = (int) (end - start) + (start > 0 ? 1 : 0);
+            String[] fields = new String[3];
+            while (line < bytes.length && line < limit) {
+                int newline = indexOf(bytes, (byte) '\n', line, bytes.length);
+                int lineEnd = newline >= 0 ? newline : bytes.length;
+                int count = split(bytes, line, lineEnd, fields);
+                if (count > 0) {
+                    if (count < 2 || (edgeWeights != null && count < 3)) {
+                        throw new IOException("Malformed edge at byte " + (Math.max(0, start - 1) + line) + ": "
+                                + new String(bytes, line, lineEnd - line, StandardCharsets.UTF_8).strip());
+                    }
+                    add(fields);
+                }
+                line = lineEnd + 1;
+            }
+        }
+
+        /**
+         * Separa los campos de una linea.
+         *
+         * @return la cantidad de campos encontrados, como maximo tres, o
+         * <b>0</b> si la linea esta vacia o es un comentario.
+         */
+        private int split(byte[] bytes, int from, int to, String[] fields) {
+            int count = 0;
+            int position = from;
+            while (count < fields.length) {
+                while (position < to && isSeparator(bytes[position])) {
+                    position++;
+                }
+                if (position == to || (count == 0 && (bytes[position] == '#' || bytes[position] == '%'))) {
+                    break;
+                }
+                int field = position;
+                while (position < to && !isSeparator(bytes[position])) {
+                    position++;
+                }
+                fields[count++] = new String(bytes, field, position - field, StandardCharsets.UTF_8);
+            }
+            return count;
+        }
+
+        private void add(String[] fields) {
+            if (size == tails.length) {
+                tails = Arrays.copyOf(tails, size * 2);
+                heads = Arrays.copyOf(heads, size * 2);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, size * 2);
+                }
+            }
+            tails[size] = intern(fields[0]);
+            heads[size] = intern(fields[1]);
+            if (weights != null) {
+                weights[size] = edgeWeights.apply(fields[2]);
+            }
+            size++;
+        }
+
+        /**
+         * Devuelve la informacion del vertice de un campo, la busqueda en el
+         * diccionario compartido solo se realiza la primera vez que el campo
+         * aparece en el bloque.
+         */
+        private T intern(String field) {
+            T info = vertices.get(field);
+            if (info == null) {
+                info = interned.computeIfAbsent(field, keys);
+                vertices.put(field, info);
+            }
+            return info;
+        }
+    }
+
+    private static boolean isSeparator(byte value) {
+        return value == ' ' || value == '\t' || value == ',' || value == ';' || value == '\r';
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
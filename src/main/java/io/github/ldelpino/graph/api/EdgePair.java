@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Objects;
+
+/**
+ * Permite establecer una arista a insertar por la informacion de sus
+ * vertices.
+ * <p>
+ * La clase es utilizada por la insercion masiva de aristas, ver
+ * {@link io.github.ldelpino.graph.api.SimpleEdgeGraph#insertEdges(java.lang.Iterable)}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.WeightedEdgePair
+ * @see io.github.ldelpino.graph.api.SimpleEdgeGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class EdgePair<T> {
+
+    private final T tail;
+    private final T head;
+
+    /**
+     * Crea una nueva arista a insertar.
+     *
+     * @param tail la informacion del vertice que hace funcion de cola.
+     * @param head la informacion del vertice que hace funcion de cabeza.
+     */
+    public EdgePair(T tail, T head) {
+        this.tail = tail;
+        this.head = head;
+    }
+
+    /**
+     * Crea una nueva arista a insertar.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param tail la informacion del vertice que hace funcion de cola.
+     * @param head la informacion del vertice que hace funcion de cabeza.
+     * @return la arista a insertar.
+     */
+    public static <T> EdgePair<T> of(T tail, T head) {
+        return new EdgePair<>(tail, head);
+    }
+
+    /**
+     * Devuelve la informacion del vertice que hace funcion de cola.
+     *
+     * @return la informacion de la cola.
+     */
+    public T getTail() {
+        return tail;
+    }
+
+    /**
+     * Devuelve la informacion del vertice que hace funcion de cabeza.
+     *
+     * @return la informacion de la cabeza.
+     */
+    public T getHead() {
+        return head;
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof EdgePair<?> pair && getClass() == pair.getClass()) {
+            return Objects.equals(tail, pair.tail) && Objects.equals(head, pair.head);
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + Objects.hashCode(this.tail);
+        hash = 31 * hash + Objects.hashCode(this.head);
+        return hash;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return "(" + tail + ", " + head + ")";
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import io.github.ldelpino.graph.vertex.Vertex;
+
+/**
+ * Permite la creacion de una instantanea inmutable de un grafo.
+ * <p>
+ * La instantanea almacena el grafo en formato CSR (compressed sparse row), a
+ * cada vertice se le asigna un identificador denso entre <b>0</b> y la
+ * cantidad de vertices, en el orden en que los vertices fueron insertados en el
+ * grafo original. Los adyacentes del vertice con identificador <b>i</b> se
+ * encuentran en el arreglo de destinos entre las posiciones
+ * <b>offsets[i]</b> y <b>offsets[i + 1]</b>, ordenados por su identificador. Si
+ * el grafo tiene peso en las aristas, los pesos se almacenan en un arreglo
+ * paralelo al de destinos.</p>
+ * <p>
+ * Las operaciones de consulta se heredan de
+ * {@link io.github.ldelpino.graph.api.AbstractCsrGraph}, las operaciones que
+ * modifican el grafo lanzan {@link java.lang.UnsupportedOperationException}.
+ * Para crear una instantanea dirijase al metodo
+ * {@link io.github.ldelpino.graph.api.AbstractGraph#freeze()}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.Graph
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ * @see io.github.ldelpino.graph.api.AbstractCsrGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class FrozenGraph<T> extends AbstractCsrGraph<T> {
+
+    /**
+     * La informacion de los vertices indexada por su identificador.
+     */
+    private final T[] infos;
+
+    /**
+     * El identificador de cada vertice indexado por su informacion.
+     */
+    private final Map<T, Integer> ids;
+
+    /**
+     * El inicio de los adyacentes de cada vertice en el arreglo de destinos.
+     */
+    private final int[] offsets;
+
+    /**
+     * Los identificadores de los vertices adyacentes.
+     */
+    private final int[] targets;
+
+    /**
+     * El peso de cada arista, o <b>null</b> si el grafo no tiene peso en las
+     * aristas.
+     */
+    private final double[] weights;
+
+    /**
+     * La cantidad de aristas que tienen a cada vertice como cabeza, incluidos
+     * los lazos.
+     */
+    private final int[] inDegrees;
+
+    /**
+     * Crea una nueva instantanea a partir de un grafo.
+     *
+     * @param graph el grafo del cual crear la instantanea.
+     */
+    @SuppressWarnings("unchecked")
+    FrozenGraph(AbstractGraph<T> graph) {
+        super(graph.isDirected(), graph.isWeightedVertex(), graph.isWeigthedEdge());
+        Collection<Vertex<T>> vertices = graph.getVertices0();
+        int count = vertices.size();
+        this.infos = (T[]) new Object[count];
+        this.ids = new HashMap<>();
+        this.offsets = new int[count + 1];
+        int id = 0;
+        for (Vertex<T> vertex : vertices) {
+            infos[id] = vertex.getInfo();
+            ids.put(vertex.getInfo(), id);
+            offsets[id + 1] = offsets[id] + vertex.getAdjacentsCount();
+            id++;
+        }
+        this.targets = new int[offsets[count]];
+        this.weights = graph.isWeigthedEdge() ? new double[offsets[count]] : null;
+        this.inDegrees = new int[count];
+        id = 0;
+        for (Vertex<T> vertex : vertices) {
+            int position = offsets[id];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int target = ids.get(adjacent.getInfo());
+                targets[position] = target;
+                if (weights != null) {
+                    weights[position] = AbstractGraph.edgeWeight(vertex.getEdge(adjacent));
+                }
+                inDegrees[target]++;
+                position++;
+            }
+            sortRow(offsets[id], offsets[id + 1]);
+            id++;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return infos.length;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Collection<T> getVertices() {
+        return Collections.unmodifiableList(Arrays.asList(infos));
+    }
+
+    /**
+     * Devuelve el identificador denso de un vertice.
+     *
+     * @param info la informacion del vertice.
+     * @return el identificador del vertice, o <b>-1</b> si no existe.
+     */
+    @Override
+    public int indexOf(Object info) {
+        Integer id = info != null ? ids.get(info) : null;
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Devuelve la informacion del vertice con el identificador establecido.
+     *
+     * @param id el identificador del vertice.
+     * @return la informacion del vertice.
+     */
+    @Override
+    public T infoOf(int id) {
+        return infos[id];
+    }
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    @Override
+    protected long offset(int id) {
+        return offsets[id];
+    }
+
+    /**
+     *
+     * @param position
+     * @return
+     */
+    @Override
+    protected int target(long position) {
+        return targets[(int) position];
+    }
+
+    /**
+     *
+     * @param position
+     * @return
+     */
+    @Override
+    protected double weight(long position) {
+        return weights[(int) position];
+    }
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    @Override
+    protected int inDegree(int id) {
+        return inDegrees[id];
+    }
+
+    /**
+     * Devuelve una cadena de caracteres que representa esta instantanea.
+     *
+     * @return la cadena de caracteres de esta instantanea.
+     */
+    @Override
+    public String toString() {
+        return "FrozenGraph " + (isDirected() ? "Directed " : "NotDirected ")
+                + infos.length + " vertices and " + targets.length + " adjacencies.";
+    }
+
+    /**
+     * Devuelve el arreglo de inicios de adyacentes, sin copiarlo.
+     *
+     * @return el arreglo de inicios.
+     */
+    int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Devuelve el arreglo de destinos, sin copiarlo.
+     *
+     * @return el arreglo de destinos.
+     */
+    int[] targets() {
+        return targets;
+    }
+
+    /**
+     * Devuelve el arreglo de pesos, sin copiarlo.
+     *
+     * @return el arreglo de pesos o <b>null</b> si el grafo no tiene peso en
+     * las aristas.
+     */
+    double[] weights() {
+        return weights;
+    }
+
+    /**
+     * Devuelve el arreglo de aristas de entrada de cada vertice, sin copiarlo.
+     *
+     * @return el arreglo de aristas de entrada.
+     */
+    int[] inDegrees() {
+        return inDegrees;
+    }
+
+    /**
+     * Ordena los adyacentes de un vertice junto con sus pesos.
+     */
+    private void sortRow(int from, int to) {
+        if (weights == null) {
+            Arrays.sort(targets, from, to);
+            return;
+        }
+        long[] keys = new long[to - from];
+        for (int k = from; k < to; k++) {
+            keys[k - from] = ((long) targets[k] << 32) | (k - from);
+        }
+        Arrays.sort(keys);
+        double[] row = Arrays.copyOfRange(weights, from, to);
+        for (int k = 0; k < keys.length; k++) {
+            targets[from + k] = (int) (keys[k] >>> 32);
+            weights[from + k] = row[(int) keys[k]];
+        }
+    }
+}
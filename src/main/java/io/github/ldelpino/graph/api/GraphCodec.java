@@ -0,0 +1,475 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import io.github.ldelpino.graph.edge.Edge;
+import io.github.ldelpino.graph.edge.WeightedEdge;
+import io.github.ldelpino.graph.vertex.Vertex;
+import io.github.ldelpino.graph.vertex.WeightedVertex;
+
+/**
+ * Permite almacenar y cargar grafos en un formato binario compacto.
+ * <p>
+ * El formato consta de una cabecera, una tabla de vertices y un bloque de
+ * adyacentes por vertice:</p>
+ * <pre>
+ * cabecera:   int MAGIC, byte VERSION, byte flags,
+ *             varint cantidad de vertices, varint cantidad de aristas
+ * vertices:   informacion [peso] de cada vertice, en orden de identificador
+ * adyacentes: por cada vertice, varint grado, los identificadores de los
+ *             adyacentes en orden ascendente como diferencias varint, y
+ *             [los pesos de las aristas en el mismo orden]
+ * </pre>
+ * <p>
+ * Los identificadores de los vertices son densos y siguen el orden de
+ * insercion de los vertices en el grafo. Los enteros se escriben como
+ * <b>varint</b>, siete bits por byte, y cada adyacente como la diferencia con
+ * el anterior, por lo que los bloques de adyacentes ocupan usualmente uno o
+ * dos bytes por arista. En un grafo no dirigido cada arista se almacena una
+ * sola vez, en el bloque del vertice de menor identificador. La informacion de
+ * los vertices y los pesos se escriben con un
+ * {@link io.github.ldelpino.graph.api.ValueCodec}.</p>
+ * <p>
+ * La clase tambien establece la forma serializada de
+ * {@link io.github.ldelpino.graph.api.AbstractGraph}, de modo que la
+ * serializacion de Java conserve los vertices y las aristas del grafo.</p>
+ *
+ * @see io.github.ldelpino.graph.api.ValueCodec
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class GraphCodec {
+
+    /**
+     * El numero que identifica el formato, los caracteres <b>LDGR</b>.
+     */
+    public static final int MAGIC = 0x4C444752;
+
+    /**
+     * La version del formato.
+     */
+    public static final int VERSION = 1;
+
+    private static final int DIRECTED = 1;
+    private static final int WEIGHTED_VERTEX = 2;
+    private static final int WEIGHTED_EDGE = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * La codificacion de cualquier objeto con la serializacion de Java,
+     * utilizada solo por la forma serializada de los grafos.
+     */
+    private static final ValueCodec<Object> OBJECT = new ValueCodec<>() {
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            ((ObjectOutput) out).writeObject(value);
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            try {
+                return ((ObjectInput) in).readObject();
+            } catch (ClassNotFoundException ex) {
+                throw new InvalidObjectException(ex.getMessage());
+            }
+        }
+    };
+
+    private GraphCodec() {
+    }
+
+    /**
+     * Escribe un grafo en un flujo de salida.
+     * <p>
+     * El flujo no es cerrado al terminar la escritura.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a escribir.
+     * @param out el flujo de salida.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @param vertexWeights la codificacion del peso de los vertices, puede ser
+     * <b>null</b> si los vertices no tienen peso.
+     * @param edgeWeights la codificacion del peso de las aristas, puede ser
+     * <b>null</b> si las aristas no tienen peso.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, OutputStream out, ValueCodec<? super T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        writeGraph(graph, data, keys, vertexWeights, edgeWeights);
+        data.flush();
+    }
+
+    /**
+     * Escribe un grafo en un fichero.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a escribir.
+     * @param file el fichero, si existe es sobrescrito.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @param vertexWeights la codificacion del peso de los vertices, puede ser
+     * <b>null</b> si los vertices no tienen peso.
+     * @param edgeWeights la codificacion del peso de las aristas, puede ser
+     * <b>null</b> si las aristas no tienen peso.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, Path file, ValueCodec<? super T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(graph, out, keys, vertexWeights, edgeWeights);
+        }
+    }
+
+    /**
+     * Carga un grafo desde un flujo de entrada.
+     * <p>
+     * El grafo debe estar vacio y ser del mismo tipo que el grafo escrito,
+     * dirigido o no dirigido y con peso o sin peso en los vertices y las
+     * aristas. Los vertices y las aristas se insertan con la insercion masiva
+     * del grafo. El flujo no es cerrado al terminar la lectura.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param <G> el tipo de grafo.
+     * @param in el flujo de entrada.
+     * @param graph el grafo vacio en el cual cargar los vertices y aristas.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @param vertexWeights la codificacion del peso de los vertices, puede ser
+     * <b>null</b> si los vertices no tienen peso.
+     * @param edgeWeights la codificacion del peso de las aristas, puede ser
+     * <b>null</b> si las aristas no tienen peso.
+     * @return el grafo cargado.
+     * @throws java.io.IOException si ocurre un error de lectura o los datos no
+     * tienen el formato correcto.
+     */
+    public static <T, G extends AbstractGraph<T>> G read(InputStream in, G graph, ValueCodec<? extends T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        return readGraph(new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE)),
+                graph, keys, vertexWeights, edgeWeights);
+    }
+
+    /**
+     * Carga un grafo desde un fichero.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param <G> el tipo de grafo.
+     * @param file el fichero.
+     * @param graph el grafo vacio en el cual cargar los vertices y aristas.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @param vertexWeights la codificacion del peso de los vertices, puede ser
+     * <b>null</b> si los vertices no tienen peso.
+     * @param edgeWeights la codificacion del peso de las aristas, puede ser
+     * <b>null</b> si las aristas no tienen peso.
+     * @return el grafo cargado.
+     * @throws java.io.IOException si ocurre un error de lectura o los datos no
+     * tienen el formato correcto.
+     * @see #read(java.io.InputStream, io.github.ldelpino.graph.api.AbstractGraph, io.github.ldelpino.graph.api.ValueCodec, io.github.ldelpino.graph.api.ValueCodec, io.github.ldelpino.graph.api.ValueCodec)
+     */
+    public static <T, G extends AbstractGraph<T>> G read(Path file, G graph, ValueCodec<? extends T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, graph, keys, vertexWeights, edgeWeights);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void writeGraph(AbstractGraph<T> graph, DataOutput out, ValueCodec<? super T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        boolean directed = graph.isDirected();
+        boolean weightedVertex = graph.isWeightedVertex();
+        boolean weightedEdge = graph.isWeigthedEdge();
+        requireCodec(weightedVertex, vertexWeights, "vertex");
+        requireCodec(weightedEdge, edgeWeights, "edge");
+        Collection<Vertex<T>> vertices = graph.getVertices0();
+        int[] ids = new int[graph.getIndexBound()];
+        int next = 0;
+        long arcs = 0;
+        for (Vertex<T> vertex : vertices) {
+            ids[vertex.getIndex()] = next++;
+        }
+        for (Vertex<T> vertex : vertices) {
+            int id = ids[vertex.getIndex()];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                if (directed || ids[adjacent.getIndex()] >= id) {
+                    arcs++;
+                }
+            }
+        }
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte((directed ? DIRECTED : 0) | (weightedVertex ? WEIGHTED_VERTEX : 0)
+                | (weightedEdge ? WEIGHTED_EDGE : 0));
+        writeVarLong(out, vertices.size());
+        writeVarLong(out, arcs);
+        for (Vertex<T> vertex : vertices) {
+            keys.write(out, vertex.getInfo());
+            if (weightedVertex) {
+                ((ValueCodec<Object>) vertexWeights).write(out, ((WeightedVertex<T, ?>) vertex).getWeight());
+            }
+        }
+        long[] row = new long[16];
+        Edge<T>[] edges = newEdges(16);
+        for (Vertex<T> vertex : vertices) {
+            int id = ids[vertex.getIndex()];
+            int degree = 0;
+            if (row.length < vertex.getAdjacentsCount()) {
+                row = new long[vertex.getAdjacentsCount()];
+                edges = newEdges(vertex.getAdjacentsCount());
+            }
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int target = ids[adjacent.getIndex()];
+                if (directed || target >= id) {
+                    edges[degree] = weightedEdge ? vertex.getEdge(adjacent) : null;
+                    row[degree] = ((long) target << 32) | degree;
+                    degree++;
+                }
+            }
+            Arrays.sort(row, 0, degree);
+            writeVarLong(out, degree);
+            int previous = 0;
+            for (int i = 0; i < degree; i++) {
+                int target = (int) (row[i] >>> 32);
+                writeVarLong(out, target - previous);
+                previous = target;
+            }
+            if (weightedEdge) {
+                for (int i = 0; i < degree; i++) {
+                    Edge<T> edge = edges[(int) row[i]];
+                    ((ValueCodec<Object>) edgeWeights).write(out, ((WeightedEdge<T, ?>) edge).getWeight());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, G extends AbstractGraph<T>> G readGraph(DataInput in, G graph, ValueCodec<? extends T> keys,
+            ValueCodec<?> vertexWeights, ValueCodec<?> edgeWeights) throws IOException {
+        if (!graph.isEmpty()) {
+            throw new IllegalArgumentException("The graph must be empty.");
+        }
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a graph file.");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported graph file version: " + version);
+        }
+        int flags = in.readUnsignedByte();
+        boolean weightedVertex = (flags & WEIGHTED_VERTEX) != 0;
+        boolean weightedEdge = (flags & WEIGHTED_EDGE) != 0;
+        if (((flags & DIRECTED) != 0) != graph.isDirected() || weightedVertex != graph.isWeightedVertex()
+                || weightedEdge != graph.isWeigthedEdge()) {
+            throw new IllegalArgumentException("The graph type does not match the stored graph: flags " + flags);
+        }
+        requireCodec(weightedVertex, vertexWeights, "vertex");
+        requireCodec(weightedEdge, edgeWeights, "edge");
+        int vertexCount = readCount(in);
+        int arcCount = readCount(in);
+        T[] infos = (T[]) new Object[vertexCount];
+        if (weightedVertex) {
+            Map<T, Object> weighted = new LinkedHashMap<>((int) (vertexCount / 0.75f) + 1);
+            for (int i = 0; i < vertexCount; i++) {
+                infos[i] = keys.read(in);
+                weighted.put(infos[i], vertexWeights.read(in));
+            }
+            ((WeightedVertexGraph<T, Object>) graph).insertVertices(weighted);
+        } else {
+            for (int i = 0; i < vertexCount; i++) {
+                infos[i] = keys.read(in);
+            }
+            ((SimpleVertexGraph<T>) graph).insertVertices(Arrays.asList(infos));
+        }
+        if (graph.getVertexCount() != vertexCount) {
+            throw new StreamCorruptedException("Duplicate vertices in graph file.");
+        }
+        int[] tails = new int[arcCount];
+        int[] heads = new int[arcCount];
+        Object[] weights = weightedEdge ? new Object[arcCount] : null;
+        int arc = 0;
+        for (int tail = 0; tail < vertexCount; tail++) {
+            int degree = readCount(in);
+            if (degree > arcCount - arc) {
+                throw new StreamCorruptedException("Too many edges in graph file.");
+            }
+            int head = 0;
+            for (int i = 0; i < degree; i++) {
+                head += readCount(in);
+                if (head >= vertexCount) {
+                    throw new StreamCorruptedException("Vertex out of range in graph file: " + head);
+                }
+                tails[arc + i] = tail;
+                heads[arc + i] = head;
+            }
+            if (weightedEdge) {
+                for (int i = 0; i < degree; i++) {
+                    weights[arc + i] = edgeWeights.read(in);
+                }
+            }
+            arc += degree;
+        }
+        if (arc != arcCount) {
+            throw new StreamCorruptedException("Missing edges in graph file.");
+        }
+        if (weightedEdge) {
+            List<WeightedEdgePair<T, Object>> pairs = new AbstractList<>() {
+                @Override
+                public WeightedEdgePair<T, Object> get(int index) {
+                    return new WeightedEdgePair<>(infos[tails[index]], infos[heads[index]], weights[index]);
+                }
+
+                @Override
+                public int size() {
+                    return arcCount;
+                }
+            };
+            ((WeightedEdgeGraph<T, Object>) graph).insertEdges(pairs);
+        } else {
+            List<EdgePair<T>> pairs = new AbstractList<>() {
+                @Override
+                public EdgePair<T> get(int index) {
+                    return new EdgePair<>(infos[tails[index]], infos[heads[index]]);
+                }
+
+                @Override
+                public int size() {
+                    return arcCount;
+                }
+            };
+            ((SimpleEdgeGraph<T>) graph).insertEdges(pairs);
+        }
+        return graph;
+    }
+
+    /**
+     * Devuelve la forma serializada de un grafo.
+     *
+     * @param graph el grafo.
+     * @return el objeto que reemplaza al grafo en la serializacion.
+     */
+    static Object serializedForm(AbstractGraph<?> graph) {
+        return new SerializedGraph(graph);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Edge<T>[] newEdges(int length) {
+        return (Edge<T>[]) new Edge<?>[length];
+    }
+
+    private static void requireCodec(boolean weighted, ValueCodec<?> codec, String kind) {
+        if (weighted && codec == null) {
+            throw new IllegalArgumentException("Missing " + kind + " weight codec.");
+        }
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint in graph file.");
+    }
+
+    private static int readCount(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE - 8) {
+            throw new StreamCorruptedException("Count out of range in graph file: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * La forma serializada de un grafo.
+     * <p>
+     * Almacena la clase del grafo y el grafo en el formato binario, con la
+     * informacion de los vertices y los pesos serializados como objetos. Al
+     * deserializarse crea el grafo con el constructor sin parametros de su
+     * clase.</p>
+     */
+    private static final class SerializedGraph implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient AbstractGraph<?> graph;
+
+        SerializedGraph(AbstractGraph<?> graph) {
+            this.graph = graph;
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.writeObject(graph.getClass());
+            writeGraph(graph, out, OBJECT, OBJECT, OBJECT);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            Class<?> type = (Class<?>) in.readObject();
+            if (!AbstractGraph.class.isAssignableFrom(type)) {
+                throw new InvalidObjectException("Not a graph class: " + type.getName());
+            }
+            try {
+                graph = (AbstractGraph<?>) type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException ex) {
+                InvalidObjectException invalid = new InvalidObjectException("Cannot create " + type.getName());
+                invalid.initCause(ex);
+                throw invalid;
+            }
+            readGraph(in, (AbstractGraph<Object>) graph, OBJECT, OBJECT, OBJECT);
+        }
+
+        private Object readResolve() {
+            return graph;
+        }
+    }
+}
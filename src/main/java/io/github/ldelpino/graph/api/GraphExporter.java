@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import io.github.ldelpino.graph.edge.WeightedEdge;
+import io.github.ldelpino.graph.vertex.Vertex;
+import io.github.ldelpino.graph.vertex.WeightedVertex;
+
+/**
+ * Permite exportar un grafo a los formatos de texto de las herramientas de
+ * visualizacion.
+ * <p>
+ * La exportacion recorre una sola vez los vertices y las aristas del grafo y
+ * escribe cada elemento a traves de un {@link java.io.Writer} con buffer, por
+ * lo que, a diferencia de
+ * {@link io.github.ldelpino.graph.Graph#getAdyacentsMatrix()} y
+ * {@link io.github.ldelpino.graph.Graph#getIncidenceMatrix()}, solo requiere
+ * un entero por vertice ademas del grafo. Los formatos soportados se
+ * establecen en {@link io.github.ldelpino.graph.api.GraphExporter.Format}.</p>
+ * <p>
+ * A cada vertice se le asigna un identificador <b>n0</b>, <b>n1</b>, ... en el
+ * orden de insercion, y la informacion del vertice se escribe como su
+ * etiqueta. El peso de los vertices
+ * {@link io.github.ldelpino.graph.vertex.WeightedVertex} y de las aristas
+ * {@link io.github.ldelpino.graph.edge.WeightedEdge} se escribe en el atributo
+ * <b>weight</b>, los pesos {@link java.lang.Number} y
+ * {@link io.github.ldelpino.graph.api.AritmethicNumber} se escriben como
+ * numeros y el resto con su representacion en texto, en cuyo caso los formatos
+ * XML declaran el atributo de tipo <b>string</b>. En un grafo no dirigido
+ * cada arista se escribe una sola vez.</p>
+ *
+ * @see io.github.ldelpino.graph.api.GraphCodec
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class GraphExporter {
+
+    /**
+     * Los formatos de exportacion.
+     */
+    public enum Format {
+        /**
+         * El lenguaje DOT de Graphviz.
+         */
+        DOT {
+            @Override
+            void begin(Writer out, boolean directed, String vertexWeightType, String edgeWeightType)
+                    throws IOException {
+                out.write(directed ? "digraph G {\n" : "graph G {\n");
+            }
+
+            @Override
+            void vertex(Writer out, int id, Object info, Object weight) throws IOException {
+                out.write("  n" + id + " [label=\"");
+                escapeDot(out, String.valueOf(info));
+                out.write('"');
+                if (weight != null) {
+                    out.write(", weight=\"");
+                    escapeDot(out, weightText(weight));
+                    out.write('"');
+                }
+                out.write("];\n");
+            }
+
+            @Override
+            void edge(Writer out, boolean directed, int number, int tail, int head, Object weight) throws IOException {
+                out.write("  n" + tail + (directed ? " -> n" : " -- n") + head);
+                if (weight != null) {
+                    out.write(" [weight=\"");
+                    escapeDot(out, weightText(weight));
+                    out.write("\"]");
+                }
+                out.write(";\n");
+            }
+
+            @Override
+            void end(Writer out) throws IOException {
+                out.write("}\n");
+            }
+        },
+        /**
+         * El formato XML GraphML.
+         */
+        GRAPHML {
+            @Override
+            void begin(Writer out, boolean directed, String vertexWeightType, String edgeWeightType)
+                    throws IOException {
+                out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n"
+                        + "  <key id=\"label\" for=\"node\" attr.name=\"label\" attr.type=\"string\"/>\n");
+                if (vertexWeightType != null) {
+                    out.write("  <key id=\"vweight\" for=\"node\" attr.name=\"weight\" attr.type=\""
+                            + vertexWeightType + "\"/>\n");
+                }
+                if (edgeWeightType != null) {
+                    out.write("  <key id=\"eweight\" for=\"edge\" attr.name=\"weight\" attr.type=\""
+                            + edgeWeightType + "\"/>\n");
+                }
+                out.write("  <graph id=\"G\" edgedefault=\"" + (directed ? "directed" : "undirected") + "\">\n");
+            }
+
+            @Override
+            void vertex(Writer out, int id, Object info, Object weight) throws IOException {
+                out.write("    <node id=\"n" + id + "\"><data key=\"label\">");
+                escapeXml(out, String.valueOf(info));
+                out.write("</data>");
+                if (weight != null) {
+                    out.write("<data key=\"vweight\">");
+                    escapeXml(out, weightText(weight));
+                    out.write("</data>");
+                }
+                out.write("</node>\n");
+            }
+
+            @Override
+            void edge(Writer out, boolean directed, int number, int tail, int head, Object weight) throws IOException {
+                out.write("    <edge source=\"n" + tail + "\" target=\"n" + head + "\"");
+                if (weight != null) {
+                    out.write("><data key=\"eweight\">");
+                    escapeXml(out, weightText(weight));
+                    out.write("</data></edge>\n");
+                } else {
+                    out.write("/>\n");
+                }
+            }
+
+            @Override
+            void end(Writer out) throws IOException {
+                out.write("  </graph>\n</graphml>\n");
+            }
+        },
+        /**
+         * El formato XML GEXF 1.2 de Gephi.
+         * <p>
+         * Los nodos y las aristas se escriben en secciones distintas, el peso
+         * numerico de las aristas se escribe en el atributo <b>weight</b> de la
+         * arista y el resto, al igual que el peso de los vertices, como el
+         * atributo declarado <b>weight</b> del elemento.</p>
+         */
+        GEXF {
+            @Override
+            void begin(Writer out, boolean directed, String vertexWeightType, String edgeWeightType)
+                    throws IOException {
+                out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<gexf xmlns=\"http://www.gexf.net/1.2draft\" version=\"1.2\">\n"
+                        + "  <graph defaultedgetype=\"" + (directed ? "directed" : "undirected") + "\">\n");
+                if (vertexWeightType != null) {
+                    out.write("    <attributes class=\"node\">\n"
+                            + "      <attribute id=\"weight\" title=\"weight\" type=\"" + vertexWeightType + "\"/>\n"
+                            + "    </attributes>\n");
+                }
+                if (STRING.equals(edgeWeightType)) {
+                    out.write("    <attributes class=\"edge\">\n"
+                            + "      <attribute id=\"weight\" title=\"weight\" type=\"string\"/>\n"
+                            + "    </attributes>\n");
+                }
+                out.write("    <nodes>\n");
+            }
+
+            @Override
+            void vertex(Writer out, int id, Object info, Object weight) throws IOException {
+                out.write("      <node id=\"n" + id + "\" label=\"");
+                escapeXml(out, String.valueOf(info));
+                if (weight != null) {
+                    out.write("\"><attvalues><attvalue for=\"weight\" value=\"");
+                    escapeXml(out, weightText(weight));
+                    out.write("\"/></attvalues></node>\n");
+                } else {
+                    out.write("\"/>\n");
+                }
+            }
+
+            @Override
+            void edges(Writer out) throws IOException {
+                out.write("    </nodes>\n    <edges>\n");
+            }
+
+            @Override
+            void edge(Writer out, boolean directed, int number, int tail, int head, Object weight) throws IOException {
+                out.write("      <edge id=\"e" + number + "\" source=\"n" + tail + "\" target=\"n" + head + "\"");
+                if (weight != null && isNumeric(weight)) {
+                    out.write(" weight=\"");
+                    escapeXml(out, weightText(weight));
+                    out.write("\"/>\n");
+                } else if (weight != null) {
+                    out.write("><attvalues><attvalue for=\"weight\" value=\"");
+                    escapeXml(out, weightText(weight));
+                    out.write("\"/></attvalues></edge>\n");
+                } else {
+                    out.write("/>\n");
+                }
+            }
+
+            @Override
+            void end(Writer out) throws IOException {
+                out.write("    </edges>\n  </graph>\n</gexf>\n");
+            }
+        };
+
+        /**
+         * Escribe el inicio del documento.
+         *
+         * @param vertexWeightType el tipo del peso de los vertices,
+         * <b>double</b> o <b>string</b>, o <b>null</b> si no tienen peso.
+         * @param edgeWeightType el tipo del peso de las aristas, <b>double</b>
+         * o <b>string</b>, o <b>null</b> si no tienen peso.
+         */
+        abstract void begin(Writer out, boolean directed, String vertexWeightType, String edgeWeightType)
+                throws IOException;
+
+        /**
+         * Escribe un vertice.
+         *
+         * @param weight el peso del vertice, o <b>null</b> si no tiene peso.
+         */
+        abstract void vertex(Writer out, int id, Object info, Object weight) throws IOException;
+
+        /**
+         * Escribe la separacion entre los vertices y las aristas.
+         */
+        void edges(Writer out) throws IOException {
+        }
+
+        /**
+         * Escribe una arista.
+         *
+         * @param number la posicion de la arista en el documento.
+         * @param weight el peso de la arista, o <b>null</b> si no tiene peso.
+         */
+        abstract void edge(Writer out, boolean directed, int number, int tail, int head, Object weight) throws IOException;
+
+        /**
+         * Escribe el final del documento.
+         */
+        abstract void end(Writer out) throws IOException;
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String DOUBLE = "double";
+    private static final String STRING = "string";
+
+    private GraphExporter() {
+    }
+
+    /**
+     * Exporta un grafo a un flujo de caracteres.
+     * <p>
+     * El flujo no es cerrado al terminar la escritura.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a exportar.
+     * @param out el flujo de caracteres.
+     * @param format el formato.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, Writer out, Format format) throws IOException {
+        Writer buffered = out instanceof BufferedWriter ? out : new BufferedWriter(out, BUFFER_SIZE);
+        export(graph, buffered, format);
+        buffered.flush();
+    }
+
+    /**
+     * Exporta un grafo a un canal, codificado en UTF-8.
+     * <p>
+     * El canal no es cerrado al terminar la escritura.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a exportar.
+     * @param channel el canal.
+     * @param format el formato.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, WritableByteChannel channel, Format format)
+            throws IOException {
+        write(graph, Channels.newWriter(channel, StandardCharsets.UTF_8), format);
+    }
+
+    /**
+     * Exporta un grafo a un fichero, codificado en UTF-8.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a exportar.
+     * @param file el fichero, si existe es sobrescrito.
+     * @param format el formato.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, Path file, Format format) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(graph, out, format);
+        }
+    }
+
+    private static <T> void export(AbstractGraph<T> graph, Writer out, Format format) throws IOException {
+        boolean directed = graph.isDirected();
+        Collection<Vertex<T>> vertices = graph.getVertices0();
+        int[] ids = new int[graph.getIndexBound()];
+        format.begin(out, directed, graph.isWeightedVertex() ? vertexWeightType(vertices) : null,
+                graph.isWeigthedEdge() ? edgeWeightType(vertices) : null);
+        int next = 0;
+        for (Vertex<T> vertex : vertices) {
+            ids[vertex.getIndex()] = next;
+            Object weight = vertex instanceof WeightedVertex<?, ?> weighted ? weighted.getWeight() : null;
+            format.vertex(out, next++, vertex.getInfo(), weight);
+        }
+        format.edges(out);
+        int number = 0;
+        for (Vertex<T> vertex : vertices) {
+            int id = ids[vertex.getIndex()];
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                int target = ids[adjacent.getIndex()];
+                if (directed || target >= id) {
+                    Object weight = vertex.getEdge(adjacent) instanceof WeightedEdge<?, ?> weighted
+                            ? weighted.getWeight() : null;
+                    format.edge(out, directed, number++, id, target, weight);
+                }
+            }
+        }
+        format.end(out);
+    }
+
+    /**
+     * Devuelve el tipo declarado del peso de los vertices, <b>string</b> si
+     * alguno de los pesos no es numerico.
+     */
+    private static <T> String vertexWeightType(Collection<Vertex<T>> vertices) {
+        for (Vertex<T> vertex : vertices) {
+            if (vertex instanceof WeightedVertex<?, ?> weighted && !isNumeric(weighted.getWeight())) {
+                return STRING;
+            }
+        }
+        return DOUBLE;
+    }
+
+    /**
+     * Devuelve el tipo declarado del peso de las aristas, <b>string</b> si
+     * alguno de los pesos no es numerico.
+     */
+    private static <T> String edgeWeightType(Collection<Vertex<T>> vertices) {
+        for (Vertex<T> vertex : vertices) {
+            for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                if (vertex.getEdge(adjacent) instanceof WeightedEdge<?, ?> weighted
+                        && !isNumeric(weighted.getWeight())) {
+                    return STRING;
+                }
+            }
+        }
+        return DOUBLE;
+    }
+
+    private static boolean isNumeric(Object weight) {
+        return weight instanceof Number || weight instanceof AritmethicNumber<?>;
+    }
+
+    private static String weightText(Object weight) {
+        if (weight instanceof AritmethicNumber<?> number) {
+            return String.valueOf(number.getNumber());
+        }
+        return String.valueOf(weight);
+    }
+
+    private static void escapeDot(Writer out, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+            }
+            if (c == '\n') {
+                out.write("\\n");
+            } else {
+                out.write(c);
+            }
+        }
+    }
+
+    /**
+     * Escribe un texto escapando los caracteres especiales de XML.
+     * <p>
+     * Los saltos de linea, retornos de carro y tabuladores se escriben como
+     * referencias de caracter, ya que la normalizacion de los atributos los
+     * convierte en espacios y la de los finales de linea convierte los retornos
+     * de carro en saltos de linea. Los demas caracteres de control, que no
+     * estan permitidos en XML 1.0, se omiten.</p>
+     */
+    private static void escapeXml(Writer out, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                out.write("&lt;");
+            } else if (c == '>') {
+                out.write("&gt;");
+            } else if (c == '&') {
+                out.write("&amp;");
+            } else if (c == '"') {
+                out.write("&quot;");
+            } else if (c == '\'') {
+                out.write("&apos;");
+            } else if (c == '\n') {
+                out.write("&#10;");
+            } else if (c == '\r') {
+                out.write("&#13;");
+            } else if (c == '\t') {
+                out.write("&#9;");
+            } else if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+                out.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Iterator;
+import io.github.ldelpino.graph.vertex.Vertex;
+
+/**
+ * Permite recorrer un grafo en anchura o en profundidad de forma iterativa.
+ * <p>
+ * Los recorridos utilizan una cola o una pila explicita en lugar de la
+ * recursion, por lo que no dependen de la profundidad del grafo. Los vertices
+ * visitados se marcan en un {@link java.util.BitSet} indexado por la posicion
+ * de cada vertice en el grafo, ver
+ * {@link io.github.ldelpino.graph.vertex.Vertex#getIndex()}, de modo que
+ * establecer si un vertice fue visitado no requiere recorrer una lista.</p>
+ * <p>
+ * Las marcas se mantienen entre recorridos de una misma instancia, lo que
+ * permite recorrer todo el grafo iniciando un recorrido desde cada vertice
+ * aun no visitado. Cada recorrido notifica a un
+ * {@link io.github.ldelpino.graph.api.GraphTraversal.Visitor} el
+ * descubrimiento de los vertices, las aristas examinadas y la finalizacion de
+ * cada vertice.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class GraphTraversal<T> {
+
+    /**
+     * El estado de un vertice durante el recorrido.
+     */
+    public enum State {
+        /**
+         * El vertice no ha sido descubierto.
+         */
+        UNVISITED,
+        /**
+         * El vertice fue descubierto pero sus adyacentes no han sido
+         * recorridos completamente, en un recorrido en profundidad el vertice
+         * esta en la pila.
+         */
+        ACTIVE,
+        /**
+         * Los adyacentes del vertice fueron recorridos completamente.
+         */
+        FINISHED
+    }
+
+    /**
+     * Permite recibir las notificaciones de un recorrido.
+     * <p>
+     * Los metodos que devuelven un valor <b>boolean</b> permiten detener el
+     * recorrido devolviendo <b>false</b>.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     */
+    public interface Visitor<T> {
+
+        /**
+         * Notifica que un vertice fue descubierto.
+         *
+         * @param vertex el vertice descubierto.
+         * @param parent el vertice desde el cual fue descubierto, o
+         * <b>null</b> si es el vertice inicial.
+         * @return <b>true</b> para continuar el recorrido, <b>false</b> para
+         * detenerlo.
+         */
+        public default boolean discover(Vertex<T> vertex, Vertex<T> parent) {
+            return true;
+        }
+
+        /**
+         * Notifica que una arista fue examinada, antes de descubrir su
+         * cabeza.
+         *
+         * @param tail el vertice que hace funcion de cola.
+         * @param head el vertice que hace funcion de cabeza.
+         * @param state el estado de la cabeza al examinar la arista.
+         * @return <b>true</b> para continuar el recorrido, <b>false</b> para
+         * detenerlo.
+         */
+        public default boolean examine(Vertex<T> tail, Vertex<T> head, State state) {
+            return true;
+        }
+
+        /**
+         * Notifica que todos los adyacentes de un vertice fueron recorridos.
+         *
+         * @param vertex el vertice finalizado.
+         */
+        public default void finish(Vertex<T> vertex) {
+        }
+    }
+
+    /**
+     * Los vertices descubiertos.
+     */
+    private final BitSet visited;
+
+    /**
+     * Los vertices finalizados.
+     */
+    private final BitSet finished;
+
+    /**
+     * Crea un nuevo recorrido.
+     *
+     * @param indexBound el limite superior de las posiciones de los vertices
+     * del grafo.
+     */
+    public GraphTraversal(int indexBound) {
+        this.visited = new BitSet(indexBound);
+        this.finished = new BitSet(indexBound);
+    }
+
+    /**
+     * Devuelve el estado de un vertice.
+     *
+     * @param vertex el vertice.
+     * @return el estado del vertice en los recorridos realizados.
+     */
+    public State stateOf(Vertex<T> vertex) {
+        int index = vertex.getIndex();
+        if (finished.get(index)) {
+            return State.FINISHED;
+        }
+        return visited.get(index) ? State.ACTIVE : State.UNVISITED;
+    }
+
+    /**
+     * Establece si un vertice fue descubierto en algun recorrido.
+     *
+     * @param vertex el vertice.
+     * @return <b>true</b> si el vertice fue descubierto, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    public boolean isVisited(Vertex<T> vertex) {
+        return visited.get(vertex.getIndex());
+    }
+
+    /**
+     * Elimina las marcas de todos los recorridos realizados.
+     */
+    public void reset() {
+        visited.clear();
+        finished.clear();
+    }
+
+    /**
+     * Recorre en anchura los vertices alcanzables desde un vertice inicial.
+     * <p>
+     * Si el vertice inicial ya fue visitado el recorrido no se realiza.</p>
+     *
+     * @param root el vertice inicial.
+     * @param visitor el receptor de las notificaciones del recorrido.
+     * @return <b>true</b> si el recorrido termino, <b>false</b> si fue
+     * detenido por el receptor.
+     */
+    public boolean breadthFirst(Vertex<T> root, Visitor<T> visitor) {
+        if (isVisited(root)) {
+            return true;
+        }
+        Deque<Vertex<T>> queue = new ArrayDeque<>();
+        visited.set(root.getIndex());
+        if (!visitor.discover(root, null)) {
+            return false;
+        }
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Vertex<T> current = queue.poll();
+            for (Vertex<T> adjacent : current.getAdjacents()) {
+                if (!visitor.examine(current, adjacent, stateOf(adjacent))) {
+                    return false;
+                }
+                if (!isVisited(adjacent)) {
+                    visited.set(adjacent.getIndex());
+                    if (!visitor.discover(adjacent, current)) {
+                        return false;
+                    }
+                    queue.add(adjacent);
+                }
+            }
+            finished.set(current.getIndex());
+            visitor.finish(current);
+        }
+        return true;
+    }
+
+    /**
+     * Recorre en profundidad los vertices alcanzables desde un vertice
+     * inicial.
+     * <p>
+     * El recorrido mantiene una pila explicita con el iterador de adyacentes
+     * de cada vertice activo. Si el vertice inicial ya fue visitado el
+     * recorrido no se realiza.</p>
+     *
+     * @param root el vertice inicial.
+     * @param visitor el receptor de las notificaciones del recorrido.
+     * @return <b>true</b> si el recorrido termino, <b>false</b> si fue
+     * detenido por el receptor.
+     */
+    public boolean depthFirst(Vertex<T> root, Visitor<T> visitor) {
+        if (isVisited(root)) {
+            return true;
+        }
+        Deque<Vertex<T>> vertices = new ArrayDeque<>();
+        Deque<Iterator<Vertex<T>>> iterators = new ArrayDeque<>();
+        visited.set(root.getIndex());
+        if (!visitor.discover(root, null)) {
+            return false;
+        }
+        vertices.push(root);
+        iterators.push(root.getAdjacents().iterator());
+        while (!vertices.isEmpty()) {
+            Vertex<T> current = vertices.peek();
+            Iterator<Vertex<T>> iter = iterators.peek();
+            if (iter.hasNext()) {
+                Vertex<T> adjacent = iter.next();
+                if (!visitor.examine(current, adjacent, stateOf(adjacent))) {
+                    return false;
+                }
+                if (!isVisited(adjacent)) {
+                    visited.set(adjacent.getIndex());
+                    if (!visitor.discover(adjacent, current)) {
+                        return false;
+                    }
+                    vertices.push(adjacent);
+                    iterators.push(adjacent.getAdjacents().iterator());
+                }
+            } else {
+                vertices.pop();
+                iterators.pop();
+                finished.set(current.getIndex());
+                visitor.finish(current);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Permite consultar la distancia en saltos de cada vertice a un vertice
+ * inicial.
+ * <p>
+ * La distancia en saltos de un vertice es la menor cantidad de aristas de un
+ * camino desde el vertice inicial hasta el, por lo que existe un camino de
+ * longitud a lo sumo <b>k</b> hasta un vertice si y solo si su distancia es
+ * menor o igual que <b>k</b>. Un solo recorrido responde todas las consultas
+ * desde el mismo vertice inicial. Para calcular las distancias dirijase al
+ * metodo
+ * {@link io.github.ldelpino.graph.api.ParallelBreadthFirst#search(java.lang.Object)}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.ParallelBreadthFirst
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class HopDistances<T> {
+
+    private final AbstractCsrGraph<T> graph;
+    private final int source;
+
+    /**
+     * La distancia de cada vertice indexada por su identificador en la
+     * instantanea, <b>-1</b> si el vertice no es alcanzable.
+     */
+    private final int[] distances;
+
+    /**
+     * La mayor distancia de un vertice alcanzable.
+     */
+    private final int depth;
+
+    /**
+     * Crea el resultado de un recorrido.
+     *
+     * @param graph la instantanea recorrida.
+     * @param source el identificador del vertice inicial.
+     * @param distances la distancia de cada vertice por su identificador.
+     * @param depth la mayor distancia de un vertice alcanzable.
+     */
+    HopDistances(AbstractCsrGraph<T> graph, int source, int[] distances, int depth) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.depth = depth;
+    }
+
+    /**
+     * Devuelve el vertice inicial del recorrido.
+     *
+     * @return el vertice inicial.
+     */
+    public T getSource() {
+        return graph.infoOf(source);
+    }
+
+    /**
+     * Devuelve la distancia en saltos de un vertice al vertice inicial.
+     *
+     * @param info el vertice.
+     * @return la distancia del vertice, <b>0</b> si es el vertice inicial, o
+     * <b>-1</b> si el vertice no existe o no es alcanzable.
+     */
+    public int getDistance(T info) {
+        int id = graph.indexOf(info);
+        return id < 0 ? -1 : distances[id];
+    }
+
+    /**
+     * Establece si un vertice es alcanzable desde el vertice inicial.
+     *
+     * @param info el vertice.
+     * @return <b>true</b> si el vertice es alcanzable, el vertice inicial es
+     * alcanzable desde si mismo.
+     */
+    public boolean isReachable(T info) {
+        return getDistance(info) >= 0;
+    }
+
+    /**
+     * Establece si existe un camino desde el vertice inicial hasta un vertice
+     * con una longitud de a lo sumo una cantidad de aristas.
+     * <p>
+     * Al igual que en
+     * {@link io.github.ldelpino.graph.Graph#existPath(java.lang.Object, java.lang.Object)},
+     * no se considera un camino desde el vertice inicial hasta si mismo.</p>
+     *
+     * @param info el vertice final en el camino.
+     * @param length la longitud maxima del camino.
+     * @return <b>true</b> si existe el camino, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean existPathWithin(T info, int length) {
+        int distance = getDistance(info);
+        return distance > 0 && distance <= length;
+    }
+
+    /**
+     * Devuelve la cantidad de vertices alcanzables desde el vertice inicial,
+     * incluido el mismo.
+     *
+     * @return la cantidad de vertices alcanzables.
+     */
+    public int getReachableCount() {
+        int reachable = 0;
+        for (int distance : distances) {
+            if (distance >= 0) {
+                reachable++;
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Devuelve la mayor distancia de un vertice alcanzable, o sea, la
+     * excentricidad del vertice inicial en su componente.
+     *
+     * @return la mayor distancia.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Devuelve los vertices que se encuentran a una distancia del vertice
+     * inicial.
+     *
+     * @param distance la distancia.
+     * @return la lista de vertices a la distancia, en el orden de la
+     * instantanea.
+     */
+    public List<T> getVerticesAt(int distance) {
+        List<T> vertices = new ArrayList<>();
+        for (int id = 0; id < distances.length; id++) {
+            if (distances[id] == distance) {
+                vertices.add(graph.infoOf(id));
+            }
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Permite la creacion de una cola de prioridad minima indexada de aridad
+ * <b>d</b>.
+ * <p>
+ * Los elementos de la cola son identificadores enteros no negativos y su
+ * prioridad es un numero real, la posicion de cada identificador en el
+ * monticulo se almacena en un arreglo, por lo que disminuir la prioridad de un
+ * elemento no requiere buscarlo. Los arreglos crecen a medida que se insertan
+ * identificadores mayores que la capacidad.</p>
+ * <p>
+ * La clase es utilizada por los algoritmos de camino mas corto, como el
+ * algoritmo de <b>Djisktra</b>.</p>
+ *
+ * @see io.github.ldelpino.graph.Graph#djisktra(java.lang.Object, java.lang.Object, java.util.List)
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class IndexedDaryHeap {
+
+    private final int arity;
+
+    /**
+     * Los identificadores ordenados como monticulo.
+     */
+    private int[] heap;
+
+    /**
+     * La posicion de cada identificador en el monticulo, o <b>-1</b> si no
+     * esta en la cola.
+     */
+    private int[] positions;
+
+    /**
+     * La prioridad de cada identificador.
+     */
+    private double[] keys;
+
+    private int size;
+
+    /**
+     * Crea una nueva cola de prioridad.
+     *
+     * @param arity la cantidad de hijos de cada nodo del monticulo, mayor o
+     * igual que <b>2</b>.
+     * @param capacity la cantidad de identificadores esperada.
+     */
+    public IndexedDaryHeap(int arity, int capacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        capacity = Math.max(capacity, 1);
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Establece si la cola esta vacia.
+     *
+     * @return <b>true</b> si la cola esta vacia, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos en la cola.
+     *
+     * @return la cantidad de elementos.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Establece si un identificador esta en la cola.
+     *
+     * @param id el identificador.
+     * @return <b>true</b> si el identificador esta en la cola, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    public boolean contains(int id) {
+        return id < positions.length && positions[id] >= 0;
+    }
+
+    /**
+     * Inserta un identificador en la cola o disminuye su prioridad si ya esta
+     * en ella.
+     * <p>
+     * Si el identificador esta en la cola con una prioridad menor o igual, la
+     * cola no se modifica.</p>
+     *
+     * @param id el identificador.
+     * @param key la prioridad del identificador.
+     * @return <b>true</b> si la cola fue modificada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean insertOrDecrease(int id, double key) {
+        if (contains(id)) {
+            if (key >= keys[id]) {
+                return false;
+            }
+            keys[id] = key;
+            siftUp(positions[id]);
+            return true;
+        }
+        ensureCapacity(id + 1);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size + (size >> 1) + 1);
+        }
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+        return true;
+    }
+
+    /**
+     * Devuelve el identificador con menor prioridad sin removerlo.
+     *
+     * @return el identificador con menor prioridad.
+     * @throws java.util.NoSuchElementException si la cola esta vacia.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Devuelve la menor prioridad de la cola.
+     *
+     * @return la menor prioridad, o {@link java.lang.Double#POSITIVE_INFINITY}
+     * si la cola esta vacia.
+     */
+    public double peekKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : keys[heap[0]];
+    }
+
+    /**
+     * Remueve y devuelve el identificador con menor prioridad.
+     *
+     * @return el identificador con menor prioridad.
+     * @throws java.util.NoSuchElementException si la cola esta vacia.
+     */
+    public int poll() {
+        int id = peek();
+        positions[id] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return id;
+    }
+
+    /**
+     * Devuelve la ultima prioridad asignada a un identificador.
+     *
+     * @param id el identificador.
+     * @return la prioridad del identificador.
+     */
+    public double key(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Vacia la cola.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int length = Math.max(capacity, positions.length + (positions.length >> 1));
+            int previous = positions.length;
+            positions = Arrays.copyOf(positions, length);
+            Arrays.fill(positions, previous, length, -1);
+            keys = Arrays.copyOf(keys, length);
+        }
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        double key = keys[id];
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            int parentId = heap[parent];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[position] = parentId;
+            positions[parentId] = position;
+            position = parent;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        double key = keys[id];
+        while (true) {
+            int first = position * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int child = first + 1; child < last; child++) {
+                if (keys[heap[child]] < keys[heap[best]]) {
+                    best = child;
+                }
+            }
+            if (keys[heap[best]] >= key) {
+                break;
+            }
+            heap[position] = heap[best];
+            positions[heap[position]] = position;
+            position = best;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Permite recorrer una secuencia de vertices enteros sin convertirlos en
+ * objetos.
+ * <p>
+ * El cursor es utilizado por los grafos de vertices enteros para devolver los
+ * adyacentes de un vertice sin crear un objeto {@link java.lang.Integer} por
+ * cada elemento.</p>
+ *
+ * @see io.github.ldelpino.graph.api.IntGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public interface IntCursor {
+
+    /**
+     * Un cursor sin elementos.
+     */
+    public static final IntCursor EMPTY = of(new int[0], 0, 0);
+
+    /**
+     * Establece si quedan elementos por recorrer.
+     *
+     * @return <b>true</b> si quedan elementos, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean hasNext();
+
+    /**
+     * Devuelve el siguiente elemento y avanza el cursor.
+     *
+     * @return el siguiente elemento.
+     * @throws java.util.NoSuchElementException si no quedan elementos.
+     */
+    public int next();
+
+    /**
+     * Devuelve la cantidad total de elementos del cursor.
+     *
+     * @return la cantidad de elementos.
+     */
+    public int size();
+
+    /**
+     * Crea un cursor sobre una seccion de un arreglo.
+     * <p>
+     * El cursor no copia el arreglo, por lo que los cambios en el arreglo se
+     * reflejan en el recorrido.</p>
+     *
+     * @param values el arreglo a recorrer.
+     * @param from la posicion inicial, inclusiva.
+     * @param to la posicion final, exclusiva.
+     * @return el cursor sobre la seccion del arreglo.
+     */
+    public static IntCursor of(int[] values, int from, int to) {
+        return new IntCursor() {
+            private int position = from;
+
+            @Override
+            public boolean hasNext() {
+                return position < to;
+            }
+
+            @Override
+            public int next() {
+                if (position >= to) {
+                    throw new NoSuchElementException();
+                }
+                return values[position++];
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+}
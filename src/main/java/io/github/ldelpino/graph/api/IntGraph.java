@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+/**
+ * Permite crear un grafo cuyos vertices son enteros no negativos.
+ * <p>
+ * La interfaz es la version primitiva de {@link io.github.ldelpino.graph.Graph}
+ * para grafos sin peso cuyos vertices se identifican por un entero. Los
+ * vertices y las aristas no se representan como objetos, por lo que ninguna de
+ * las operaciones convierte los vertices en {@link java.lang.Integer}.</p>
+ *
+ * @see io.github.ldelpino.graph.api.AbstractIntGraph
+ * @see io.github.ldelpino.graph.api.IntCursor
+ * @see io.github.ldelpino.graph.Graph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public interface IntGraph {
+
+    /**
+     * Establece si el grafo es dirigido o no.
+     *
+     * @return <b>true</b> si el grafo es dirigido, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean isDirected();
+
+    /**
+     * Devuelve la cantidad de vertices en el grafo.
+     *
+     * @return la cantidad de vertices en el grafo.
+     */
+    public int getVertexCount();
+
+    /**
+     * Devuelve la cantidad total de aristas del grafo.
+     * <p>
+     * Cada arista se cuenta una sola vez, tanto en un grafo dirigido como en
+     * uno no dirigido, incluidos los lazos. A diferencia de
+     * {@link io.github.ldelpino.graph.Graph#getTotalEdgesCount()}, que suma
+     * las aristas de cada vertice, por lo que en un grafo dirigido cuenta cada
+     * arista dos veces, una en su cola y otra en su cabeza, y en uno no
+     * dirigido cuenta dos veces cada arista que no es un lazo.</p>
+     *
+     * @return la cantidad de aristas del grafo.
+     */
+    public int getTotalEdgesCount();
+
+    /**
+     * Devuelve los vertices del grafo en orden ascendente.
+     *
+     * @return el cursor con los vertices del grafo.
+     */
+    public IntCursor getVertices();
+
+    /**
+     * Inserta un nuevo vertice en el grafo.
+     *
+     * @param vertex el vertice, debe ser mayor o igual que cero.
+     * @return <b>true</b> si el vertice fue insertado, de lo contrario devuelve
+     * <b>false</b>.
+     * @throws IllegalArgumentException si el vertice es mayor que
+     * {@link io.github.ldelpino.graph.api.AbstractIntGraph#MAX_VERTEX}.
+     */
+    public boolean insertVertex(int vertex);
+
+    /**
+     * Establece si un vertice existe en el grafo.
+     *
+     * @param vertex el vertice.
+     * @return <b>true</b> si el vertice existe, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean existVertex(int vertex);
+
+    /**
+     * Elimina el vertice y sus aristas del grafo.
+     *
+     * @param vertex el vertice.
+     * @return <b>true</b> si el vertice fue eliminado, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    public boolean removeVertex(int vertex);
+
+    /**
+     * Inserta una nueva arista en el grafo a partir de sus vertices.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean insertEdge(int tail, int head);
+
+    /**
+     * Remueve una arista dado sus vertices.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue removida, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    public boolean removeEdge(int tail, int head);
+
+    /**
+     * Establece si dos vertices son adyacentes.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si los vertices son adyacentes, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    public boolean areAdjacents(int tail, int head);
+
+    /**
+     * Devuelve los vertices adyacentes a un vertice establecido.
+     *
+     * @param vertex el vertice.
+     * @return el cursor con los vertices adyacentes si el vertice existe, de
+     * lo contrario devuelve <b>null</b>.
+     */
+    public IntCursor getAdjacents(int vertex);
+
+    /**
+     * Devuelve el grado de un vertice en el grafo.
+     * <p>
+     * Para un grafo no dirigido el grado del vertice es su cantidad de
+     * adyacentes, para un grafo dirigido es su cantidad de adyacentes mas la
+     * cantidad de vertices que lo tienen como adyacente.</p>
+     *
+     * @param vertex el vertice.
+     * @return el grado del vertice si existe, de lo contrario devuelve
+     * <b>-1</b>.
+     */
+    public int degree(int vertex);
+
+    /**
+     * Vacia el grafo completamente.
+     */
+    public void cleanGraph();
+}
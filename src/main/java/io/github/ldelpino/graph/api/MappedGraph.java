@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Permite consultar un grafo inmutable almacenado en un fichero proyectado en
+ * memoria.
+ * <p>
+ * El fichero se proyecta con {@link java.nio.channels.FileChannel#map} y los
+ * arreglos del formato CSR se leen directamente de la proyeccion, sin copiarlos
+ * al heap, por lo que abrir un grafo tiene un costo constante y las paginas del
+ * fichero son compartidas por todas las maquinas virtuales que abren el mismo
+ * fichero en un equipo. El fichero tiene el formato:</p>
+ * <pre>
+ * cabecera:   int MAGIC, int VERSION, int flags, int cantidad de vertices,
+ *             long cantidad de adyacentes, long capacidad de la tabla,
+ *             long posicion de cada seccion
+ * offsets:    long[vertices + 1], el inicio de los adyacentes de cada vertice
+ * targets:    int[adyacentes], los adyacentes ordenados de cada vertice
+ * weights:    double[adyacentes], si el grafo tiene peso en las aristas
+ * inDegrees:  int[vertices], incluidos los lazos, si el grafo es dirigido
+ * table:      long[capacidad], tabla hash de direccionamiento abierto
+ * keys:       la informacion de cada vertice escrita con un ValueCodec
+ * keyOffsets: long[vertices + 1], el inicio de la informacion de cada vertice
+ * </pre>
+ * <p>
+ * Cada seccion comienza en una posicion multiplo de ocho. En un grafo no
+ * dirigido cada arista aparece en los adyacentes de sus dos extremos, igual que
+ * en {@link io.github.ldelpino.graph.api.FrozenGraph}. Cada entrada de la
+ * tabla hash contiene el codigo hash de la informacion de un vertice y su
+ * identificador, por lo que el codigo hash de la informacion de los vertices
+ * debe ser el mismo en todas las maquinas virtuales, como ocurre con
+ * {@link java.lang.String}, {@link java.lang.Integer} o
+ * {@link java.lang.Long}. La informacion de un vertice se decodifica cada vez
+ * que es solicitada. El peso de los vertices no se almacena.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.AbstractCsrGraph
+ * @see io.github.ldelpino.graph.api.FrozenGraph
+ * @see io.github.ldelpino.graph.api.ValueCodec
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class MappedGraph<T> extends AbstractCsrGraph<T> {
+
+    /**
+     * El numero que identifica el formato, los caracteres <b>LDGM</b>.
+     */
+    public static final int MAGIC = 0x4C44474D;
+
+    /**
+     * La version del formato.
+     */
+    public static final int VERSION = 2;
+
+    private static final int DIRECTED = 1;
+    private static final int WEIGHTED_VERTEX = 2;
+    private static final int WEIGHTED_EDGE = 4;
+    private static final int HEADER_SIZE = 96;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Un fichero se proyecta en segmentos de <b>2^30</b> bytes, los limites de
+     * los segmentos son multiplos de ocho por lo que ningun valor queda
+     * dividido entre dos segmentos.
+     */
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final ValueCodec<? extends T> keys;
+    private final int vertexCount;
+    private final long arcCount;
+    private final long tableMask;
+    private final long offsetsPosition;
+    private final long targetsPosition;
+    private final long weightsPosition;
+    private final long inDegreesPosition;
+    private final long tablePosition;
+    private final long keysPosition;
+    private final long keyOffsetsPosition;
+
+    private MappedGraph(MappedByteBuffer[] segments, int flags, ValueCodec<? extends T> keys) {
+        super((flags & DIRECTED) != 0, (flags & WEIGHTED_VERTEX) != 0, (flags & WEIGHTED_EDGE) != 0);
+        this.segments = segments;
+        this.keys = keys;
+        this.vertexCount = getInt(12);
+        this.arcCount = getLong(16);
+        this.tableMask = getLong(24) - 1;
+        this.offsetsPosition = getLong(32);
+        this.targetsPosition = getLong(40);
+        this.weightsPosition = getLong(48);
+        this.inDegreesPosition = getLong(56);
+        this.tablePosition = getLong(64);
+        this.keysPosition = getLong(72);
+        this.keyOffsetsPosition = getLong(80);
+    }
+
+    /**
+     * Escribe un grafo en un fichero con el formato de la clase.
+     * <p>
+     * El grafo se convierte primero al formato CSR con
+     * {@link io.github.ldelpino.graph.api.AbstractGraph#freeze()}, los
+     * identificadores de los vertices siguen el orden de insercion.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a escribir.
+     * @param file el fichero, si existe es sobrescrito.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public static <T> void write(AbstractGraph<T> graph, Path file, ValueCodec<? super T> keys) throws IOException {
+        FrozenGraph<T> frozen = graph.freeze();
+        int count = frozen.getVertexCount();
+        int[] offsets = frozen.offsets();
+        int[] targets = frozen.targets();
+        double[] weights = frozen.weights();
+        int[] inDegrees = frozen.isDirected() ? frozen.inDegrees() : null;
+        long capacity = 2;
+        while (capacity < 2L * count) {
+            capacity <<= 1;
+        }
+        long offsetsPosition = HEADER_SIZE;
+        long targetsPosition = offsetsPosition + 8L * (count + 1);
+        long position = align(targetsPosition + 4L * targets.length);
+        long weightsPosition = 0;
+        if (weights != null) {
+            weightsPosition = position;
+            position += 8L * weights.length;
+        }
+        long inDegreesPosition = 0;
+        if (inDegrees != null) {
+            inDegreesPosition = position;
+            position = align(position + 4L * count);
+        }
+        long tablePosition = position;
+        long keysPosition = tablePosition + 8 * capacity;
+        long[] table = new long[(int) capacity];
+        for (int id = 0; id < count; id++) {
+            int hash = hash(frozen.infoOf(id));
+            int slot = (int) (hash & (capacity - 1));
+            while (table[slot] != 0) {
+                slot = (int) ((slot + 1) & (capacity - 1));
+            }
+            table[slot] = ((long) hash << 32) | (id + 1L);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+            out.write(new byte[HEADER_SIZE]);
+            for (int offset : offsets) {
+                out.writeLong(offset);
+            }
+            for (int target : targets) {
+                out.writeInt(target);
+            }
+            pad(out, targets.length);
+            if (weights != null) {
+                for (double weight : weights) {
+                    out.writeDouble(weight);
+                }
+            }
+            if (inDegrees != null) {
+                for (int inDegree : inDegrees) {
+                    out.writeInt(inDegree);
+                }
+                pad(out, count);
+            }
+            for (long entry : table) {
+                out.writeLong(entry);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream key = new DataOutputStream(bytes);
+            long[] keyOffsets = new long[count + 1];
+            for (int id = 0; id < count; id++) {
+                bytes.reset();
+                keys.write(key, frozen.infoOf(id));
+                key.flush();
+                bytes.writeTo(out);
+                keyOffsets[id + 1] = keyOffsets[id] + bytes.size();
+            }
+            long keyOffsetsPosition = align(keysPosition + keyOffsets[count]);
+            out.write(new byte[(int) (keyOffsetsPosition - keysPosition - keyOffsets[count])]);
+            for (long keyOffset : keyOffsets) {
+                out.writeLong(keyOffset);
+            }
+            out.flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION)
+                    .putInt((frozen.isDirected() ? DIRECTED : 0)
+                            | (frozen.isWeightedVertex() ? WEIGHTED_VERTEX : 0)
+                            | (weights != null ? WEIGHTED_EDGE : 0))
+                    .putInt(count).putLong(targets.length).putLong(capacity)
+                    .putLong(offsetsPosition).putLong(targetsPosition).putLong(weightsPosition)
+                    .putLong(inDegreesPosition).putLong(tablePosition).putLong(keysPosition)
+                    .putLong(keyOffsetsPosition);
+            header.flip();
+            channel.write(header, 0);
+        }
+    }
+
+    /**
+     * Abre un grafo almacenado con el formato de la clase.
+     * <p>
+     * El fichero se proyecta en memoria en modo de solo lectura y el canal se
+     * cierra al terminar, la proyeccion se mantiene mientras el grafo sea
+     * alcanzable. El fichero no debe ser modificado mientras el grafo este en
+     * uso.</p>
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param file el fichero.
+     * @param keys la codificacion de la informacion de los vertices.
+     * @return el grafo proyectado.
+     * @throws java.io.IOException si ocurre un error de lectura o el fichero
+     * no tiene el formato correcto.
+     */
+    public static <T> MappedGraph<T> open(Path file, ValueCodec<? extends T> keys) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new StreamCorruptedException("Truncated graph file: " + size + " bytes.");
+            }
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size - 1) >>> SEGMENT_BITS) + 1];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i << SEGMENT_BITS;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(size - start, 1L << SEGMENT_BITS));
+            }
+            int magic = segments[0].getInt(0);
+            if (magic != MAGIC) {
+                throw new StreamCorruptedException("Invalid graph file magic: " + Integer.toHexString(magic));
+            }
+            int version = segments[0].getInt(4);
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported graph file version: " + version);
+            }
+            MappedGraph<T> graph = new MappedGraph<>(segments, segments[0].getInt(8), keys);
+            if (graph.vertexCount < 0 || graph.keyOffsetsPosition + 8L * (graph.vertexCount + 1) > size) {
+                throw new StreamCorruptedException("Truncated graph file: " + size + " bytes.");
+            }
+            return graph;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Devuelve el identificador denso de un vertice.
+     * <p>
+     * El vertice se busca en la tabla hash del fichero, solo se decodifica la
+     * informacion de los vertices cuyo codigo hash coincide.</p>
+     *
+     * @param info la informacion del vertice.
+     * @return el identificador del vertice, o <b>-1</b> si no existe.
+     */
+    @Override
+    public int indexOf(Object info) {
+        if (info == null) {
+            return -1;
+        }
+        int hash = hash(info);
+        for (long slot = hash & tableMask;; slot = (slot + 1) & tableMask) {
+            long entry = getLong(tablePosition + 8 * slot);
+            if (entry == 0) {
+                return -1;
+            }
+            int id = (int) entry - 1;
+            if ((int) (entry >>> 32) == hash && info.equals(infoOf(id))) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Devuelve la informacion del vertice con el identificador establecido.
+     * <p>
+     * La informacion se decodifica desde el fichero en cada llamada.</p>
+     *
+     * @param id el identificador del vertice.
+     * @return la informacion del vertice.
+     */
+    @Override
+    public T infoOf(int id) {
+        if (id < 0 || id >= vertexCount) {
+            throw new IndexOutOfBoundsException(id);
+        }
+        long from = getLong(keyOffsetsPosition + 8L * id);
+        byte[] bytes = new byte[(int) (getLong(keyOffsetsPosition + 8L * id + 8) - from)];
+        for (int i = 0; i < bytes.length; i++) {
+            long position = keysPosition + from + i;
+            bytes[i] = segments[(int) (position >>> SEGMENT_BITS)].get((int) (position & SEGMENT_MASK));
+        }
+        try {
+            return keys.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Corrupted vertex " + id + ".", ex);
+        }
+    }
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    @Override
+    protected long offset(int id) {
+        return getLong(offsetsPosition + 8L * id);
+    }
+
+    /**
+     *
+     * @param position
+     * @return
+     */
+    @Override
+    protected int target(long position) {
+        return getInt(targetsPosition + 4 * position);
+    }
+
+    /**
+     *
+     * @param position
+     * @return
+     */
+    @Override
+    protected double weight(long position) {
+        long at = weightsPosition + 8 * position;
+        return segments[(int) (at >>> SEGMENT_BITS)].getDouble((int) (at & SEGMENT_MASK));
+    }
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    @Override
+    protected int inDegree(int id) {
+        return inDegreesPosition == 0 ? 0 : getInt(inDegreesPosition + 4L * id);
+    }
+
+    /**
+     * Devuelve una cadena de caracteres que representa este grafo.
+     *
+     * @return la cadena de caracteres de este grafo.
+     */
+    @Override
+    public String toString() {
+        return "MappedGraph " + (isDirected() ? "Directed " : "NotDirected ")
+                + vertexCount + " vertices and " + arcCount + " adjacencies.";
+    }
+
+    private int getInt(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getInt((int) (position & SEGMENT_MASK));
+    }
+
+    private long getLong(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    private static int hash(Object info) {
+        int hash = info.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static void pad(DataOutputStream out, long ints) throws IOException {
+        if ((ints & 1) != 0) {
+            out.writeInt(0);
+        }
+    }
+}
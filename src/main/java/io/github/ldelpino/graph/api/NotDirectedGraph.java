@@ -16,8 +16,9 @@
  */
 package io.github.ldelpino.graph.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import io.github.ldelpino.graph.vertex.Vertex;
 
@@ -29,6 +30,12 @@ import io.github.ldelpino.graph.vertex.Vertex;
  * vertice B hasta el vertice A, en un grafo no dirigido solo puede existir una
  * sola arista entre dos vertices y los dos vertices almacenan a la arista.</p>
  * <p>
+ * El grafo mantiene sus componentes conexas en una particion de conjuntos
+ * disjuntos indexada por la posicion de los vertices, que se actualiza al
+ * insertar cada arista, por lo que establecer si dos vertices estan conectados
+ * tiene un costo casi constante. Eliminar aristas o vertices invalida la
+ * particion, que se reconstruye en la siguiente consulta.</p>
+ * <p>
  * La clase tiene el metodo
  * {@link roj.redcorp.graph.api.NotDirectedGraph#isDirected()} como final para
  * evitar incongruencias en futuras clases que hereden de esta.</p>
@@ -48,6 +55,20 @@ import io.github.ldelpino.graph.vertex.Vertex;
  */
 public abstract class NotDirectedGraph<T> extends AbstractGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Las componentes conexas del grafo indexadas por la posicion de los
+     * vertices.
+     */
+    private transient DisjointSets components;
+
+    /**
+     * Establece si las componentes corresponden a las aristas del grafo, las
+     * consultas reconstruyen las componentes si no son validas.
+     */
+    private transient volatile boolean componentsValid;
+
     /**
      * Crea un nuevo grafo no dirigido.
      */
@@ -71,10 +92,12 @@ public abstract class NotDirectedGraph<T> extends AbstractGraph<T> {
     @Override
     public boolean isCyclic() {
         boolean cycle = false;
+        GraphTraversal<T> traversal = newTraversal();
+        int[] parents = new int[getIndexBound()];
         Iterator<Vertex<T>> iter = getVertices0().iterator();
         while (!cycle && iter.hasNext()) {
             Vertex<T> current = iter.next();
-            cycle = cycleInNodeND(null, current, new LinkedList<>());
+            cycle = !traversal.isVisited(current) && cycleInNodeND(current, traversal, parents);
         }
         return cycle;
     }
@@ -87,8 +110,9 @@ public abstract class NotDirectedGraph<T> extends AbstractGraph<T> {
     @Override
     public int degree(T info) {
         int degree = -1;
-        if (existVertex(info)) {
-            degree = outDegree(getVertex(info));
+        Vertex<T> vertex = getVertex(info);
+        if (vertex != null) {
+            degree = outDegree(vertex);
         }
         return degree;
     }
@@ -117,34 +141,171 @@ public abstract class NotDirectedGraph<T> extends AbstractGraph<T> {
         if (areAdjacents(infoTail, infoHead)) {
             Vertex<T> vertexTail = getVertex(infoTail);
             Vertex<T> vertexHead = getVertex(infoHead);
-            return vertexTail.removeEdge(vertexHead) && vertexHead.removeEdge(vertexTail);
+            componentsValid = false;
+            return vertexTail.removeEdge(vertexHead)
+                    && (vertexTail == vertexHead || vertexHead.removeEdge(vertexTail));
         }
         return false;
     }
 
     /**
-     * Establece si el grafo tiene ciclos o no de forma recursiva.
+     * Establece si existe un camino entre dos vertices distintos.
+     * <p>
+     * En un grafo no dirigido existe un camino entre dos vertices si
+     * pertenecen a la misma componente conexa, por lo que la consulta se
+     * responde con las componentes del grafo.</p>
      *
-     * @param origin el vertice origen.
-     * @param vertex el vertice con el cual encontar el origen.
-     * @param visited la lista de vertices visitados.
+     * @param infoTail el vertice inicial.
+     * @param infoHead el vertice final.
+     * @return <b>true</b> si existe un camino, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    @Override
+    public boolean existPath(T infoTail, T infoHead) {
+        return infoTail != null && !infoTail.equals(infoHead) && areConnected(infoTail, infoHead);
+    }
+
+    /**
+     * Establece si dos vertices pertenecen a la misma componente conexa.
+     *
+     * @param info el primer vertice.
+     * @param other el segundo vertice.
+     * @return <b>true</b> si los vertices existen y estan conectados, de lo
+     * contrario devuelve <b>false</b>.
+     */
+    public boolean areConnected(T info, T other) {
+        Vertex<T> vertex = getVertex(info);
+        Vertex<T> otherVertex = getVertex(other);
+        if (vertex == null || otherVertex == null) {
+            return false;
+        }
+        DisjointSets sets = components();
+        return sets.find(vertex.getIndex()) == sets.find(otherVertex.getIndex());
+    }
+
+    /**
+     * Devuelve la cantidad de componentes conexas del grafo.
+     *
+     * @return la cantidad de componentes conexas.
+     */
+    public int getComponentCount() {
+        return getVertexCount() - components().getUnions();
+    }
+
+    /**
+     * Devuelve los vertices de cada componente conexa.
+     * <p>
+     * Las componentes y sus vertices siguen el orden de insercion de los
+     * vertices.</p>
+     *
+     * @return la lista de componentes.
+     */
+    public List<List<T>> getConnectedComponents() {
+        DisjointSets sets = components();
+        int[] positions = new int[getIndexBound()];
+        Arrays.fill(positions, -1);
+        List<List<T>> result = new ArrayList<>();
+        for (Vertex<T> vertex : getVertices0()) {
+            int root = sets.find(vertex.getIndex());
+            if (positions[root] < 0) {
+                positions[root] = result.size();
+                result.add(new ArrayList<>());
+            }
+            result.get(positions[root]).add(vertex.getInfo());
+        }
+        return result;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void cleanGraph() {
+        componentsValid = false;
+        super.cleanGraph();
+    }
+
+    /**
+     * Notifica que una arista fue insertada entre dos vertices.
+     * <p>
+     * Las implementaciones invocan este metodo despues de insertar cada arista
+     * para mantener las componentes conexas.</p>
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     */
+    protected void edgeInserted(Vertex<T> vertexTail, Vertex<T> vertexHead) {
+        if (componentsValid) {
+            components.union(vertexTail.getIndex(), vertexHead.getIndex());
+        }
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    protected T removeVertex(Vertex<T> vertex) {
+        componentsValid = false;
+        return super.removeVertex(vertex);
+    }
+
+    /**
+     * Establece si existe un ciclo entre los vertices alcanzables desde un
+     * vertice.
+     * <p>
+     * El recorrido en profundidad encuentra un ciclo cuando examina una arista
+     * hacia un vertice ya visitado que no es el vertice desde el cual fue
+     * descubierto el vertice actual.</p>
+     *
+     * @param vertex el vertice inicial con el cual encontrar un ciclo.
+     * @param traversal el recorrido con los vertices visitados.
+     * @param parents el arreglo indexado por la posicion de cada vertice donde
+     * se almacena la posicion del vertice desde el cual fue descubierto.
      * @return <b>true</b> si el grafo tiene ciclos, de lo contrario devuelve
      * <b>false</b>.
      */
-    protected boolean cycleInNodeND(Vertex<T> origin, Vertex<T> vertex, List<Vertex<T>> visited) {
-        boolean cycle = false;
-        if (!visited.contains(vertex)) {
-            visited.add(vertex);
-            Iterator<Vertex<T>> iter = vertex.getAdjacents().iterator();
-            while (!cycle && iter.hasNext()) {
-                Vertex<T> current = iter.next();
-                if (!current.equals(origin)) {
-                    cycle = cycleInNodeND(vertex, current, visited);
+    protected boolean cycleInNodeND(Vertex<T> vertex, GraphTraversal<T> traversal, int[] parents) {
+        return !traversal.depthFirst(vertex, new GraphTraversal.Visitor<>() {
+            @Override
+            public boolean discover(Vertex<T> discovered, Vertex<T> parent) {
+                parents[discovered.getIndex()] = parent != null ? parent.getIndex() : -1;
+                return true;
+            }
+
+            @Override
+            public boolean examine(Vertex<T> tail, Vertex<T> head, GraphTraversal.State state) {
+                return state == GraphTraversal.State.UNVISITED
+                        || head.getIndex() == parents[tail.getIndex()];
+            }
+        });
+    }
+
+    /**
+     * Devuelve las componentes conexas, reconstruyendolas si fueron
+     * invalidadas.
+     * <p>
+     * La reconstruccion se sincroniza para que varias consultas concurrentes,
+     * por ejemplo bajo el bloqueo de lectura de
+     * {@link io.github.ldelpino.graph.api.ReadWriteGraph}, no la realicen a la
+     * vez, las consultas no modifican las componentes.</p>
+     */
+    private DisjointSets components() {
+        if (!componentsValid) {
+            synchronized (this) {
+                if (!componentsValid) {
+                    DisjointSets sets = new DisjointSets(getIndexBound());
+                    for (Vertex<T> vertex : getVertices0()) {
+                        for (Vertex<T> adjacent : vertex.getAdjacents()) {
+                            sets.union(vertex.getIndex(), adjacent.getIndex());
+                        }
+                    }
+                    components = sets;
+                    componentsValid = true;
                 }
             }
-        } else {
-            cycle = true;
         }
-        return cycle;
+        return components;
     }
 }
@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Permite recorrer en anchura y en paralelo una instantanea de un grafo.
+ * <p>
+ * El recorrido es sincronizado por niveles, cada nivel se expande en un
+ * {@link java.util.concurrent.ForkJoinPool} a partir de la frontera del nivel
+ * anterior. La expansion alterna entre dos direcciones segun el tamano de la
+ * frontera, como propone <b>Beamer</b>: de arriba hacia abajo, donde cada
+ * vertice de la frontera reclama a sus adyacentes no visitados, y de abajo
+ * hacia arriba, donde cada vertice no visitado busca entre los vertices que lo
+ * tienen como adyacente alguno que pertenezca a la frontera y se detiene al
+ * encontrarlo. La primera direccion se utiliza mientras la frontera es pequena
+ * y la frontera se almacena en un arreglo, la segunda cuando las aristas de la
+ * frontera superan una fraccion de las aristas por explorar y la frontera se
+ * almacena en un conjunto de bits.</p>
+ * <p>
+ * Para la expansion de abajo hacia arriba en un grafo dirigido se construye,
+ * al crear el objeto, la adyacencia inversa de la instantanea, por lo que un
+ * mismo objeto deberia reutilizarse para varios recorridos. El resultado de un
+ * recorrido contiene la distancia en saltos de cada vertice, por lo que un
+ * solo recorrido responde todas las consultas de alcance desde el mismo
+ * vertice.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.HopDistances
+ * @see io.github.ldelpino.graph.api.FrozenGraph
+ * @see io.github.ldelpino.graph.api.MappedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class ParallelBreadthFirst<T> {
+
+    /**
+     * La expansion cambia de abajo hacia arriba cuando las aristas de la
+     * frontera superan esta fraccion de las aristas por explorar.
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * La expansion regresa de arriba hacia abajo cuando la frontera es menor
+     * que esta fraccion de los vertices.
+     */
+    private static final int BETA = 24;
+
+    /**
+     * La cantidad minima de vertices que procesa una tarea.
+     */
+    private static final int GRAIN = 1 << 11;
+
+    private final AbstractCsrGraph<T> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * El inicio de los vertices que tienen a cada vertice como adyacente, o
+     * <b>null</b> si el grafo no es dirigido.
+     */
+    private final int[] inOffsets;
+
+    /**
+     * Los identificadores de los vertices que tienen a cada vertice como
+     * adyacente, o <b>null</b> si el grafo no es dirigido.
+     */
+    private final int[] sources;
+
+    /**
+     * Crea un nuevo recorrido que se ejecuta en el
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param graph la instantanea del grafo.
+     */
+    public ParallelBreadthFirst(AbstractCsrGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un nuevo recorrido.
+     *
+     * @param graph la instantanea del grafo.
+     * @param pool el conjunto de hilos en el cual expandir cada nivel.
+     * @throws IllegalArgumentException si el grafo es dirigido y su cantidad
+     * de aristas no cabe en un arreglo.
+     */
+    public ParallelBreadthFirst(AbstractCsrGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        if (graph.isDirected()) {
+            int count = graph.getVertexCount();
+            long arcs = graph.offset(count);
+            if (arcs > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many edges for the reverse adjacency: " + arcs);
+            }
+            this.inOffsets = new int[count + 1];
+            for (long k = 0; k < arcs; k++) {
+                inOffsets[graph.target(k) + 1]++;
+            }
+            for (int id = 0; id < count; id++) {
+                inOffsets[id + 1] += inOffsets[id];
+            }
+            this.sources = new int[(int) arcs];
+            int[] positions = Arrays.copyOf(inOffsets, count);
+            for (int id = 0; id < count; id++) {
+                for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                    sources[positions[graph.target(k)]++] = id;
+                }
+            }
+        } else {
+            this.inOffsets = null;
+            this.sources = null;
+        }
+    }
+
+    /**
+     * Devuelve la instantanea que recorre este objeto.
+     *
+     * @return la instantanea del grafo.
+     */
+    public AbstractCsrGraph<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Recorre el grafo en anchura desde un vertice.
+     *
+     * @param source el vertice inicial del recorrido.
+     * @return la distancia en saltos de cada vertice al vertice inicial, o
+     * <b>null</b> si el vertice no existe.
+     */
+    public HopDistances<T> search(T source) {
+        int root = graph.indexOf(source);
+        if (root < 0) {
+            return null;
+        }
+        int count = graph.getVertexCount();
+        //cada vertice almacena su nivel mas uno, cero si no ha sido visitado
+        AtomicIntegerArray levels = new AtomicIntegerArray(count);
+        levels.set(root, 1);
+        int[] frontier = {root};
+        long[] frontierBits = null;
+        int frontierSize = 1;
+        long frontierEdges = outDegree(root);
+        long unexploredEdges = graph.offset(count);
+        int level = 1;
+        while (frontierSize > 0) {
+            if (frontierBits == null && frontierEdges > unexploredEdges / ALPHA) {
+                frontierBits = toBits(frontier, frontierSize, count);
+            } else if (frontierBits != null && frontierSize < count / BETA) {
+                frontier = toArray(frontierBits, frontierSize);
+                frontierBits = null;
+            }
+            unexploredEdges -= frontierEdges;
+            frontierSize = 0;
+            frontierEdges = 0;
+            if (frontierBits == null) {
+                List<TopDown> steps = topDown(levels, frontier, level + 1);
+                for (TopDown step : steps) {
+                    frontierSize += step.size;
+                    frontierEdges += step.edges;
+                }
+                int[] next = new int[frontierSize];
+                int position = 0;
+                for (TopDown step : steps) {
+                    System.arraycopy(step.found, 0, next, position, step.size);
+                    position += step.size;
+                }
+                frontier = next;
+            } else {
+                long[] next = new long[frontierBits.length];
+                for (BottomUp step : bottomUp(levels, frontierBits, next, level + 1)) {
+                    frontierSize += step.size;
+                    frontierEdges += step.edges;
+                }
+                frontierBits = next;
+            }
+            level++;
+        }
+        int[] distances = new int[count];
+        for (int id = 0; id < count; id++) {
+            distances[id] = levels.get(id) - 1;
+        }
+        return new HopDistances<>(graph, root, distances, level - 2);
+    }
+
+    /**
+     * Expande de arriba hacia abajo una frontera almacenada en un arreglo.
+     */
+    private List<TopDown> topDown(AtomicIntegerArray levels, int[] frontier, int level) {
+        int tasks = tasks(frontier.length, GRAIN);
+        List<TopDown> steps = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            steps.add(new TopDown(levels, frontier, (int) ((long) frontier.length * i / tasks),
+                    (int) ((long) frontier.length * (i + 1) / tasks), level));
+        }
+        run(steps);
+        return steps;
+    }
+
+    /**
+     * Expande de abajo hacia arriba una frontera almacenada en un conjunto de
+     * bits, cada tarea procesa un rango de palabras del conjunto.
+     */
+    private List<BottomUp> bottomUp(AtomicIntegerArray levels, long[] frontier, long[] next, int level) {
+        int tasks = tasks(frontier.length, GRAIN / Long.SIZE);
+        List<BottomUp> steps = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            steps.add(new BottomUp(levels, frontier, next, (int) ((long) frontier.length * i / tasks),
+                    (int) ((long) frontier.length * (i + 1) / tasks), level));
+        }
+        run(steps);
+        return steps;
+    }
+
+    private int tasks(int work, int grain) {
+        return (int) Math.max(1, Math.min(4L * pool.getParallelism(), ((long) work + grain - 1) / grain));
+    }
+
+    private void run(List<? extends RecursiveAction> steps) {
+        if (steps.size() == 1) {
+            steps.get(0).invoke();
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(steps)));
+        }
+    }
+
+    private long outDegree(int id) {
+        return graph.offset(id + 1) - graph.offset(id);
+    }
+
+    private static long[] toBits(int[] frontier, int size, int count) {
+        long[] bits = new long[(count + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < size; i++) {
+            bits[frontier[i] >>> 6] |= 1L << frontier[i];
+        }
+        return bits;
+    }
+
+    private static int[] toArray(long[] bits, int size) {
+        int[] frontier = new int[size];
+        int position = 0;
+        for (int word = 0; word < bits.length; word++) {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                frontier[position++] = (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+        }
+        return frontier;
+    }
+
+    /**
+     * Un rango de la frontera que reclama los adyacentes no visitados de sus
+     * vertices.
+     */
+    private final class TopDown extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicIntegerArray levels;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+        private final int level;
+        private int[] found = new int[16];
+        private int size;
+        private long edges;
+
+        TopDown(AtomicIntegerArray levels, int[] frontier, int from, int to, int level) {
+            this.levels = levels;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                int id = frontier[i];
+                for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                    int target = graph.target(k);
+                    if (levels.get(target) == 0 && levels.compareAndSet(target, 0, level)) {
+                        if (size == found.length) {
+                            found = Arrays.copyOf(found, size * 2);
+                        }
+                        found[size++] = target;
+                        edges += outDegree(target);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Un rango de vertices no visitados que buscan un vertice de la frontera
+     * que los tenga como adyacente.
+     */
+    private final class BottomUp extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicIntegerArray levels;
+        private final long[] frontier;
+        private final long[] next;
+        private final int fromWord;
+        private final int toWord;
+        private final int level;
+        private int size;
+        private long edges;
+
+        BottomUp(AtomicIntegerArray levels, long[] frontier, long[] next, int fromWord, int toWord,
+                int level) {
+            this.levels = levels;
+            this.frontier = frontier;
+            this.next = next;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            int count = levels.length();
+            for (int id = fromWord << 6, end = Math.min(count, toWord << 6); id < end; id++) {
+                //solo esta tarea modifica los vertices de su rango
+                if (levels.get(id) == 0 && hasParent(id)) {
+                    levels.set(id, level);
+                    next[id >>> 6] |= 1L << id;
+                    size++;
+                    edges += outDegree(id);
+                }
+            }
+        }
+
+        private boolean hasParent(int id) {
+            if (sources != null) {
+                for (int k = inOffsets[id], end = inOffsets[id + 1]; k < end; k++) {
+                    int source = sources[k];
+                    if ((frontier[source >>> 6] & (1L << source)) != 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            for (long k = graph.offset(id), end = graph.offset(id + 1); k < end; k++) {
+                int source = graph.target(k);
+                if ((frontier[source >>> 6] & (1L << source)) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
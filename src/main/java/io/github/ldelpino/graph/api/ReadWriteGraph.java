@@ -0,0 +1,796 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import io.github.ldelpino.graph.Graph;
+
+/**
+ * Permite la creacion de un grafo con acceso concurrente de lectura.
+ * <p>
+ * A diferencia de {@link io.github.ldelpino.graph.api.SynchronizedGraph}, que
+ * serializa todas las operaciones sobre un mismo monitor, la clase protege el
+ * grafo con un {@link java.util.concurrent.locks.ReadWriteLock}: las
+ * operaciones de consulta toman el bloqueo de lectura y pueden ejecutarse al
+ * mismo tiempo desde varios hilos, mientras que las operaciones que modifican
+ * el grafo toman el bloqueo de escritura y se ejecutan de forma exclusiva.
+ * Para crear un grafo de este tipo dirijase al metodo
+ * {@link io.github.ldelpino.graph.api.ReadWriteGraph#of(io.github.ldelpino.graph.Graph)}.</p>
+ * <p>
+ * La interfaz {@link io.github.ldelpino.graph.Graph} no incluye la insercion de
+ * vertices y aristas, para insertarlos de forma exclusiva utilice el metodo
+ * {@link io.github.ldelpino.graph.api.ReadWriteGraph#write(java.util.function.Supplier)}
+ * sobre el grafo original.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.Graph
+ * @see io.github.ldelpino.graph.api.SynchronizedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public abstract class ReadWriteGraph<T> implements Graph<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Graph<T> graph;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    /**
+     * Crea un nuevo grafo con acceso concurrente de lectura.
+     *
+     * @param graph el grafo a proteger.
+     * @param lock el bloqueo de lectura y escritura.
+     */
+    public ReadWriteGraph(Graph<T> graph, ReadWriteLock lock) {
+        this.graph = Objects.requireNonNull(graph);
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    /**
+     * Crea un nuevo grafo con acceso concurrente de lectura protegido por un
+     * {@link java.util.concurrent.locks.ReentrantReadWriteLock}.
+     *
+     * @param graph el grafo a proteger.
+     */
+    public ReadWriteGraph(Graph<T> graph) {
+        this(graph, new ReentrantReadWriteLock());
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isDirected() {
+        readLock.lock();
+        try {
+            return graph.isDirected();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isWeightedVertex() {
+        readLock.lock();
+        try {
+            return graph.isWeightedVertex();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isWeigthedEdge() {
+        readLock.lock();
+        try {
+            return graph.isWeigthedEdge();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isCyclic() {
+        readLock.lock();
+        try {
+            return graph.isCyclic();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        readLock.lock();
+        try {
+            return graph.getVertexCount();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public int getEdgesCount(T info) {
+        readLock.lock();
+        try {
+            return graph.getEdgesCount(info);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getTotalEdgesCount() {
+        readLock.lock();
+        try {
+            return graph.getTotalEdgesCount();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Collection<T> getVertices() {
+        readLock.lock();
+        try {
+            return graph.getVertices();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean existVerticesDisconnected() {
+        readLock.lock();
+        try {
+            return graph.existVerticesDisconnected();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Collection<T> getDisconnectedVertices() {
+        readLock.lock();
+        try {
+            return graph.getDisconnectedVertices();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Collection<T> removeDisconnectedVertices() {
+        writeLock.lock();
+        try {
+            return graph.removeDisconnectedVertices();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public int degree(T info) {
+        readLock.lock();
+        try {
+            return graph.degree(info);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @return
+     */
+    @Override
+    public boolean areAdjacents(T infoTail, T infoHead) {
+        readLock.lock();
+        try {
+            return graph.areAdjacents(infoTail, infoHead);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public Collection<T> getAdjacents(T info) {
+        readLock.lock();
+        try {
+            return graph.getAdjacents(info);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public T removeVertex(T info) {
+        writeLock.lock();
+        try {
+            return graph.removeVertex(info);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public Collection<T> removeVertexCascade(T info) {
+        writeLock.lock();
+        try {
+            return graph.removeVertexCascade(info);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param info
+     * @return
+     */
+    @Override
+    public boolean existVertex(T info) {
+        readLock.lock();
+        try {
+            return graph.existVertex(info);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @return
+     */
+    @Override
+    public boolean removeEdge(T infoTail, T infoHead) {
+        writeLock.lock();
+        try {
+            return graph.removeEdge(infoTail, infoHead);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @return
+     */
+    @Override
+    public boolean existPath(T infoTail, T infoHead) {
+        readLock.lock();
+        try {
+            return graph.existPath(infoTail, infoHead);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @param length
+     * @return
+     */
+    @Override
+    public boolean existPathWithLength(T infoTail, T infoHead, int length) {
+        readLock.lock();
+        try {
+            return graph.existPathWithLength(infoTail, infoHead, length);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @param length
+     * @return
+     */
+    @Override
+    public boolean existPathWithin(T infoTail, T infoHead, int length) {
+        readLock.lock();
+        try {
+            return graph.existPathWithin(infoTail, infoHead, length);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @param path
+     * @return
+     */
+    @Override
+    public AritmethicNumber<?> djisktra(T infoTail, T infoHead, List<T> path) {
+        readLock.lock();
+        try {
+            return graph.djisktra(infoTail, infoHead, path);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isEulerPath() {
+        readLock.lock();
+        try {
+            return graph.isEulerPath();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public List<T> eulerPath() {
+        readLock.lock();
+        try {
+            return graph.eulerPath();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int[][] getIncidenceMatrix() {
+        readLock.lock();
+        try {
+            return graph.getIncidenceMatrix();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int[][] getAdyacentsMatrix() {
+        readLock.lock();
+        try {
+            return graph.getAdyacentsMatrix();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void cleanGraph() {
+        writeLock.lock();
+        try {
+            graph.cleanGraph();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        readLock.lock();
+        try {
+            return graph.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public boolean isEmpty() {
+        readLock.lock();
+        try {
+            return graph.isEmpty();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean contains(Object o) {
+        readLock.lock();
+        try {
+            return graph.contains(o);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Devuelve un iterador sobre una copia de los vertices del grafo.
+     * <p>
+     * La copia se realiza con el bloqueo de lectura, por lo que el iterador
+     * puede recorrerse mientras otro hilo modifica el grafo. Remover un
+     * elemento con el iterador no modifica el grafo.</p>
+     *
+     * @return el iterador sobre la copia de los vertices.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        readLock.lock();
+        try {
+            return new ArrayList<>(graph).iterator();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public Object[] toArray() {
+        readLock.lock();
+        try {
+            return graph.toArray();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param <E>
+     * @param a
+     * @return
+     */
+    @Override
+    public <E> E[] toArray(E[] a) {
+        readLock.lock();
+        try {
+            return graph.toArray(a);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean add(T e) {
+        writeLock.lock();
+        try {
+            return graph.add(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean remove(Object o) {
+        writeLock.lock();
+        try {
+            return graph.remove(o);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param c
+     * @return
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        readLock.lock();
+        try {
+            return graph.containsAll(c);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param c
+     * @return
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        writeLock.lock();
+        try {
+            return graph.addAll(c);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param c
+     * @return
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        writeLock.lock();
+        try {
+            return graph.removeAll(c);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param c
+     * @return
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        writeLock.lock();
+        try {
+            return graph.retainAll(c);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            graph.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ejecuta una accion de consulta con el bloqueo de lectura.
+     * <p>
+     * Permite realizar varias consultas sobre el grafo sin que otro hilo lo
+     * modifique entre ellas.</p>
+     *
+     * @param <R> el tipo de dato del resultado de la accion.
+     * @param action la accion a ejecutar.
+     * @return el resultado de la accion.
+     */
+    public <R> R read(Supplier<R> action) {
+        readLock.lock();
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Ejecuta una accion que modifica el grafo con el bloqueo de escritura.
+     * <p>
+     * Permite insertar vertices y aristas en el grafo original de forma
+     * exclusiva, por ejemplo
+     * <code>rw.write(() -&gt; graph.insertEdge(a, b))</code>.</p>
+     *
+     * @param <R> el tipo de dato del resultado de la accion.
+     * @param action la accion a ejecutar.
+     * @return el resultado de la accion.
+     */
+    public <R> R write(Supplier<R> action) {
+        writeLock.lock();
+        try {
+            return action.get();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean equals(Object o) {
+        readLock.lock();
+        try {
+            if (o instanceof Graph<?> g) {
+                return graph.equals(g);
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 59 * hash + Objects.hashCode(this.graph);
+        return hash;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        readLock.lock();
+        try {
+            return graph.toString();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Permite la creacion de un grafo con acceso concurrente de lectura.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a proteger.
+     * @param lock el bloqueo de lectura y escritura.
+     * @return el grafo con acceso concurrente de lectura.
+     */
+    public static <T> ReadWriteGraph<T> of(Graph<T> graph, ReadWriteLock lock) {
+        return new SimpleReadWriteGraph<>(graph, lock);
+    }
+
+    /**
+     * Permite la creacion de un grafo con acceso concurrente de lectura.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param graph el grafo a proteger.
+     * @return el grafo con acceso concurrente de lectura.
+     */
+    public static <T> ReadWriteGraph<T> of(Graph<T> graph) {
+        return new SimpleReadWriteGraph<>(graph);
+    }
+
+    private static class SimpleReadWriteGraph<T> extends ReadWriteGraph<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        public SimpleReadWriteGraph(Graph<T> graph, ReadWriteLock lock) {
+            super(graph, lock);
+        }
+
+        public SimpleReadWriteGraph(Graph<T> graph) {
+            super(graph);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+/**
+ * Permite consultar la distancia mas corta de cada vertice a un vertice
+ * inicial.
+ * <p>
+ * La distancia de un vertice es la menor suma de los pesos de las aristas de
+ * un camino desde el vertice inicial hasta el. Si el grafo no tiene peso en las
+ * aristas, cada arista tiene peso <b>1</b>. Para calcular las distancias
+ * dirijase al metodo
+ * {@link io.github.ldelpino.graph.api.DeltaStepping#search(java.lang.Object)}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.DeltaStepping
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class ShortestDistances<T> {
+
+    private final AbstractCsrGraph<T> graph;
+    private final int source;
+
+    /**
+     * La distancia de cada vertice indexada por su identificador en la
+     * instantanea, infinita si el vertice no es alcanzable.
+     */
+    private final double[] distances;
+
+    /**
+     * Crea el resultado de un calculo de distancias.
+     *
+     * @param graph la instantanea recorrida.
+     * @param source el identificador del vertice inicial.
+     * @param distances la distancia de cada vertice por su identificador.
+     */
+    ShortestDistances(AbstractCsrGraph<T> graph, int source, double[] distances) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+    }
+
+    /**
+     * Devuelve el vertice inicial.
+     *
+     * @return el vertice inicial.
+     */
+    public T getSource() {
+        return graph.infoOf(source);
+    }
+
+    /**
+     * Devuelve la distancia mas corta de un vertice al vertice inicial.
+     *
+     * @param info el vertice.
+     * @return la distancia del vertice, <b>0</b> si es el vertice inicial, o
+     * <b>-1</b> si el vertice no existe o no es alcanzable.
+     */
+    public double getDistance(T info) {
+        int id = graph.indexOf(info);
+        return id < 0 || distances[id] == Double.POSITIVE_INFINITY ? -1 : distances[id];
+    }
+
+    /**
+     * Establece si un vertice es alcanzable desde el vertice inicial.
+     *
+     * @param info el vertice.
+     * @return <b>true</b> si el vertice es alcanzable, el vertice inicial es
+     * alcanzable desde si mismo.
+     */
+    public boolean isReachable(T info) {
+        return getDistance(info) >= 0;
+    }
+
+    /**
+     * Devuelve la cantidad de vertices alcanzables desde el vertice inicial,
+     * incluido el mismo.
+     *
+     * @return la cantidad de vertices alcanzables.
+     */
+    public int getReachableCount() {
+        int reachable = 0;
+        for (double distance : distances) {
+            if (distance != Double.POSITIVE_INFINITY) {
+                reachable++;
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Devuelve la distancia de cada vertice indexada por su identificador en
+     * la instantanea.
+     *
+     * @return una copia de las distancias, infinita si el vertice no es
+     * alcanzable.
+     * @see io.github.ldelpino.graph.api.AbstractCsrGraph#indexOf(java.lang.Object)
+     */
+    public double[] toArray() {
+        return distances.clone();
+    }
+}
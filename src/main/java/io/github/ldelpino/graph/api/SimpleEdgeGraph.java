@@ -45,4 +45,17 @@ public interface SimpleEdgeGraph<T> {
      * <b>false</b>.
      */
     public boolean insertEdge(T infoTail, T infoHead);
+
+    /**
+     * Inserta un conjunto de aristas en el grafo.
+     * <p>
+     * Los vertices de cada arista se buscan una sola vez, y si las aristas son
+     * una {@link java.util.Collection} las tablas de aristas de cada vertice
+     * se dimensionan antes de insertarlas. Las aristas repetidas o con algun
+     * vertice inexistente no son insertadas.</p>
+     *
+     * @param edges las aristas a insertar.
+     * @return la cantidad de aristas insertadas.
+     */
+    public int insertEdges(Iterable<? extends EdgePair<T>> edges);
 }
@@ -16,6 +16,8 @@
  */
 package io.github.ldelpino.graph.api;
 
+import java.util.Collection;
+
 /**
  * Permite la insercion de vertices sin peso en un grafo.
  * <p>
@@ -44,4 +46,15 @@ public interface SimpleVertexGraph<T> {
      * <b>false</b>.
      */
     public boolean insertVertex(T info);
+
+    /**
+     * Inserta una coleccion de vertices en el grafo.
+     * <p>
+     * El indice de vertices se dimensiona una sola vez para todos los
+     * vertices, los vertices ya existentes no son insertados.</p>
+     *
+     * @param infos la informacion de los vertices.
+     * @return la cantidad de vertices insertados.
+     */
+    public int insertVertices(Collection<? extends T> infos);
 }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Permite establecer una matriz dispersa en formato CSR (compressed sparse
+ * row).
+ * <p>
+ * Los elementos distintos de cero de la fila <b>i</b> se encuentran entre las
+ * posiciones <b>rowOffsets[i]</b> y <b>rowOffsets[i + 1]</b> de los arreglos
+ * de columnas y valores, ordenados por columna. Si la matriz no tiene valores,
+ * todos los elementos almacenados tienen valor <b>1</b>, lo que se conoce
+ * como una matriz de patron.</p>
+ * <p>
+ * La matriz puede convertirse al formato COO (coordinate), escribirse en el
+ * formato de coordenadas de Matrix Market o convertirse a una matriz densa de
+ * bits para grafos pequenos. Las matrices del grafo se crean con
+ * {@link io.github.ldelpino.graph.api.AbstractGraph#getSparseAdjacencyMatrix()}
+ * y
+ * {@link io.github.ldelpino.graph.api.AbstractGraph#getSparseIncidenceMatrix()}.</p>
+ *
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class SparseMatrix {
+
+    private final int rowCount;
+    private final int columnCount;
+    private final int[] rowOffsets;
+    private final int[] columnIndices;
+    private final double[] values;
+
+    /**
+     * Crea una nueva matriz dispersa.
+     * <p>
+     * Los arreglos se copian, por lo que modificarlos despues no altera la
+     * matriz.</p>
+     *
+     * @param rowCount la cantidad de filas.
+     * @param columnCount la cantidad de columnas.
+     * @param rowOffsets el inicio de cada fila, con <b>rowCount + 1</b>
+     * elementos.
+     * @param columnIndices la columna de cada elemento, ordenadas dentro de
+     * cada fila.
+     * @param values el valor de cada elemento, o <b>null</b> si todos los
+     * elementos tienen valor <b>1</b>.
+     * @throws IllegalArgumentException si los tamanos de los arreglos no
+     * corresponden, los inicios de las filas no son crecientes o las columnas
+     * de alguna fila no estan ordenadas o estan fuera de la matriz.
+     */
+    public SparseMatrix(int rowCount, int columnCount, int[] rowOffsets, int[] columnIndices, double[] values) {
+        this(rowCount, columnCount, rowOffsets.clone(), columnIndices.clone(),
+                values != null ? values.clone() : null, true);
+    }
+
+    /**
+     * Crea una nueva matriz dispersa sin copiar los arreglos.
+     *
+     * @param checkColumns establece si se validan los inicios de las filas y
+     * las columnas de cada fila.
+     */
+    private SparseMatrix(int rowCount, int columnCount, int[] rowOffsets, int[] columnIndices, double[] values,
+            boolean checkColumns) {
+        if (rowCount < 0 || columnCount < 0 || rowOffsets.length != rowCount + 1 || rowOffsets[0] != 0
+                || rowOffsets[rowCount] != columnIndices.length
+                || (values != null && values.length != columnIndices.length)) {
+            throw new IllegalArgumentException("Inconsistent sparse matrix arrays.");
+        }
+        if (checkColumns) {
+            for (int row = 0; row < rowCount; row++) {
+                int from = rowOffsets[row];
+                int to = rowOffsets[row + 1];
+                if (from > to || to > columnIndices.length) {
+                    throw new IllegalArgumentException("Invalid row offset at row " + row + ".");
+                }
+                for (int k = from; k < to; k++) {
+                    int column = columnIndices[k];
+                    if (column < 0 || column >= columnCount || (k > from && column <= columnIndices[k - 1])) {
+                        throw new IllegalArgumentException("Invalid column " + column + " at row " + row + ".");
+                    }
+                }
+            }
+        }
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.rowOffsets = rowOffsets;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Crea una matriz dispersa con arreglos construidos por el grafo, que no
+     * se copian ni se comparten con nadie mas.
+     *
+     * @param rowCount la cantidad de filas.
+     * @param columnCount la cantidad de columnas.
+     * @param rowOffsets el inicio de cada fila.
+     * @param columnIndices la columna de cada elemento.
+     * @param values el valor de cada elemento, o <b>null</b>.
+     * @return la nueva matriz.
+     */
+    static SparseMatrix wrap(int rowCount, int columnCount, int[] rowOffsets, int[] columnIndices, double[] values) {
+        return new SparseMatrix(rowCount, columnCount, rowOffsets, columnIndices, values, false);
+    }
+
+    /**
+     * Devuelve la cantidad de filas.
+     *
+     * @return la cantidad de filas.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Devuelve la cantidad de columnas.
+     *
+     * @return la cantidad de columnas.
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos almacenados.
+     *
+     * @return la cantidad de elementos distintos de cero.
+     */
+    public int getNonZeroCount() {
+        return columnIndices.length;
+    }
+
+    /**
+     * Establece si la matriz almacena el valor de cada elemento.
+     *
+     * @return <b>false</b> si todos los elementos tienen valor <b>1</b>.
+     */
+    public boolean hasValues() {
+        return values != null;
+    }
+
+    /**
+     * Devuelve el valor de un elemento.
+     * <p>
+     * La busqueda es binaria sobre las columnas de la fila.</p>
+     *
+     * @param row la fila.
+     * @param column la columna.
+     * @return el valor del elemento, <b>0</b> si no esta almacenado.
+     */
+    public double get(int row, int column) {
+        int k = Arrays.binarySearch(columnIndices, rowOffsets[row], rowOffsets[row + 1], column);
+        if (k < 0) {
+            return 0;
+        }
+        return values != null ? values[k] : 1;
+    }
+
+    /**
+     * Devuelve una copia del inicio de cada fila.
+     *
+     * @return un nuevo arreglo de inicios de filas.
+     */
+    public int[] getRowOffsets() {
+        return rowOffsets.clone();
+    }
+
+    /**
+     * Devuelve una copia de la columna de cada elemento.
+     *
+     * @return un nuevo arreglo de columnas.
+     */
+    public int[] getColumnIndices() {
+        return columnIndices.clone();
+    }
+
+    /**
+     * Devuelve una copia del valor de cada elemento.
+     *
+     * @return un nuevo arreglo de valores, o <b>null</b> si todos los
+     * elementos tienen valor <b>1</b>.
+     */
+    public double[] getValues() {
+        return values != null ? values.clone() : null;
+    }
+
+    /**
+     * Devuelve la fila de cada elemento, lo que junto a
+     * {@link #getColumnIndices()} y {@link #getValues()} forma la matriz en
+     * formato COO.
+     *
+     * @return un nuevo arreglo con la fila de cada elemento.
+     */
+    public int[] getRowIndices() {
+        int[] rows = new int[columnIndices.length];
+        for (int row = 0; row < rowCount; row++) {
+            Arrays.fill(rows, rowOffsets[row], rowOffsets[row + 1], row);
+        }
+        return rows;
+    }
+
+    /**
+     * Devuelve la matriz densa de bits, cada fila es un
+     * {@link java.util.BitSet} con los bits de sus elementos almacenados
+     * activos.
+     * <p>
+     * Cada fila ocupa un bit por columna, por lo que solo es recomendable para
+     * matrices pequenas.</p>
+     *
+     * @return las filas de la matriz.
+     */
+    public BitSet[] toBitRows() {
+        BitSet[] rows = new BitSet[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            rows[row] = new BitSet(columnCount);
+            for (int k = rowOffsets[row]; k < rowOffsets[row + 1]; k++) {
+                rows[row].set(columnIndices[k]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Devuelve la matriz densa de enteros, con valor <b>1</b> en los elementos
+     * almacenados.
+     *
+     * @return la matriz densa.
+     */
+    public int[][] toDense() {
+        int[][] matrix = new int[rowCount][columnCount];
+        for (int row = 0; row < rowCount; row++) {
+            for (int k = rowOffsets[row]; k < rowOffsets[row + 1]; k++) {
+                matrix[row][columnIndices[k]] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Escribe la matriz en el formato de coordenadas de Matrix Market.
+     * <p>
+     * La matriz se escribe como <b>pattern</b> si no tiene valores y como
+     * <b>real</b> en caso contrario, los indices comienzan en <b>1</b>. El
+     * flujo no es cerrado al terminar la escritura.</p>
+     *
+     * @param out el flujo de caracteres.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public void writeMatrixMarket(Writer out) throws IOException {
+        Writer buffered = out instanceof BufferedWriter ? out : new BufferedWriter(out, 1 << 16);
+        buffered.write("%%MatrixMarket matrix coordinate " + (values != null ? "real" : "pattern") + " general\n");
+        buffered.write(rowCount + " " + columnCount + " " + columnIndices.length + "\n");
+        for (int row = 0; row < rowCount; row++) {
+            for (int k = rowOffsets[row]; k < rowOffsets[row + 1]; k++) {
+                buffered.write(Integer.toString(row + 1));
+                buffered.write(' ');
+                buffered.write(Integer.toString(columnIndices[k] + 1));
+                if (values != null) {
+                    buffered.write(' ');
+                    buffered.write(Double.toString(values[k]));
+                }
+                buffered.write('\n');
+            }
+        }
+        buffered.flush();
+    }
+
+    /**
+     * Escribe la matriz en un fichero en el formato de coordenadas de Matrix
+     * Market.
+     *
+     * @param file el fichero, si existe es sobrescrito.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     * @see #writeMatrixMarket(java.io.Writer)
+     */
+    public void writeMatrixMarket(Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            writeMatrixMarket(out);
+        }
+    }
+
+    /**
+     * Devuelve una cadena de caracteres que representa esta matriz.
+     *
+     * @return la cadena de caracteres de esta matriz.
+     */
+    @Override
+    public String toString() {
+        return "SparseMatrix " + rowCount + "x" + columnCount + " with " + columnIndices.length + " non zeros.";
+    }
+}
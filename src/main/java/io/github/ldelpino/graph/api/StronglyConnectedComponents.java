@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Collections;
+import java.util.List;
+import io.github.ldelpino.graph.vertex.Vertex;
+
+/**
+ * Permite consultar las componentes fuertemente conexas de un grafo dirigido.
+ * <p>
+ * Dos vertices pertenecen a la misma componente fuertemente conexa si existe
+ * un camino del primero al segundo y del segundo al primero. Las componentes
+ * se identifican por un entero entre <b>0</b> y la cantidad de componentes, en
+ * orden topologico, o sea, toda arista entre dos componentes distintas va de
+ * la componente de menor identificador a la de mayor identificador.</p>
+ * <p>
+ * El resultado es una instantanea del grafo al momento de calcular las
+ * componentes, si el grafo es modificado las consultas por vertice dejan de
+ * ser validas. Para calcular las componentes dirijase al metodo
+ * {@link io.github.ldelpino.graph.api.DirectedGraph#stronglyConnectedComponents()}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @see io.github.ldelpino.graph.api.DirectedGraph
+ * @see io.github.ldelpino.graph.api.SparseMatrix
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public final class StronglyConnectedComponents<T> {
+
+    private final AbstractGraph<T> graph;
+
+    /**
+     * La componente de cada vertice indexada por la posicion del vertice en
+     * el grafo.
+     */
+    private final int[] components;
+
+    /**
+     * Los vertices de cada componente.
+     */
+    private final List<List<T>> members;
+
+    /**
+     * El grafo dirigido aciclico de las componentes.
+     */
+    private final SparseMatrix condensation;
+
+    /**
+     * Crea el resultado del calculo de las componentes.
+     *
+     * @param graph el grafo.
+     * @param components la componente de cada vertice por su posicion.
+     * @param members los vertices de cada componente.
+     * @param condensation el grafo de las componentes.
+     */
+    StronglyConnectedComponents(AbstractGraph<T> graph, int[] components, List<List<T>> members,
+            SparseMatrix condensation) {
+        this.graph = graph;
+        this.components = components;
+        this.members = Collections.unmodifiableList(members);
+        this.condensation = condensation;
+    }
+
+    /**
+     * Devuelve la cantidad de componentes fuertemente conexas.
+     *
+     * @return la cantidad de componentes.
+     */
+    public int getComponentCount() {
+        return members.size();
+    }
+
+    /**
+     * Devuelve la componente a la que pertenece un vertice.
+     *
+     * @param info el vertice.
+     * @return el identificador de la componente, o <b>-1</b> si el vertice no
+     * existe.
+     */
+    public int componentOf(T info) {
+        Vertex<T> vertex = graph.getVertex(info);
+        if (vertex == null || vertex.getIndex() >= components.length) {
+            return -1;
+        }
+        return components[vertex.getIndex()];
+    }
+
+    /**
+     * Establece si dos vertices pertenecen a la misma componente, o sea, si
+     * son mutuamente alcanzables.
+     *
+     * @param info el primer vertice.
+     * @param other el segundo vertice.
+     * @return <b>true</b> si los vertices existen y pertenecen a la misma
+     * componente, de lo contrario devuelve <b>false</b>.
+     */
+    public boolean areStronglyConnected(T info, T other) {
+        int component = componentOf(info);
+        return component >= 0 && component == componentOf(other);
+    }
+
+    /**
+     * Devuelve los vertices de una componente.
+     *
+     * @param component el identificador de la componente.
+     * @return la lista no modificable de vertices de la componente.
+     */
+    public List<T> getComponent(int component) {
+        return members.get(component);
+    }
+
+    /**
+     * Devuelve los vertices de todas las componentes, en orden topologico.
+     *
+     * @return la lista no modificable de componentes.
+     */
+    public List<List<T>> getComponents() {
+        return members;
+    }
+
+    /**
+     * Devuelve el grafo dirigido aciclico de las componentes.
+     * <p>
+     * La matriz de adyacencia tiene una fila y una columna por componente, el
+     * elemento <b>(i, j)</b> existe si alguna arista va de un vertice de la
+     * componente <b>i</b> a un vertice de la componente <b>j</b>, con
+     * <b>i</b> distinto de <b>j</b>. Por el orden topologico de las
+     * componentes, todos los elementos estan por encima de la diagonal.</p>
+     *
+     * @return la matriz de adyacencia del grafo de componentes.
+     */
+    public SparseMatrix getCondensation() {
+        return condensation;
+    }
+
+    /**
+     * Establece si el grafo es fuertemente conexo.
+     *
+     * @return <b>true</b> si el grafo tiene una sola componente, de lo
+     * contrario devuelve <b>false</b>.
+     */
+    public boolean isStronglyConnected() {
+        return members.size() == 1;
+    }
+
+    /**
+     * Devuelve una cadena de caracteres que representa estas componentes.
+     *
+     * @return la cadena de caracteres de estas componentes.
+     */
+    @Override
+    public String toString() {
+        return "StronglyConnectedComponents " + members.size() + " components and "
+                + condensation.getNonZeroCount() + " condensed edges.";
+    }
+}
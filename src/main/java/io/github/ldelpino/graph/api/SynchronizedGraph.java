@@ -305,6 +305,20 @@ public abstract class SynchronizedGraph<T> implements Graph<T>, Serializable {
         }
     }
 
+    /**
+     *
+     * @param infoTail
+     * @param infoHead
+     * @param length
+     * @return
+     */
+    @Override
+    public boolean existPathWithin(T infoTail, T infoHead, int length) {
+        synchronized (mutex) {
+            return graph.existPathWithin(infoTail, infoHead, length);
+        }
+    }
+
     /**
      *
      * @param infoTail
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Permite escribir y leer en formato binario la informacion de los vertices o
+ * los pesos de un grafo.
+ * <p>
+ * La interfaz es utilizada por {@link io.github.ldelpino.graph.api.GraphCodec}
+ * para almacenar los valores que el grafo no conoce, la interfaz incluye la
+ * codificacion de los tipos de dato mas utilizados.</p>
+ *
+ * @param <V> el tipo de dato de los valores.
+ * @see io.github.ldelpino.graph.api.GraphCodec
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public interface ValueCodec<V> {
+
+    /**
+     * La codificacion de los valores {@link java.lang.Integer}.
+     */
+    public static final ValueCodec<Integer> INTEGER = new ValueCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer value) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * La codificacion de los valores {@link java.lang.Long}.
+     */
+    public static final ValueCodec<Long> LONG = new ValueCodec<>() {
+        @Override
+        public void write(DataOutput out, Long value) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * La codificacion de los valores {@link java.lang.Double}.
+     */
+    public static final ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+        @Override
+        public void write(DataOutput out, Double value) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * La codificacion de los valores {@link java.lang.String}, en formato
+     * UTF-8 modificado.
+     */
+    public static final ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public void write(DataOutput out, String value) throws IOException {
+            out.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    /**
+     * Escribe un valor.
+     *
+     * @param out la salida de datos.
+     * @param value el valor a escribir.
+     * @throws java.io.IOException si ocurre un error de escritura.
+     */
+    public void write(DataOutput out, V value) throws IOException;
+
+    /**
+     * Lee un valor.
+     *
+     * @param in la entrada de datos.
+     * @return el valor leido.
+     * @throws java.io.IOException si ocurre un error de lectura.
+     */
+    public V read(DataInput in) throws IOException;
+}
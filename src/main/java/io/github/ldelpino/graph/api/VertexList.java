@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import io.github.ldelpino.graph.vertex.Vertex;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Permite almacenar los vertices de un grafo en el orden de insercion.
+ * <p>
+ * Los vertices se guardan en un arreglo indexado por
+ * {@link io.github.ldelpino.graph.vertex.Vertex#getIndex()} y se enlazan entre
+ * si mediante arreglos de enteros, por lo que la insercion, la eliminacion y
+ * la busqueda de un vertice tienen costo constante, sin depender de
+ * {@link Object#hashCode()} ni de {@link Object#equals(java.lang.Object)}.
+ * El indice de cada vertice no debe cambiar mientras se encuentre en la
+ * coleccion.</p>
+ *
+ * @see io.github.ldelpino.graph.api.AbstractGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ */
+final class VertexList<T> extends AbstractCollection<Vertex<T>> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int NONE = -1;
+
+    private Vertex<T>[] slots;
+    private int[] previous;
+    private int[] next;
+    private int first;
+    private int last;
+    private int size;
+
+    /**
+     * Crea una nueva coleccion de vertices vacia.
+     */
+    @SuppressWarnings("unchecked")
+    VertexList() {
+        this.slots = (Vertex<T>[]) new Vertex<?>[16];
+        this.previous = new int[16];
+        this.next = new int[16];
+        this.first = NONE;
+        this.last = NONE;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Vertex<?> vertex && slotOf(vertex) >= 0;
+    }
+
+    /**
+     * Agrega un vertice al final de la coleccion.
+     *
+     * @param vertex el vertice, con su indice ya asignado.
+     * @return <b>true</b> si el vertice fue agregado, <b>false</b> si ya se
+     * encontraba en la coleccion.
+     * @throws IllegalArgumentException si el indice del vertice es negativo o
+     * esta ocupado por otro vertice.
+     */
+    @Override
+    public boolean add(Vertex<T> vertex) {
+        int slot = vertex.getIndex();
+        if (slot < 0) {
+            throw new IllegalArgumentException("Negative vertex index " + slot + ".");
+        }
+        if (slot >= slots.length) {
+            int capacity = Math.max(slot + 1, slots.length + (slots.length >> 1));
+            slots = Arrays.copyOf(slots, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        if (slots[slot] != null) {
+            if (slots[slot] == vertex) {
+                return false;
+            }
+            throw new IllegalArgumentException("Vertex index " + slot + " already in use.");
+        }
+        slots[slot] = vertex;
+        previous[slot] = last;
+        next[slot] = NONE;
+        if (last == NONE) {
+            first = slot;
+        } else {
+            next[last] = slot;
+        }
+        last = slot;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int slot = o instanceof Vertex<?> vertex ? slotOf(vertex) : NONE;
+        if (slot < 0) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, null);
+        first = NONE;
+        last = NONE;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Vertex<T>> iterator() {
+        return new Iterator<>() {
+            private int cursor = first;
+            private int current = NONE;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != NONE;
+            }
+
+            @Override
+            public Vertex<T> next() {
+                if (cursor == NONE) {
+                    throw new NoSuchElementException();
+                }
+                current = cursor;
+                cursor = next[cursor];
+                return slots[current];
+            }
+
+            @Override
+            public void remove() {
+                if (current == NONE || slots[current] == null) {
+                    throw new IllegalStateException();
+                }
+                unlink(current);
+                current = NONE;
+            }
+        };
+    }
+
+    /**
+     * Devuelve el codigo hash de la coleccion, calculado en el orden de los
+     * vertices igual que en {@link java.util.List#hashCode()}.
+     *
+     * @return el codigo hash de la coleccion.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Vertex<T> vertex : this) {
+            hash = 31 * hash + vertex.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Devuelve la posicion de un vertice, si se encuentra en la coleccion.
+     */
+    private int slotOf(Vertex<?> vertex) {
+        int slot = vertex.getIndex();
+        return slot >= 0 && slot < slots.length && slots[slot] == vertex ? slot : NONE;
+    }
+
+    /**
+     * Elimina el vertice de una posicion ocupada.
+     */
+    private void unlink(int slot) {
+        int before = previous[slot];
+        int after = next[slot];
+        if (before == NONE) {
+            first = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NONE) {
+            last = before;
+        } else {
+            previous[after] = before;
+        }
+        slots[slot] = null;
+        size--;
+    }
+}
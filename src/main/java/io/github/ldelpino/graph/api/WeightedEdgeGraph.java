@@ -16,6 +16,9 @@
  */
 package io.github.ldelpino.graph.api;
 
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+
 /**
  * Permite la insercion de aristas con peso en un grafo.
  * <p>
@@ -56,4 +59,48 @@ public interface WeightedEdgeGraph<T, K> {
      * @return el peso de la arista.
      */
     public K getEdgeWeight(T infoTail, T infoHead);
+
+    /**
+     * Inserta un conjunto de aristas con peso en el grafo.
+     * <p>
+     * Los vertices de cada arista se buscan una sola vez, y si las aristas son
+     * una {@link java.util.Collection} las tablas de aristas de cada vertice
+     * se dimensionan antes de insertarlas. Las aristas repetidas o con algun
+     * vertice inexistente no son insertadas.</p>
+     *
+     * @param edges las aristas a insertar.
+     * @return la cantidad de aristas insertadas.
+     */
+    public int insertEdges(Iterable<? extends WeightedEdgePair<T, K>> edges);
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices guiado por una
+     * heuristica admisible, si existe un camino entre ellos.
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param heuristic la estimacion de la distancia de un vertice al vertice
+     * final, no debe sobreestimar la distancia.
+     * @param path la lista vacia en la que se agregan los vertices del camino.
+     * @return la distancia del camino mas corto, <b>-1</b> si no existe un
+     * camino, o <b>null</b> si los vertices no existen.
+     * @see io.github.ldelpino.graph.api.AbstractGraph#aStar(java.lang.Object,
+     * java.lang.Object, java.util.function.ToDoubleBiFunction, java.util.List)
+     */
+    public AritmethicNumber<?> aStar(T infoTail, T infoHead, ToDoubleBiFunction<? super T, ? super T> heuristic,
+            List<T> path);
+
+    /**
+     * Devuelve el camino mas corto entre dos vertices buscando desde ambos
+     * extremos, si existe un camino entre ellos.
+     *
+     * @param infoTail el vertice inicial en el camino.
+     * @param infoHead el vertice final en el camino.
+     * @param path la lista vacia en la que se agregan los vertices del camino.
+     * @return la distancia del camino mas corto, <b>-1</b> si no existe un
+     * camino, o <b>null</b> si los vertices no existen.
+     * @see io.github.ldelpino.graph.api.AbstractGraph#bidirectionalDjisktra(java.lang.Object,
+     * java.lang.Object, java.util.List)
+     */
+    public AritmethicNumber<?> bidirectionalDjisktra(T infoTail, T infoHead, List<T> path);
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.Objects;
+
+/**
+ * Permite establecer una arista con peso a insertar por la informacion de sus
+ * vertices.
+ * <p>
+ * La clase es utilizada por la insercion masiva de aristas con peso, ver
+ * {@link io.github.ldelpino.graph.api.WeightedEdgeGraph#insertEdges(java.lang.Iterable)}.</p>
+ *
+ * @param <T> el tipo de dato de la informacion de los vertices.
+ * @param <K> el tipo de dato del peso de la arista.
+ * @see io.github.ldelpino.graph.api.EdgePair
+ * @see io.github.ldelpino.graph.api.WeightedEdgeGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class WeightedEdgePair<T, K> extends EdgePair<T> {
+
+    private final K weight;
+
+    /**
+     * Crea una nueva arista con peso a insertar.
+     *
+     * @param tail la informacion del vertice que hace funcion de cola.
+     * @param head la informacion del vertice que hace funcion de cabeza.
+     * @param weight el peso de la arista.
+     */
+    public WeightedEdgePair(T tail, T head, K weight) {
+        super(tail, head);
+        this.weight = weight;
+    }
+
+    /**
+     * Crea una nueva arista con peso a insertar.
+     *
+     * @param <T> el tipo de dato de la informacion de los vertices.
+     * @param <K> el tipo de dato del peso de la arista.
+     * @param tail la informacion del vertice que hace funcion de cola.
+     * @param head la informacion del vertice que hace funcion de cabeza.
+     * @param weight el peso de la arista.
+     * @return la arista a insertar.
+     */
+    public static <T, K> WeightedEdgePair<T, K> of(T tail, T head, K weight) {
+        return new WeightedEdgePair<>(tail, head, weight);
+    }
+
+    /**
+     * Devuelve el peso de la arista.
+     *
+     * @return el peso de la arista.
+     */
+    public K getWeight() {
+        return weight;
+    }
+
+    /**
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (super.equals(o)) {
+            return Objects.equals(weight, ((WeightedEdgePair<?, ?>) o).weight);
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(this.weight);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return "(" + getTail() + ", " + getHead() + ", " + weight + ")";
+    }
+}
@@ -16,6 +16,8 @@
  */
 package io.github.ldelpino.graph.api;
 
+import java.util.Map;
+
 /**
  * Permite la insercion de vertices con peso en un grafo.
  * <p>
@@ -54,4 +56,15 @@ public interface WeightedVertexGraph<T, K> {
      * @return el peso del vertice.
      */
     public K getWeightVertex(T info);
+
+    /**
+     * Inserta un conjunto de vertices con peso en el grafo.
+     * <p>
+     * El indice de vertices se dimensiona una sola vez para todos los
+     * vertices, los vertices ya existentes no son insertados.</p>
+     *
+     * @param infos la informacion de los vertices asociada con su peso.
+     * @return la cantidad de vertices insertados.
+     */
+    public int insertVertices(Map<? extends T, ? extends K> infos);
 }
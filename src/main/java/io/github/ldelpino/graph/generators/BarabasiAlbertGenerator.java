@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Genera grafos libres de escala segun el modelo de conexion preferencial de
+ * <b>Barabasi-Albert</b>.
+ * <p>
+ * Los primeros <b>m</b> vertices no tienen aristas, el vertice <b>m</b> se une
+ * con todos ellos y cada vertice siguiente se une con <b>m</b> vertices
+ * anteriores distintos, elegidos con probabilidad proporcional a su grado. Las
+ * aristas se emiten desde el vertice nuevo hacia los vertices anteriores.</p>
+ * <p>
+ * Para elegir los vertices en tiempo constante el generador guarda los
+ * extremos de las aristas emitidas en un arreglo de enteros, un vertice
+ * aparece en el arreglo tantas veces como su grado. Es la unica memoria
+ * proporcional a la cantidad de aristas que requiere la generacion.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class BarabasiAlbertGenerator implements GraphGenerator {
+
+    private final int vertexCount;
+    private final int edgesPerVertex;
+    private final long seed;
+
+    /**
+     * Crea un nuevo generador de conexion preferencial.
+     *
+     * @param vertexCount la cantidad de vertices, mayor que
+     * <b>edgesPerVertex</b>.
+     * @param edgesPerVertex la cantidad de aristas de cada vertice nuevo.
+     * @param seed la semilla de los numeros aleatorios.
+     */
+    public BarabasiAlbertGenerator(int vertexCount, int edgesPerVertex, long seed) {
+        if (edgesPerVertex < 1 || vertexCount <= edgesPerVertex) {
+            throw new IllegalArgumentException("Invalid sizes: " + vertexCount
+                    + " vertices with " + edgesPerVertex + " edges per vertex");
+        }
+        if (2L * edgesPerVertex * (vertexCount - edgesPerVertex) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges: " + vertexCount
+                    + " vertices with " + edgesPerVertex + " edges per vertex");
+        }
+        this.vertexCount = vertexCount;
+        this.edgesPerVertex = edgesPerVertex;
+        this.seed = seed;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     *
+     * @param consumer
+     */
+    @Override
+    public void generate(EdgeConsumer consumer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] endpoints = new int[2 * edgesPerVertex * (vertexCount - edgesPerVertex)];
+        int[] targets = new int[edgesPerVertex];
+        int size = 0;
+        for (int target = 0; target < edgesPerVertex; target++) {
+            consumer.accept(edgesPerVertex, target);
+            endpoints[size++] = edgesPerVertex;
+            endpoints[size++] = target;
+        }
+        for (int vertex = edgesPerVertex + 1; vertex < vertexCount; vertex++) {
+            int chosen = 0;
+            while (chosen < edgesPerVertex) {
+                int target = endpoints[random.nextInt(size)];
+                if (!contains(targets, chosen, target)) {
+                    targets[chosen++] = target;
+                }
+            }
+            for (int i = 0; i < edgesPerVertex; i++) {
+                consumer.accept(vertex, targets[i]);
+                endpoints[size++] = vertex;
+                endpoints[size++] = targets[i];
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
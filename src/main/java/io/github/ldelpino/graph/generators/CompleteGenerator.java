@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+/**
+ * Genera grafos completos.
+ * <p>
+ * En un grafo dirigido se emiten todos los pares ordenados de vertices
+ * distintos, en uno no dirigido cada par se emite una sola vez con la cola
+ * menor que la cabeza.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class CompleteGenerator implements GraphGenerator {
+
+    private final int vertexCount;
+    private final boolean directed;
+
+    /**
+     * Crea un nuevo generador de grafos completos.
+     *
+     * @param vertexCount la cantidad de vertices.
+     * @param directed <b>true</b> si se emiten los pares ordenados.
+     */
+    public CompleteGenerator(int vertexCount, boolean directed) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Negative vertex count: " + vertexCount);
+        }
+        this.vertexCount = vertexCount;
+        this.directed = directed;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     *
+     * @param consumer
+     */
+    @Override
+    public void generate(EdgeConsumer consumer) {
+        for (int tail = 0; tail < vertexCount; tail++) {
+            for (int head = directed ? 0 : tail + 1; head < vertexCount; head++) {
+                if (head != tail) {
+                    consumer.accept(tail, head);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+/**
+ * Recibe las aristas emitidas por un generador de grafos.
+ * <p>
+ * Los vertices de las aristas son enteros, por lo que las aristas pueden
+ * emitirse sin crear objetos.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator#generate(io.github.ldelpino.graph.generators.EdgeConsumer)
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface EdgeConsumer {
+
+    /**
+     * Recibe una arista.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     */
+    public void accept(int tail, int head);
+}
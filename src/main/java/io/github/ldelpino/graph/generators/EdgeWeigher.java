@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+/**
+ * Calcula el peso de las aristas emitidas por un generador de grafos.
+ *
+ * @param <K> el tipo de dato del peso de las aristas.
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface EdgeWeigher<K> {
+
+    /**
+     * Devuelve el peso de una arista.
+     *
+     * @param tail el vertice que hace funcion de cola.
+     * @param head el vertice que hace funcion de cabeza.
+     * @return el peso de la arista.
+     */
+    public K weigh(int tail, int head);
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Genera grafos aleatorios uniformes segun el modelo de <b>Erdos-Renyi</b>
+ * <b>G(n, p)</b>.
+ * <p>
+ * Cada par de vertices distintos es una arista con probabilidad <b>p</b>. En
+ * lugar de sortear cada par, el generador sortea la cantidad de pares que
+ * separan una arista de la siguiente con una distribucion geometrica, por lo
+ * que el tiempo de generacion es proporcional a la cantidad de aristas
+ * emitidas y no a la cantidad de pares.</p>
+ * <p>
+ * En un grafo dirigido se sortean los pares ordenados, en uno no dirigido cada
+ * par se sortea una sola vez y se emite con la cola mayor que la cabeza. No se
+ * generan lazos.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class ErdosRenyiGenerator implements GraphGenerator {
+
+    private final int vertexCount;
+    private final double probability;
+    private final boolean directed;
+    private final long seed;
+
+    /**
+     * Crea un nuevo generador de grafos aleatorios uniformes.
+     *
+     * @param vertexCount la cantidad de vertices.
+     * @param probability la probabilidad de cada arista, entre <b>0</b> y
+     * <b>1</b>.
+     * @param directed <b>true</b> si se sortean los pares ordenados.
+     * @param seed la semilla de los numeros aleatorios.
+     */
+    public ErdosRenyiGenerator(int vertexCount, double probability, boolean directed, long seed) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Negative vertex count: " + vertexCount);
+        }
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Probability out of [0, 1]: " + probability);
+        }
+        this.vertexCount = vertexCount;
+        this.probability = probability;
+        this.directed = directed;
+        this.seed = seed;
+    }
+
+    /**
+     * Crea un generador con una cantidad esperada de aristas.
+     *
+     * @param vertexCount la cantidad de vertices.
+     * @param edgeCount la cantidad esperada de aristas.
+     * @param directed <b>true</b> si se sortean los pares ordenados.
+     * @param seed la semilla de los numeros aleatorios.
+     * @return el generador.
+     */
+    public static ErdosRenyiGenerator withExpectedEdges(int vertexCount, long edgeCount, boolean directed, long seed) {
+        double pairs = (double) vertexCount * (vertexCount - 1) / (directed ? 1 : 2);
+        return new ErdosRenyiGenerator(vertexCount, pairs > 0 ? Math.min(1, edgeCount / pairs) : 0, directed, seed);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     *
+     * @param consumer
+     */
+    @Override
+    public void generate(EdgeConsumer consumer) {
+        if (probability == 0 || vertexCount < 2) {
+            return;
+        }
+        if (probability == 1) {
+            new CompleteGenerator(vertexCount, directed).generate(consumer);
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        double logComplement = Math.log1p(-probability);
+        if (directed) {
+            long pairs = (long) vertexCount * (vertexCount - 1);
+            long pair = -1;
+            while ((pair += 1 + skip(random, logComplement)) < pairs) {
+                int tail = (int) (pair / (vertexCount - 1));
+                int head = (int) (pair % (vertexCount - 1));
+                consumer.accept(tail, head >= tail ? head + 1 : head);
+            }
+        } else {
+            int tail = 1;
+            long head = -1;
+            while (tail < vertexCount) {
+                head += 1 + skip(random, logComplement);
+                while (head >= tail && tail < vertexCount) {
+                    head -= tail;
+                    tail++;
+                }
+                if (tail < vertexCount) {
+                    consumer.accept(tail, (int) head);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sortea la cantidad de pares que no son aristas antes de la siguiente
+     * arista.
+     */
+    private static long skip(SplittableRandom random, double logComplement) {
+        double skip = Math.floor(Math.log1p(-random.nextDouble()) / logComplement);
+        return skip < Long.MAX_VALUE / 4 ? (long) skip : Long.MAX_VALUE / 4;
+    }
+}
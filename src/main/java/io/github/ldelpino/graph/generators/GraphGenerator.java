@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+import java.util.function.IntFunction;
+import io.github.ldelpino.graph.api.IntGraph;
+import io.github.ldelpino.graph.api.SimpleEdgeGraph;
+import io.github.ldelpino.graph.api.SimpleVertexGraph;
+import io.github.ldelpino.graph.api.WeightedEdgeGraph;
+import io.github.ldelpino.graph.api.WeightedVertexGraph;
+
+/**
+ * Permite generar grafos sinteticos de forma reproducible.
+ * <p>
+ * Los vertices de un grafo generado son los enteros desde <b>0</b> hasta
+ * {@link #getVertexCount()} <b>- 1</b>. El metodo
+ * {@link #generate(io.github.ldelpino.graph.generators.EdgeConsumer)} emite
+ * las aristas una a una sin almacenarlas, por lo que permite construir grafos
+ * con una gran cantidad de aristas, y los metodos <b>fill</b> insertan los
+ * vertices y las aristas en un grafo existente. Los generadores aleatorios
+ * reciben una semilla y emiten las mismas aristas en cada generacion.</p>
+ * <p>
+ * Un generador puede emitir una arista repetida, la arista se inserta en el
+ * grafo una sola vez.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.ErdosRenyiGenerator
+ * @see io.github.ldelpino.graph.generators.BarabasiAlbertGenerator
+ * @see io.github.ldelpino.graph.generators.RMatGenerator
+ * @see io.github.ldelpino.graph.generators.GridGenerator
+ * @see io.github.ldelpino.graph.generators.CompleteGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public interface GraphGenerator {
+
+    /**
+     * Devuelve la cantidad de vertices del grafo generado.
+     *
+     * @return la cantidad de vertices.
+     */
+    public int getVertexCount();
+
+    /**
+     * Emite las aristas del grafo generado.
+     *
+     * @param consumer el receptor de las aristas.
+     */
+    public void generate(EdgeConsumer consumer);
+
+    /**
+     * Inserta los vertices y las aristas generadas en un grafo.
+     *
+     * @param <G> el tipo de grafo.
+     * @param graph el grafo.
+     * @return el grafo.
+     */
+    public default <G extends SimpleVertexGraph<Integer> & SimpleEdgeGraph<Integer>> G fill(G graph) {
+        for (int i = 0, count = getVertexCount(); i < count; i++) {
+            graph.insertVertex(i);
+        }
+        generate(graph::insertEdge);
+        return graph;
+    }
+
+    /**
+     * Inserta los vertices y las aristas generadas en un grafo con aristas
+     * con peso.
+     *
+     * @param <K> el tipo de dato del peso de las aristas.
+     * @param <G> el tipo de grafo.
+     * @param graph el grafo.
+     * @param edgeWeigher el calculo del peso de cada arista.
+     * @return el grafo.
+     */
+    public default <K, G extends SimpleVertexGraph<Integer> & WeightedEdgeGraph<Integer, K>> G fillWeightedEdges(
+            G graph, EdgeWeigher<? extends K> edgeWeigher) {
+        for (int i = 0, count = getVertexCount(); i < count; i++) {
+            graph.insertVertex(i);
+        }
+        generate((tail, head) -> graph.insertEdge(tail, head, edgeWeigher.weigh(tail, head)));
+        return graph;
+    }
+
+    /**
+     * Inserta los vertices y las aristas generadas en un grafo con vertices
+     * con peso.
+     *
+     * @param <K> el tipo de dato del peso de los vertices.
+     * @param <G> el tipo de grafo.
+     * @param graph el grafo.
+     * @param vertexWeigher el calculo del peso de cada vertice.
+     * @return el grafo.
+     */
+    public default <K, G extends WeightedVertexGraph<Integer, K> & SimpleEdgeGraph<Integer>> G fillWeightedVertices(
+            G graph, IntFunction<? extends K> vertexWeigher) {
+        for (int i = 0, count = getVertexCount(); i < count; i++) {
+            graph.insertVertex(i, vertexWeigher.apply(i));
+        }
+        generate(graph::insertEdge);
+        return graph;
+    }
+
+    /**
+     * Inserta los vertices y las aristas generadas en un grafo con vertices y
+     * aristas con peso.
+     *
+     * @param <K> el tipo de dato del peso de los vertices.
+     * @param <R> el tipo de dato del peso de las aristas.
+     * @param <G> el tipo de grafo.
+     * @param graph el grafo.
+     * @param vertexWeigher el calculo del peso de cada vertice.
+     * @param edgeWeigher el calculo del peso de cada arista.
+     * @return el grafo.
+     */
+    public default <K, R, G extends WeightedVertexGraph<Integer, K> & WeightedEdgeGraph<Integer, R>> G fillWeighted(
+            G graph, IntFunction<? extends K> vertexWeigher, EdgeWeigher<? extends R> edgeWeigher) {
+        for (int i = 0, count = getVertexCount(); i < count; i++) {
+            graph.insertVertex(i, vertexWeigher.apply(i));
+        }
+        generate((tail, head) -> graph.insertEdge(tail, head, edgeWeigher.weigh(tail, head)));
+        return graph;
+    }
+
+    /**
+     * Inserta los vertices y las aristas generadas en un grafo de vertices
+     * enteros.
+     *
+     * @param <G> el tipo de grafo.
+     * @param graph el grafo.
+     * @return el grafo.
+     */
+    public default <G extends IntGraph> G fill(G graph) {
+        for (int i = 0, count = getVertexCount(); i < count; i++) {
+            graph.insertVertex(i);
+        }
+        generate(graph::insertEdge);
+        return graph;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+/**
+ * Genera grafos en forma de cuadricula de dos dimensiones.
+ * <p>
+ * El vertice de la fila <b>r</b> y la columna <b>c</b> es
+ * <b>r * columns + c</b>, y cada vertice se une con el vertice a su derecha y
+ * con el vertice debajo de el. En un grafo dirigido se emiten tambien las
+ * aristas en sentido contrario.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class GridGenerator implements GraphGenerator {
+
+    private final int rows;
+    private final int columns;
+    private final boolean directed;
+
+    /**
+     * Crea un nuevo generador de cuadriculas.
+     *
+     * @param rows la cantidad de filas.
+     * @param columns la cantidad de columnas.
+     * @param directed <b>true</b> si se emiten las aristas en ambos sentidos.
+     */
+    public GridGenerator(int rows, int columns, boolean directed) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Negative grid size: " + rows + "x" + columns);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.directed = directed;
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return rows * columns;
+    }
+
+    /**
+     *
+     * @param consumer
+     */
+    @Override
+    public void generate(EdgeConsumer consumer) {
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int vertex = row * columns + column;
+                if (column + 1 < columns) {
+                    emit(consumer, vertex, vertex + 1);
+                }
+                if (row + 1 < rows) {
+                    emit(consumer, vertex, vertex + columns);
+                }
+            }
+        }
+    }
+
+    private void emit(EdgeConsumer consumer, int tail, int head) {
+        consumer.accept(tail, head);
+        if (directed) {
+            consumer.accept(head, tail);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Genera grafos dirigidos segun el modelo recursivo <b>R-MAT</b>, un caso
+ * particular de los grafos de <b>Kronecker</b>.
+ * <p>
+ * La matriz de adyacencia de <b>2^scale</b> vertices se divide en cuatro
+ * cuadrantes con probabilidades <b>a</b>, <b>b</b>, <b>c</b> y
+ * <b>1 - a - b - c</b>, y cada arista se ubica eligiendo un cuadrante en cada
+ * uno de los <b>scale</b> niveles de la division. Cada arista se genera en
+ * tiempo proporcional a <b>scale</b> sin memoria adicional.</p>
+ * <p>
+ * El modelo puede generar aristas repetidas y lazos, las aristas repetidas se
+ * insertan una sola vez en el grafo.</p>
+ *
+ * @see io.github.ldelpino.graph.generators.GraphGenerator
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class RMatGenerator implements GraphGenerator {
+
+    /**
+     * La probabilidad <b>a</b> utilizada por Graph500.
+     */
+    public static final double DEFAULT_A = 0.57;
+
+    /**
+     * La probabilidad <b>b</b> utilizada por Graph500.
+     */
+    public static final double DEFAULT_B = 0.19;
+
+    /**
+     * La probabilidad <b>c</b> utilizada por Graph500.
+     */
+    public static final double DEFAULT_C = 0.19;
+
+    private final int scale;
+    private final long edgeCount;
+    private final double a;
+    private final double ab;
+    private final double abc;
+    private final long seed;
+
+    /**
+     * Crea un nuevo generador R-MAT.
+     *
+     * @param scale el logaritmo en base <b>2</b> de la cantidad de vertices,
+     * entre <b>0</b> y <b>30</b>.
+     * @param edgeCount la cantidad de aristas emitidas.
+     * @param a la probabilidad del cuadrante superior izquierdo.
+     * @param b la probabilidad del cuadrante superior derecho.
+     * @param c la probabilidad del cuadrante inferior izquierdo.
+     * @param seed la semilla de los numeros aleatorios.
+     */
+    public RMatGenerator(int scale, long edgeCount, double a, double b, double c, long seed) {
+        if (scale < 0 || scale > 30) {
+            throw new IllegalArgumentException("Scale out of [0, 30]: " + scale);
+        }
+        if (edgeCount < 0) {
+            throw new IllegalArgumentException("Negative edge count: " + edgeCount);
+        }
+        if (!(a >= 0 && b >= 0 && c >= 0 && a + b + c <= 1)) {
+            throw new IllegalArgumentException("Invalid probabilities: " + a + ", " + b + ", " + c);
+        }
+        this.scale = scale;
+        this.edgeCount = edgeCount;
+        this.a = a;
+        this.ab = a + b;
+        this.abc = a + b + c;
+        this.seed = seed;
+    }
+
+    /**
+     * Crea un nuevo generador R-MAT con las probabilidades de Graph500.
+     *
+     * @param scale el logaritmo en base <b>2</b> de la cantidad de vertices.
+     * @param edgeCount la cantidad de aristas emitidas.
+     * @param seed la semilla de los numeros aleatorios.
+     */
+    public RMatGenerator(int scale, long edgeCount, long seed) {
+        this(scale, edgeCount, DEFAULT_A, DEFAULT_B, DEFAULT_C, seed);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public int getVertexCount() {
+        return 1 << scale;
+    }
+
+    /**
+     *
+     * @param consumer
+     */
+    @Override
+    public void generate(EdgeConsumer consumer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long edge = 0; edge < edgeCount; edge++) {
+            int tail = 0;
+            int head = 0;
+            for (int bit = 1 << scale >> 1; bit > 0; bit >>= 1) {
+                double quadrant = random.nextDouble();
+                if (quadrant >= abc) {
+                    tail |= bit;
+                    head |= bit;
+                } else if (quadrant >= ab) {
+                    tail |= bit;
+                } else if (quadrant >= a) {
+                    head |= bit;
+                }
+            }
+            consumer.accept(tail, head);
+        }
+    }
+}
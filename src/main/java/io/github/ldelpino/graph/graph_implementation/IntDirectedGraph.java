@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import java.util.Arrays;
+import io.github.ldelpino.graph.api.AbstractIntGraph;
+
+/**
+ * Permite la creacion de un grafo dirigido de vertices enteros sin peso.
+ * <p>
+ * La clase es la version primitiva de
+ * {@link io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph},
+ * cada arista ocupa un entero en el bloque de adyacentes de su cola. Ademas se
+ * mantiene la cantidad de aristas que llegan a cada vertice, por lo que el
+ * grado de un vertice se obtiene sin recorrer el grafo.</p>
+ *
+ * @see io.github.ldelpino.graph.api.IntGraph
+ * @see io.github.ldelpino.graph.api.AbstractIntGraph
+ * @see io.github.ldelpino.graph.graph_implementation.IntNotDirectedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class IntDirectedGraph extends AbstractIntGraph {
+
+    /**
+     * La cantidad de aristas que tienen a cada vertice como cabeza.
+     */
+    private int[] inDegrees;
+
+    /**
+     * Crea un nuevo grafo dirigido de vertices enteros.
+     */
+    public IntDirectedGraph() {
+        this(16);
+    }
+
+    /**
+     * Crea un nuevo grafo dirigido de vertices enteros con una capacidad
+     * inicial.
+     *
+     * @param capacity la cantidad de vertices esperada.
+     */
+    public IntDirectedGraph(int capacity) {
+        super(capacity);
+        this.inDegrees = new int[adjacents.length];
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public final boolean isDirected() {
+        return true;
+    }
+
+    /**
+     *
+     * @param tail
+     * @param head
+     * @return
+     */
+    @Override
+    public boolean insertEdge(int tail, int head) {
+        if (existVertex(tail) && existVertex(head) && indexOfArc(tail, head) < 0) {
+            addArc(tail, head);
+            inDegrees[head]++;
+            edgeCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param tail
+     * @param head
+     * @return
+     */
+    @Override
+    public boolean removeEdge(int tail, int head) {
+        if (existVertex(tail) && existVertex(head) && removeArc(tail, head)) {
+            inDegrees[head]--;
+            edgeCount--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Elimina el vertice y sus aristas del grafo.
+     * <p>
+     * Las aristas que llegan al vertice se buscan en los bloques de los demas
+     * vertices solo si el vertice tiene aristas de entrada.</p>
+     *
+     * @param vertex el vertice.
+     * @return <b>true</b> si el vertice fue eliminado, de lo contrario
+     * devuelve <b>false</b>.
+     */
+    @Override
+    public boolean removeVertex(int vertex) {
+        if (!existVertex(vertex)) {
+            return false;
+        }
+        int remaining = inDegrees[vertex] - (indexOfArc(vertex, vertex) >= 0 ? 1 : 0);
+        for (int tail = present.nextSetBit(0); tail >= 0 && remaining > 0;
+                tail = present.nextSetBit(tail + 1)) {
+            if (tail != vertex && removeArc(tail, vertex)) {
+                edgeCount--;
+                remaining--;
+            }
+        }
+        int[] block = adjacents[vertex];
+        for (int i = 0; i < sizes[vertex]; i++) {
+            inDegrees[block[i]]--;
+        }
+        edgeCount -= sizes[vertex];
+        inDegrees[vertex] = 0;
+        dropVertex(vertex);
+        return true;
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    public int degree(int vertex) {
+        if (existVertex(vertex)) {
+            return sizes[vertex] + inDegrees[vertex];
+        }
+        return -1;
+    }
+
+    /**
+     * Devuelve la cantidad de aristas que tienen al vertice como cabeza.
+     *
+     * @param vertex el vertice.
+     * @return la cantidad de aristas de entrada si el vertice existe, de lo
+     * contrario devuelve <b>-1</b>.
+     */
+    public int inDegree(int vertex) {
+        return existVertex(vertex) ? inDegrees[vertex] : -1;
+    }
+
+    /**
+     * Devuelve la cantidad de aristas que tienen al vertice como cola.
+     *
+     * @param vertex el vertice.
+     * @return la cantidad de aristas de salida si el vertice existe, de lo
+     * contrario devuelve <b>-1</b>.
+     */
+    public int outDegree(int vertex) {
+        return existVertex(vertex) ? sizes[vertex] : -1;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void cleanGraph() {
+        super.cleanGraph();
+        Arrays.fill(inDegrees, 0);
+    }
+
+    /**
+     *
+     * @param capacity
+     */
+    @Override
+    protected void ensureCapacity(int capacity) {
+        super.ensureCapacity(capacity);
+        if (inDegrees != null && inDegrees.length < adjacents.length) {
+            inDegrees = Arrays.copyOf(inDegrees, adjacents.length);
+        }
+    }
+}
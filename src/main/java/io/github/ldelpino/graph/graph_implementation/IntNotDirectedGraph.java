@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import io.github.ldelpino.graph.api.AbstractIntGraph;
+
+/**
+ * Permite la creacion de un grafo no dirigido de vertices enteros sin peso.
+ * <p>
+ * La clase es la version primitiva de
+ * {@link io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph},
+ * cada arista ocupa un entero en el bloque de adyacentes de cada uno de sus
+ * vertices.</p>
+ *
+ * @see io.github.ldelpino.graph.api.IntGraph
+ * @see io.github.ldelpino.graph.api.AbstractIntGraph
+ * @see io.github.ldelpino.graph.graph_implementation.IntDirectedGraph
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class IntNotDirectedGraph extends AbstractIntGraph {
+
+    /**
+     * Crea un nuevo grafo no dirigido de vertices enteros.
+     */
+    public IntNotDirectedGraph() {
+        super();
+    }
+
+    /**
+     * Crea un nuevo grafo no dirigido de vertices enteros con una capacidad
+     * inicial.
+     *
+     * @param capacity la cantidad de vertices esperada.
+     */
+    public IntNotDirectedGraph(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     *
+     * @return
+     */
+    @Override
+    public final boolean isDirected() {
+        return false;
+    }
+
+    /**
+     *
+     * @param tail
+     * @param head
+     * @return
+     */
+    @Override
+    public boolean insertEdge(int tail, int head) {
+        if (existVertex(tail) && existVertex(head) && indexOfArc(tail, head) < 0) {
+            addArc(tail, head);
+            if (tail != head) {
+                addArc(head, tail);
+            }
+            edgeCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param tail
+     * @param head
+     * @return
+     */
+    @Override
+    public boolean removeEdge(int tail, int head) {
+        if (existVertex(tail) && existVertex(head) && removeArc(tail, head)) {
+            if (tail != head) {
+                removeArc(head, tail);
+            }
+            edgeCount--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    public boolean removeVertex(int vertex) {
+        if (!existVertex(vertex)) {
+            return false;
+        }
+        int[] block = adjacents[vertex];
+        for (int i = 0; i < sizes[vertex]; i++) {
+            if (block[i] != vertex) {
+                removeArc(block[i], vertex);
+            }
+        }
+        edgeCount -= sizes[vertex];
+        dropVertex(vertex);
+        return true;
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return
+     */
+    @Override
+    public int degree(int vertex) {
+        if (existVertex(vertex)) {
+            return sizes[vertex];
+        }
+        return -1;
+    }
+}
@@ -16,7 +16,9 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Collection;
 import io.github.ldelpino.graph.api.DirectedGraph;
+import io.github.ldelpino.graph.api.EdgePair;
 import io.github.ldelpino.graph.api.SimpleEdgeGraph;
 import io.github.ldelpino.graph.api.SimpleVertexGraph;
 import io.github.ldelpino.graph.edge.DefaultEdge;
@@ -49,6 +51,8 @@ import io.github.ldelpino.graph.vertex.Vertex;
  */
 public class SimpleDirectedGraph<T> extends DirectedGraph<T> implements SimpleVertexGraph<T>, SimpleEdgeGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -75,11 +79,10 @@ public class SimpleDirectedGraph<T> extends DirectedGraph<T> implements SimpleVe
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            DefaultEdge<T> edge = new DefaultEdge<>(vertexTail, vertexHead);
-            return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead);
         }
         return false;
     }
@@ -93,4 +96,37 @@ public class SimpleDirectedGraph<T> extends DirectedGraph<T> implements SimpleVe
     public boolean insertVertex(T info) {
         return insertVertex(new DefaultVertex<>(info));
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Collection<? extends T> infos) {
+        return insertVerticesAbstract(infos, DefaultVertex::new);
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends EdgePair<T>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead) {
+        DefaultEdge<T> edge = new DefaultEdge<>(vertexTail, vertexHead);
+        return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+    }
 }
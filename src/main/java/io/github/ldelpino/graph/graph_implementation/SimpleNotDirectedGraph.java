@@ -16,6 +16,8 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Collection;
+import io.github.ldelpino.graph.api.EdgePair;
 import io.github.ldelpino.graph.api.NotDirectedGraph;
 import io.github.ldelpino.graph.api.SimpleEdgeGraph;
 import io.github.ldelpino.graph.api.SimpleVertexGraph;
@@ -49,6 +51,8 @@ import io.github.ldelpino.graph.vertex.Vertex;
  */
 public class SimpleNotDirectedGraph<T> extends NotDirectedGraph<T> implements SimpleEdgeGraph<T>, SimpleVertexGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -75,12 +79,10 @@ public class SimpleNotDirectedGraph<T> extends NotDirectedGraph<T> implements Si
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            DefaultEdge<T> edgeTail = new DefaultEdge<>(vertexTail, vertexHead);
-            DefaultEdge<T> edgeHead = new DefaultEdge<>(vertexHead, vertexTail);
-            return vertexTail.insertEdge(edgeTail) && vertexHead.insertEdge(edgeHead);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead);
         }
         return false;
     }
@@ -94,4 +96,45 @@ public class SimpleNotDirectedGraph<T> extends NotDirectedGraph<T> implements Si
     public boolean insertVertex(T info) {
         return insertVertex(new DefaultVertex<>(info));
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Collection<? extends T> infos) {
+        return insertVerticesAbstract(infos, DefaultVertex::new);
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends EdgePair<T>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     * <p>
+     * Un lazo se almacena una sola vez en la tabla de salida del vertice.</p>
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead) {
+        DefaultEdge<T> edgeTail = new DefaultEdge<>(vertexTail, vertexHead);
+        DefaultEdge<T> edgeHead = new DefaultEdge<>(vertexHead, vertexTail);
+        boolean inserted = vertexTail.insertEdge(edgeTail)
+                && (vertexTail == vertexHead || vertexHead.insertEdge(edgeHead));
+        if (inserted) {
+            edgeInserted(vertexTail, vertexHead);
+        }
+        return inserted;
+    }
 }
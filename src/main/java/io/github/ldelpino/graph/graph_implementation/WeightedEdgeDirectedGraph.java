@@ -16,9 +16,11 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Collection;
 import io.github.ldelpino.graph.api.DirectedGraph;
 import io.github.ldelpino.graph.api.SimpleVertexGraph;
 import io.github.ldelpino.graph.api.WeightedEdgeGraph;
+import io.github.ldelpino.graph.api.WeightedEdgePair;
 import io.github.ldelpino.graph.edge.Edge;
 import io.github.ldelpino.graph.edge.WeightedEdge;
 import io.github.ldelpino.graph.vertex.DefaultVertex;
@@ -52,6 +54,8 @@ import io.github.ldelpino.graph.vertex.Vertex;
 public class WeightedEdgeDirectedGraph<T, K extends Number> extends DirectedGraph<T>
         implements SimpleVertexGraph<T>, WeightedEdgeGraph<T, K> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -89,11 +93,10 @@ public class WeightedEdgeDirectedGraph<T, K extends Number> extends DirectedGrap
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead, K weight) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            WeightedEdge<T, K> edge = new WeightedEdge<>(vertexTail, vertexHead, weight);
-            return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead, weight);
         }
         return false;
     }
@@ -106,9 +109,43 @@ public class WeightedEdgeDirectedGraph<T, K extends Number> extends DirectedGrap
      */
     @Override
     public K getEdgeWeight(T infoTail, T infoHead) {
-        DefaultVertex<T> vertexTail = (DefaultVertex<T>) getVertex(infoTail);
+        Vertex<T> vertexTail = getVertex(infoTail);
         Edge<T> edge = vertexTail.getEdge(getVertex(infoHead));
         WeightedEdge<T, K> weightedEdge = (WeightedEdge<T, K>) edge;
         return weightedEdge.getWeight();
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Collection<? extends T> infos) {
+        return insertVerticesAbstract(infos, DefaultVertex::new);
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends WeightedEdgePair<T, K>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head, edge.getWeight()));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @param weight el peso de la arista.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead, K weight) {
+        WeightedEdge<T, K> edge = new WeightedEdge<>(vertexTail, vertexHead, weight);
+        return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+    }
 }
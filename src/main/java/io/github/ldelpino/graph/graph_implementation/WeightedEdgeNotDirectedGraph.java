@@ -16,9 +16,11 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Collection;
 import io.github.ldelpino.graph.api.NotDirectedGraph;
 import io.github.ldelpino.graph.api.SimpleVertexGraph;
 import io.github.ldelpino.graph.api.WeightedEdgeGraph;
+import io.github.ldelpino.graph.api.WeightedEdgePair;
 import io.github.ldelpino.graph.edge.Edge;
 import io.github.ldelpino.graph.edge.WeightedEdge;
 import io.github.ldelpino.graph.vertex.DefaultVertex;
@@ -52,6 +54,8 @@ import io.github.ldelpino.graph.vertex.Vertex;
 public class WeightedEdgeNotDirectedGraph<T, K> extends NotDirectedGraph<T>
         implements SimpleVertexGraph<T>, WeightedEdgeGraph<T, K> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -89,12 +93,10 @@ public class WeightedEdgeNotDirectedGraph<T, K> extends NotDirectedGraph<T>
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead, K weight) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            WeightedEdge<T, K> edgeTail = new WeightedEdge<>(vertexTail, vertexHead, weight);
-            WeightedEdge<T, K> edgeHead = new WeightedEdge<>(vertexHead, vertexTail, weight);
-            return vertexTail.insertEdge(edgeTail) && vertexHead.insertEdge(edgeHead);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead, weight);
         }
         return false;
     }
@@ -107,9 +109,51 @@ public class WeightedEdgeNotDirectedGraph<T, K> extends NotDirectedGraph<T>
      */
     @Override
     public K getEdgeWeight(T infoTail, T infoHead) {
-        DefaultVertex<T> vertexTail = (DefaultVertex<T>) getVertex(infoTail);
+        Vertex<T> vertexTail = getVertex(infoTail);
         Edge<T> edge = vertexTail.getEdge(getVertex(infoHead));
         WeightedEdge<T, K> weightedEdge = (WeightedEdge<T, K>) edge;
         return weightedEdge.getWeight();
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Collection<? extends T> infos) {
+        return insertVerticesAbstract(infos, DefaultVertex::new);
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends WeightedEdgePair<T, K>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head, edge.getWeight()));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     * <p>
+     * Un lazo se almacena una sola vez en la tabla de salida del vertice.</p>
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @param weight el peso de la arista.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead, K weight) {
+        WeightedEdge<T, K> edgeTail = new WeightedEdge<>(vertexTail, vertexHead, weight);
+        WeightedEdge<T, K> edgeHead = new WeightedEdge<>(vertexHead, vertexTail, weight);
+        boolean inserted = vertexTail.insertEdge(edgeTail)
+                && (vertexTail == vertexHead || vertexHead.insertEdge(edgeHead));
+        if (inserted) {
+            edgeInserted(vertexTail, vertexHead);
+        }
+        return inserted;
+    }
 }
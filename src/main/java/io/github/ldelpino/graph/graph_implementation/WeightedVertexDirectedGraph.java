@@ -16,7 +16,9 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Map;
 import io.github.ldelpino.graph.api.DirectedGraph;
+import io.github.ldelpino.graph.api.EdgePair;
 import io.github.ldelpino.graph.api.SimpleEdgeGraph;
 import io.github.ldelpino.graph.api.WeightedVertexGraph;
 import io.github.ldelpino.graph.edge.DefaultEdge;
@@ -52,6 +54,8 @@ import io.github.ldelpino.graph.vertex.WeightedVertex;
 public class WeightedVertexDirectedGraph<T, K> extends DirectedGraph<T>
         implements WeightedVertexGraph<T, K>, SimpleEdgeGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -100,12 +104,45 @@ public class WeightedVertexDirectedGraph<T, K> extends DirectedGraph<T>
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            DefaultEdge<T> edge = new DefaultEdge<>(vertexTail, vertexHead);
-            return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead);
         }
         return false;
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Map<? extends T, ? extends K> infos) {
+        return insertVerticesAbstract(infos.entrySet(),
+                (entry) -> new WeightedVertex<T, K>(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends EdgePair<T>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead) {
+        DefaultEdge<T> edge = new DefaultEdge<>(vertexTail, vertexHead);
+        return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+    }
 }
@@ -16,12 +16,13 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Map;
 import io.github.ldelpino.graph.api.DirectedGraph;
 import io.github.ldelpino.graph.api.WeightedEdgeGraph;
+import io.github.ldelpino.graph.api.WeightedEdgePair;
 import io.github.ldelpino.graph.api.WeightedVertexGraph;
 import io.github.ldelpino.graph.edge.Edge;
 import io.github.ldelpino.graph.edge.WeightedEdge;
-import io.github.ldelpino.graph.vertex.DefaultVertex;
 import io.github.ldelpino.graph.vertex.Vertex;
 import io.github.ldelpino.graph.vertex.WeightedVertex;
 
@@ -37,6 +38,8 @@ import io.github.ldelpino.graph.vertex.WeightedVertex;
 public class WeightedVertexEdgeDirectedGraph<T, K, R> extends DirectedGraph<T> implements
         WeightedVertexGraph<T, K>, WeightedEdgeGraph<T, R> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -86,11 +89,10 @@ public class WeightedVertexEdgeDirectedGraph<T, K, R> extends DirectedGraph<T> i
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead, R weight) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            WeightedEdge<T, R> edge = new WeightedEdge<>(vertexTail, vertexHead, weight);
-            return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead, weight);
         }
         return false;
     }
@@ -103,10 +105,44 @@ public class WeightedVertexEdgeDirectedGraph<T, K, R> extends DirectedGraph<T> i
      */
     @Override
     public R getEdgeWeight(T infoTail, T infoHead) {
-        DefaultVertex<T> vertexTail = (DefaultVertex<T>) getVertex(infoTail);
+        Vertex<T> vertexTail = getVertex(infoTail);
         Edge<T> edge = vertexTail.getEdge(getVertex(infoHead));
         WeightedEdge<T, R> weightedEdge = (WeightedEdge<T, R>) edge;
         return weightedEdge.getWeight();
     }
 
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Map<? extends T, ? extends K> infos) {
+        return insertVerticesAbstract(infos.entrySet(),
+                (entry) -> new WeightedVertex<T, K>(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends WeightedEdgePair<T, R>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head, edge.getWeight()));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @param weight el peso de la arista.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead, R weight) {
+        WeightedEdge<T, R> edge = new WeightedEdge<>(vertexTail, vertexHead, weight);
+        return vertexTail.insertEdge(edge) && vertexHead.insertEdge(edge);
+    }
 }
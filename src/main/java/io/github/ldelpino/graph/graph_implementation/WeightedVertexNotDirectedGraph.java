@@ -16,6 +16,8 @@
  */
 package io.github.ldelpino.graph.graph_implementation;
 
+import java.util.Map;
+import io.github.ldelpino.graph.api.EdgePair;
 import io.github.ldelpino.graph.api.NotDirectedGraph;
 import io.github.ldelpino.graph.api.SimpleEdgeGraph;
 import io.github.ldelpino.graph.api.WeightedVertexGraph;
@@ -50,6 +52,8 @@ import io.github.ldelpino.graph.vertex.WeightedVertex;
 public class WeightedVertexNotDirectedGraph<T, K> extends NotDirectedGraph<T>
         implements WeightedVertexGraph<T, K>, SimpleEdgeGraph<T> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      *
      * @return
@@ -76,12 +80,10 @@ public class WeightedVertexNotDirectedGraph<T, K> extends NotDirectedGraph<T>
      */
     @Override
     public boolean insertEdge(T infoTail, T infoHead) {
-        if (existVertex(infoTail) && existVertex(infoHead)) {
-            Vertex<T> vertexTail = getVertex(infoTail);
-            Vertex<T> vertexHead = getVertex(infoHead);
-            DefaultEdge<T> edgeTail = new DefaultEdge<>(vertexTail, vertexHead);
-            DefaultEdge<T> edgeHead = new DefaultEdge<>(vertexHead, vertexTail);
-            return vertexTail.insertEdge(edgeTail) && vertexHead.insertEdge(edgeHead);
+        Vertex<T> vertexTail = getVertex(infoTail);
+        Vertex<T> vertexHead = getVertex(infoHead);
+        if (vertexTail != null && vertexHead != null) {
+            return connect(vertexTail, vertexHead);
         }
         return false;
     }
@@ -107,4 +109,46 @@ public class WeightedVertexNotDirectedGraph<T, K> extends NotDirectedGraph<T>
         WeightedVertex<T, K> vertex = (WeightedVertex<T, K>) getVertex(info);
         return vertex.getWeight();
     }
+
+    /**
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    public int insertVertices(Map<? extends T, ? extends K> infos) {
+        return insertVerticesAbstract(infos.entrySet(),
+                (entry) -> new WeightedVertex<T, K>(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     *
+     * @param edges
+     * @return
+     */
+    @Override
+    public int insertEdges(Iterable<? extends EdgePair<T>> edges) {
+        return insertEdgesAbstract(edges, (tail, head, edge) -> connect(tail, head));
+    }
+
+    /**
+     * Inserta una arista entre dos vertices del grafo.
+     * <p>
+     * Un lazo se almacena una sola vez en la tabla de salida del vertice.</p>
+     *
+     * @param vertexTail el vertice que hace funcion de cola.
+     * @param vertexHead el vertice que hace funcion de cabeza.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    private boolean connect(Vertex<T> vertexTail, Vertex<T> vertexHead) {
+        DefaultEdge<T> edgeTail = new DefaultEdge<>(vertexTail, vertexHead);
+        DefaultEdge<T> edgeHead = new DefaultEdge<>(vertexHead, vertexTail);
+        boolean inserted = vertexTail.insertEdge(edgeTail)
+                && (vertexTail == vertexHead || vertexHead.insertEdge(edgeHead));
+        if (inserted) {
+            edgeInserted(vertexTail, vertexHead);
+        }
+        return inserted;
+    }
 }
@@ -17,9 +17,13 @@
 package io.github.ldelpino.graph.vertex;
 
 import java.io.Serializable;
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Objects;
 import io.github.ldelpino.graph.edge.Edge;
 
@@ -34,6 +38,13 @@ import io.github.ldelpino.graph.edge.Edge;
  * un vertice sin peso y {@link io.github.ldelpino.graph.vertex.WeightedVertex} que
  * permite la creacion de vertices con peso.</p>
  * <p>
+ * Las aristas del vertice se almacenan en dos tablas indexadas por la
+ * informacion del otro vertice de la arista, una tabla de salida con las
+ * aristas que tienen a este vertice como cola y una tabla de entrada con las
+ * aristas que lo tienen como cabeza. Esto permite establecer la adyacencia,
+ * obtener o remover una arista sin recorrer todas las aristas del vertice. Entre
+ * una misma cola y una misma cabeza solo puede existir una arista.</p>
+ * <p>
  * La clase es Serializable para permitir el almacenamiento de la informacion
  * del vertice.</p>
  *
@@ -58,13 +69,38 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
     private T info;
 
     /**
-     * La coleccion de aristas del vertice
+     * La posicion del vertice en el grafo que lo contiene.
+     */
+    private transient int index;
+
+    /**
+     * La tabla de aristas de salida del vertice
+     * <p>
+     * Las aristas de la tabla tienen una referencia a este vertice haciendo
+     * funcion de cola y se indexan por la informacion del vertice que hace
+     * funcion de cabeza, los vertices cabeza son los vertices adyacentes a
+     * este.</p>
+     */
+    private transient Map<T, Edge<T>> outEdges;
+
+    /**
+     * La tabla de aristas de entrada del vertice
      * <p>
-     * Las aristas que el vertice almacena tienen una referencia a este vertice
-     * haciendo funcion de cola, los vertices de las aristas que hacen funcion
-     * de cabeza son los vertices adyacentes a este.</p>
+     * Las aristas de la tabla tienen una referencia a este vertice haciendo
+     * funcion de cabeza y se indexan por la informacion del vertice que hace
+     * funcion de cola.</p>
+     */
+    private transient Map<T, Edge<T>> inEdges;
+
+    /**
+     * La vista de los vertices adyacentes a este vertice.
+     */
+    private transient final Collection<Vertex<T>> adjacents;
+
+    /**
+     * La vista de los vertices que tienen a este vertice como adyacente.
      */
-    private transient final Collection<Edge<T>> edges;
+    private transient final Collection<Vertex<T>> predecessors;
 
     /**
      * Crea un nuevo vertice a partir de su informacion.
@@ -73,7 +109,11 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      */
     public AbstractVertex(T info) {
         this.info = info;
-        this.edges = new LinkedList<>();
+        this.index = -1;
+        this.outEdges = new LinkedHashMap<>();
+        this.inEdges = new LinkedHashMap<>();
+        this.adjacents = new AdjacentsView();
+        this.predecessors = new PredecessorsView();
     }
 
     /**
@@ -99,12 +139,44 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      * @return
      */
     @Override
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     *
+     * @param index
+     */
+    @Override
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Devuelve una coleccion de los vertices adyacentes.
+     * <p>
+     * La coleccion es una vista no modificable de la tabla de aristas de
+     * salida, por lo que refleja los cambios en las aristas del vertice.</p>
+     *
+     * @return la coleccion de vertices dyacentes.
+     */
+    @Override
     public Collection<Vertex<T>> getAdjacents() {
-        LinkedList<Vertex<T>> vertices = new LinkedList<>();
-        getEdges().stream().filter((e) -> (e.getVertexTail().equals(this))).forEachOrdered((e) -> {
-            vertices.add(e.getVertexHead());
-        });
-        return vertices;
+        return adjacents;
+    }
+
+    /**
+     * Devuelve una coleccion de los vertices que tienen a este vertice como
+     * adyacente.
+     * <p>
+     * La coleccion es una vista no modificable de la tabla de aristas de
+     * entrada, por lo que refleja los cambios en las aristas del vertice.</p>
+     *
+     * @return la coleccion de vertices predecesores.
+     */
+    @Override
+    public Collection<Vertex<T>> getPredecessors() {
+        return predecessors;
     }
 
     /**
@@ -113,10 +185,7 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      */
     @Override
     public int getAdjacentsCount() {
-        int count = 0;
-        count = getEdges().stream().filter((edge) -> (edge.getVertexTail()
-                .equals(this))).map((_item) -> 1).reduce(count, Integer::sum);
-        return count;
+        return outEdges.size();
     }
 
     /**
@@ -125,41 +194,99 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      */
     @Override
     public int getEdgesCount() {
-        return getEdges().size();
+        return outEdges.size() + inEdges.size();
     }
 
     /**
      *
-     * @param edge
      * @return
      */
     @Override
+    public int getInEdgesCount() {
+        return inEdges.size();
+    }
+
+    /**
+     * Inserta una nueva arista en este vertice.
+     * <p>
+     * La arista se almacena en la tabla de salida si este vertice es su cola,
+     * o en la tabla de entrada si es su cabeza. La arista no es insertada si ya
+     * existe una arista entre los mismos vertices.</p>
+     * <p>
+     * Si el vertice es la cola y la cabeza de la arista, la primera insercion
+     * la almacena en la tabla de salida y la segunda insercion de la misma
+     * arista en la tabla de entrada, de forma que el lazo cuente en ambos
+     * grados del vertice.</p>
+     *
+     * @param edge la nueva arista a ser insertada en este vertice.
+     * @return <b>true</b> si la arista fue insertada, de lo contrario devuelve
+     * <b>false</b>.
+     */
+    @Override
     public boolean insertEdge(Edge<T> edge) {
-        if (!containsEdge(edge)) {
-            return getEdges().add(edge);
+        if (edge.getVertexTail().equals(this)) {
+            Edge<T> previous = outEdges.putIfAbsent(edge.getVertexHead().getInfo(), edge);
+            if (previous == edge && edge.getVertexHead().equals(this)) {
+                return inEdges.putIfAbsent(getInfo(), edge) == null;
+            }
+            return previous == null;
+        }
+        if (edge.getVertexHead().equals(this)) {
+            return inEdges.putIfAbsent(edge.getVertexTail().getInfo(), edge) == null;
         }
         return false;
     }
 
     /**
+     * Prepara el vertice para recibir una cantidad de aristas.
+     * <p>
+     * Una tabla de aristas solo se redimensiona si la cantidad de aristas a
+     * insertar supera la cantidad de aristas que contiene, en cuyo caso la
+     * tabla creceria al menos una vez durante la insercion.</p>
      *
-     * @param vertex
-     * @return
+     * @param outEdges la cantidad de aristas a insertar que tienen a este
+     * vertice como cola.
+     * @param inEdges la cantidad de aristas a insertar que tienen a este
+     * vertice como cabeza.
+     */
+    @Override
+    public void ensureEdgeCapacity(int outEdges, int inEdges) {
+        this.outEdges = ensureCapacity(this.outEdges, outEdges);
+        this.inEdges = ensureCapacity(this.inEdges, inEdges);
+    }
+
+    private static <T> Map<T, Edge<T>> ensureCapacity(Map<T, Edge<T>> edges, int additional) {
+        if (additional <= edges.size() || additional < 12) {
+            return edges;
+        }
+        int expected = edges.size() + additional;
+        Map<T, Edge<T>> resized = new LinkedHashMap<>((int) (expected / 0.75f) + 1);
+        resized.putAll(edges);
+        return resized;
+    }
+
+    /**
+     * Remueve la arista que tiene a este vertice como cola y al vertice
+     * establecido como cabeza.
+     * <p>
+     * La arista tambien es removida de la tabla de entrada del vertice
+     * cabeza.</p>
+     *
+     * @param vertex el vertice que hace funcion de cabeza en la arista a ser
+     * removida.
+     * @return <b>true</b> si la arista fue removida, de lo contrario devuelve
+     * <b>false</b>.
      */
     @Override
     public boolean removeEdge(Vertex<T> vertex) {
-        boolean removido = false;
         if (isAdjacents(vertex)) {
-            Iterator<Edge<T>> iter = getEdges().iterator();
-            while (iter.hasNext()) {
-                Edge next = iter.next();
-                if (next.getVertexTail().equals(this) && next.getVertexHead().equals(vertex)) {
-                    iter.remove();
-                    removido = true;
-                }
+            Edge<T> edge = outEdges.remove(vertex.getInfo());
+            if (edge.getVertexHead() instanceof AbstractVertex<T> head) {
+                head.inEdges.remove(getInfo(), edge);
             }
+            return true;
         }
-        return removido;
+        return false;
     }
 
     /**
@@ -169,16 +296,31 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      */
     @Override
     public boolean isAdjacents(Vertex<T> head) {
-        return getEdges().stream().anyMatch((e) -> (e.getVertexTail().equals(this)
-                && e.getVertexHead().equals(head)));
+        Edge<T> edge = outEdges.get(head.getInfo());
+        return edge != null && edge.getVertexHead().equals(head);
     }
 
     /**
-     *
+     * Elimina todas las conexiones entre este vertice y los vertices
+     * adyacentes.
+     * <p>
+     * Las aristas de salida son removidas tambien de la tabla de entrada de sus
+     * cabezas y las aristas de entrada de la tabla de salida de sus colas.</p>
      */
     @Override
     public void disconnect() {
-        edges.clear();
+        outEdges.values().forEach((edge) -> {
+            if (edge.getVertexHead() instanceof AbstractVertex<T> head && head != this) {
+                head.inEdges.remove(getInfo(), edge);
+            }
+        });
+        inEdges.values().forEach((edge) -> {
+            if (edge.getVertexTail() instanceof AbstractVertex<T> tail && tail != this) {
+                tail.outEdges.remove(getInfo(), edge);
+            }
+        });
+        outEdges.clear();
+        inEdges.clear();
     }
 
     /**
@@ -232,24 +374,47 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      * aristas.
      * @return la arista si existe, de lo contrario devuelve <b>null</b>.
      */
-    protected Edge<T> getEdge(Vertex<T> head) {
-        for (Edge<T> e : getEdges()) {
-            if (e.getVertexHead().equals(head) && e.getVertexTail().equals(this)) {
-                return e;
-            }
+    @Override
+    public Edge<T> getEdge(Vertex<T> head) {
+        Edge<T> edge = outEdges.get(head.getInfo());
+        if (edge != null && edge.getVertexHead().equals(head)) {
+            return edge;
         }
         return null;
     }
 
     /**
      * Devuelve una coleccion de aristas del vertice.
+     * <p>
+     * La coleccion es una copia que contiene las aristas de salida seguidas de
+     * las aristas de entrada.</p>
      *
      * @return la coleccion de aristaas.
      */
     protected Collection<Edge<T>> getEdges() {
+        Collection<Edge<T>> edges = new LinkedList<>(outEdges.values());
+        edges.addAll(inEdges.values());
         return edges;
     }
 
+    /**
+     * Devuelve las aristas que tienen a este vertice como cola.
+     *
+     * @return una vista no modificable de las aristas de salida.
+     */
+    protected Collection<Edge<T>> getOutEdges() {
+        return Collections.unmodifiableCollection(outEdges.values());
+    }
+
+    /**
+     * Devuelve las aristas que tienen a este vertice como cabeza.
+     *
+     * @return una vista no modificable de las aristas de entrada.
+     */
+    protected Collection<Edge<T>> getInEdges() {
+        return Collections.unmodifiableCollection(inEdges.values());
+    }
+
     /**
      * Establece si la arista esta contenida en la coleccion de aristas.
      *
@@ -259,7 +424,8 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
      * <b>false</b>.
      */
     protected boolean containsEdge(Edge<T> edge) {
-        return edge.getVertexTail().equals(this) && getEdges().contains(edge);
+        return edge.getVertexTail().equals(this)
+                && outEdges.get(edge.getVertexHead().getInfo()) == edge;
     }
 
     /**
@@ -276,8 +442,84 @@ public abstract class AbstractVertex<T> implements Vertex<T>, Serializable {
             contain = containsEdge(iter.next());
         }
         if (!contain) {
-            return getEdges().addAll(edgesHead);
+            boolean inserted = true;
+            for (Edge<T> edge : edgesHead) {
+                inserted &= insertEdge(edge);
+            }
+            return inserted;
         }
         return false;
     }
+
+    /**
+     * Vista no modificable de los vertices cabeza de las aristas de salida.
+     */
+    private class AdjacentsView extends AbstractCollection<Vertex<T>> {
+
+        @Override
+        public Iterator<Vertex<T>> iterator() {
+            Iterator<Edge<T>> iter = outEdges.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Vertex<T> next() {
+                    return iter.next().getVertexHead();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return outEdges.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Vertex<?> vertex) {
+                Edge<T> edge = outEdges.get(vertex.getInfo());
+                return edge != null && edge.getVertexHead().equals(vertex);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Vista no modificable de los vertices cola de las aristas de entrada.
+     */
+    private class PredecessorsView extends AbstractCollection<Vertex<T>> {
+
+        @Override
+        public Iterator<Vertex<T>> iterator() {
+            Iterator<Edge<T>> iter = inEdges.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Vertex<T> next() {
+                    return iter.next().getVertexTail();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return inEdges.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Vertex<?> vertex) {
+                Edge<T> edge = inEdges.get(vertex.getInfo());
+                return edge != null && edge.getVertexTail().equals(vertex);
+            }
+            return false;
+        }
+    }
 }
@@ -72,6 +72,28 @@ public interface Vertex<T> {
      */
     public void setInfo(T info);
 
+    /**
+     * Devuelve la posicion del vertice en el grafo que lo contiene.
+     * <p>
+     * La posicion es asignada por el grafo al insertar el vertice, es un
+     * entero no negativo unico dentro del grafo y las posiciones de los
+     * vertices eliminados se reutilizan, lo que permite indexar arreglos y
+     * conjuntos de bits por vertice.</p>
+     *
+     * @return la posicion del vertice, o <b>-1</b> si el vertice no pertenece
+     * a un grafo.
+     */
+    public int getIndex();
+
+    /**
+     * Establece la posicion del vertice en el grafo que lo contiene.
+     * <p>
+     * El metodo esta pensado para ser utilizado por el grafo.</p>
+     *
+     * @param index la nueva posicion del vertice.
+     */
+    public void setIndex(int index);
+
     /**
      * Devuelve una coleccion de los vertices adyacentes.
      *
@@ -79,6 +101,18 @@ public interface Vertex<T> {
      */
     public Collection<Vertex<T>> getAdjacents();
 
+    /**
+     * Devuelve una coleccion de los vertices que tienen a este vertice como
+     * adyacente.
+     * <p>
+     * Los vertices son las colas de las aristas de entrada del vertice, en un
+     * grafo no dirigido cada vertice almacena solo sus aristas de salida, por
+     * lo que la coleccion es vacia.</p>
+     *
+     * @return la coleccion de vertices predecesores.
+     */
+    public Collection<Vertex<T>> getPredecessors();
+
     /**
      * Devuelve la cantidad de vertices adyacentes.
      * <p>
@@ -98,6 +132,17 @@ public interface Vertex<T> {
      */
     public int getEdgesCount();
 
+    /**
+     * Devuelve la cantidad de aristas que tienen a este vertice como cabeza.
+     * <p>
+     * En un grafo dirigido es el grado de entrada del vertice, en un grafo no
+     * dirigido cada vertice almacena solo las aristas que lo tienen como cola,
+     * por lo que la cantidad es cero.</p>
+     *
+     * @return la cantidad de aristas de entrada del vertice.
+     */
+    public int getInEdgesCount();
+
     /**
      * Inserta una nueva arista en este vertice.
      *
@@ -107,6 +152,19 @@ public interface Vertex<T> {
      */
     public boolean insertEdge(Edge<T> edge);
 
+    /**
+     * Prepara el vertice para recibir una cantidad de aristas.
+     * <p>
+     * Permite dimensionar las estructuras que almacenan las aristas antes de
+     * una insercion masiva, no modifica las aristas del vertice.</p>
+     *
+     * @param outEdges la cantidad de aristas a insertar que tienen a este
+     * vertice como cola.
+     * @param inEdges la cantidad de aristas a insertar que tienen a este
+     * vertice como cabeza.
+     */
+    public void ensureEdgeCapacity(int outEdges, int inEdges);
+
     /**
      * Remueve una arista de este vertice.
      *
@@ -129,6 +187,15 @@ public interface Vertex<T> {
      */
     public boolean isAdjacents(Vertex<T> head);
 
+    /**
+     * Devuelve la arista que tiene a este vertice como cola y al vertice
+     * establecido como cabeza.
+     *
+     * @param head el vertice que hace funcion de cabeza en la arista.
+     * @return la arista si existe, de lo contrario devuelve <b>null</b>.
+     */
+    public Edge<T> getEdge(Vertex<T> head);
+
     /**
      * Elimina todas las conexiones entre este vertice y los vertices
      * adyacentes.
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Comprueba que las componentes conexas de un grafo no dirigido se mantengan
+ * al insertar aristas y se reconstruyan al eliminar aristas o vertices,
+ * comparandolas con un recorrido en anchura.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class ConnectedComponentsTest {
+
+    private static final int KEYS = 40;
+
+    @Test
+    public void interleavedUpdates() {
+        Random random = new Random(83);
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int step = 0; step < 4000; step++) {
+            int tail = random.nextInt(KEYS);
+            int head = random.nextInt(KEYS);
+            int operation = random.nextInt(100);
+            if (operation < 15) {
+                graph.insertVertex(tail);
+            } else if (operation < 60) {
+                graph.insertEdge(tail, head);
+            } else if (operation < 70) {
+                List<EdgePair<Integer>> edges = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    edges.add(EdgePair.of(random.nextInt(KEYS), random.nextInt(KEYS)));
+                }
+                graph.insertEdges(edges);
+            } else if (operation < 88) {
+                if (graph.existVertex(tail) && graph.existVertex(head)) {
+                    graph.removeEdge(tail, head);
+                }
+            } else if (operation < 98) {
+                graph.removeVertex(tail);
+            } else {
+                graph.cleanGraph();
+            }
+            //consultar en cada paso mantiene las componentes validas, por lo
+            //que las inserciones siguientes se aplican de forma incremental
+            assertComponents(graph, random);
+        }
+    }
+
+    @Test
+    public void removeBridge() {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < 4; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(2, 3);
+        assertEquals(2, graph.getComponentCount());
+        graph.insertEdge(1, 2);
+        assertEquals(1, graph.getComponentCount());
+        assertEquals(List.of(List.of(0, 1, 2, 3)), graph.getConnectedComponents());
+        graph.removeEdge(2, 1);
+        assertFalse(graph.areConnected(0, 3));
+        assertFalse(graph.existPath(0, 3));
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3)), graph.getConnectedComponents());
+        graph.insertEdge(0, 3);
+        graph.removeVertex(0);
+        assertFalse(graph.areConnected(1, 3));
+        assertEquals(List.of(List.of(1), List.of(2, 3)), graph.getConnectedComponents());
+    }
+
+    private static void assertComponents(SimpleNotDirectedGraph<Integer> graph, Random random) {
+        Map<Integer, Integer> labels = new HashMap<>();
+        List<List<Integer>> expected = new ArrayList<>();
+        for (Integer root : graph.getVertices()) {
+            if (labels.containsKey(root)) {
+                continue;
+            }
+            List<Integer> component = new ArrayList<>();
+            Deque<Integer> queue = new ArrayDeque<>();
+            labels.put(root, expected.size());
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                Integer vertex = queue.poll();
+                for (Integer adjacent : graph.getAdjacents(vertex)) {
+                    if (!labels.containsKey(adjacent)) {
+                        labels.put(adjacent, expected.size());
+                        queue.add(adjacent);
+                    }
+                }
+            }
+            for (Integer vertex : graph.getVertices()) {
+                if (labels.get(vertex) != null && labels.get(vertex) == expected.size()) {
+                    component.add(vertex);
+                }
+            }
+            expected.add(component);
+        }
+        assertEquals(expected.size(), graph.getComponentCount());
+        assertEquals(expected, graph.getConnectedComponents());
+        for (int i = 0; i < 10; i++) {
+            int first = random.nextInt(KEYS);
+            int second = random.nextInt(KEYS);
+            boolean connected = labels.containsKey(first) && labels.get(first).equals(labels.get(second));
+            assertEquals(connected, graph.areConnected(first, second));
+            assertEquals(connected && first != second, graph.existPath(first, second));
+        }
+    }
+}
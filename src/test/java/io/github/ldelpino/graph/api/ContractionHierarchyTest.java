@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static io.github.ldelpino.graph.api.ShortestPathOracle.assertShortest;
+
+/**
+ * Comprueba las consultas de las jerarquias de contraccion, construidas y
+ * leidas de un fichero, contra las distancias de <b>Floyd-Warshall</b>.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class ContractionHierarchyTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void matchesOracle() throws IOException {
+        Random random = new Random(61);
+        for (int round = 0; round < 24; round++) {
+            boolean directed = round % 2 == 0;
+            boolean weighted = round % 4 < 2;
+            int vertices = 1 + random.nextInt(40);
+            AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, directed, weighted, vertices,
+                    random.nextInt(3 * vertices));
+            FrozenGraph<Integer> frozen = graph.freeze();
+            ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.build(frozen);
+            Path file = directory.resolve("hierarchy" + round);
+            hierarchy.write(file);
+            ContractionHierarchy<Integer> opened = ContractionHierarchy.open(file, frozen);
+            assertEquals(hierarchy.getShortcutCount(), opened.getShortcutCount());
+            double[][] distances = ShortestPathOracle.distances(graph);
+            for (int tail = 0; tail < vertices; tail++) {
+                assertEquals(hierarchy.getRank(tail), opened.getRank(tail));
+                for (int head = 0; head < vertices; head++) {
+                    List<Integer> path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, hierarchy.djisktra(tail, head, path), path);
+                    path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, opened.djisktra(tail, head, path), path);
+                }
+            }
+            assertNull(hierarchy.djisktra(0, vertices, new ArrayList<>()));
+        }
+    }
+
+    @Test
+    public void mappedGraph() throws IOException {
+        Random random = new Random(67);
+        AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, true, true, 300, 1200);
+        Path file = directory.resolve("graph");
+        MappedGraph.write(graph, file, ValueCodec.INTEGER);
+        MappedGraph<Integer> mapped = MappedGraph.open(file, ValueCodec.INTEGER);
+        ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.build(mapped);
+        double[][] distances = ShortestPathOracle.distances(graph);
+        for (int sample = 0; sample < 500; sample++) {
+            int tail = random.nextInt(300);
+            int head = random.nextInt(300);
+            List<Integer> path = new ArrayList<>();
+            assertShortest(graph, distances, tail, head, hierarchy.djisktra(tail, head, path), path);
+        }
+    }
+
+    @Test
+    public void invalidFiles() throws IOException {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 1, 1.0);
+        Path file = directory.resolve("hierarchy");
+        ContractionHierarchy.build(graph.freeze()).write(file);
+        graph.insertEdge(1, 0, 2.0);
+        FrozenGraph<Integer> changed = graph.freeze();
+        assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.open(file, changed));
+        Path corrupted = directory.resolve("corrupted");
+        Files.write(corrupted, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(StreamCorruptedException.class, () -> ContractionHierarchy.open(corrupted, changed));
+        graph.insertEdge(1, 1, -1.0);
+        assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.build(graph.freeze()));
+    }
+
+    @Test
+    public void corruptedBody() throws IOException {
+        // un ciclo tiene aristas ascendentes y descendentes en cualquier orden
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1, 1.0);
+        graph.insertEdge(1, 2, 1.0);
+        graph.insertEdge(2, 0, 1.0);
+        FrozenGraph<Integer> frozen = graph.freeze();
+        Path file = directory.resolve("hierarchy");
+        ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.build(frozen);
+        hierarchy.write(file);
+        byte[] valid = Files.readAllBytes(file);
+        ByteBuffer header = ByteBuffer.wrap(valid);
+        int count = header.getInt(8);
+        int upCount = header.getInt(28);
+        int downCount = header.getInt(32);
+        int ranks = 36;
+        int upOffsets = ranks + 4 * count;
+        int upTargets = upOffsets + 4 * (count + 1);
+        int upMiddles = upTargets + 12 * upCount;
+        int downOffsets = upMiddles + 4 * upCount;
+        int downSources = downOffsets + 4 * (count + 1);
+        assertEquals(downSources + 16 * downCount, valid.length);
+        assertEquals(3, count);
+        assertNotEquals(0, upCount * downCount);
+        assertCorrupted(frozen, file, Arrays.copyOf(valid, valid.length - 4));
+        assertCorrupted(frozen, file, replace(valid, ranks, header.getInt(ranks + 4)));
+        assertCorrupted(frozen, file, replace(valid, upOffsets, 1));
+        assertCorrupted(frozen, file, replace(valid, upOffsets + 4, upCount + 1));
+        assertCorrupted(frozen, file, replace(valid, downOffsets + 4 * count, downCount - 1));
+        assertCorrupted(frozen, file, replace(valid, upTargets, count));
+        assertCorrupted(frozen, file, replace(valid, upMiddles, -2));
+        assertCorrupted(frozen, file, replace(valid, downSources, -1));
+        assertCorrupted(frozen, file, replace(valid, downSources + 12 * downCount, count));
+        // el fichero original sigue siendo valido
+        Files.write(file, valid);
+        assertEquals(hierarchy.getShortcutCount(), ContractionHierarchy.open(file, frozen).getShortcutCount());
+    }
+
+    private static byte[] replace(byte[] bytes, int position, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).putInt(position, value);
+        return copy;
+    }
+
+    private static void assertCorrupted(FrozenGraph<Integer> graph, Path file, byte[] bytes) throws IOException {
+        Files.write(file, bytes);
+        assertThrows(StreamCorruptedException.class, () -> ContractionHierarchy.open(file, graph));
+    }
+}
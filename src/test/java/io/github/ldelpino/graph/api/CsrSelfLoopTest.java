@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba que las instantaneas cuenten los lazos igual que el grafo a partir
+ * del cual se crearon.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class CsrSelfLoopTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void directedLoopDegree() throws IOException {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 0);
+        graph.insertEdge(0, 1);
+        assertEquals(3, graph.degree(0));
+        assertDegrees(graph, graph.freeze());
+        Path file = directory.resolve("directed.graph");
+        MappedGraph.write(graph, file, ValueCodec.INTEGER);
+        assertDegrees(graph, MappedGraph.open(file, ValueCodec.INTEGER));
+    }
+
+    @Test
+    public void notDirectedLoopDegree() throws IOException {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 0);
+        graph.insertEdge(0, 1);
+        assertDegrees(graph, graph.freeze());
+        Path file = directory.resolve("notdirected.graph");
+        MappedGraph.write(graph, file, ValueCodec.INTEGER);
+        assertDegrees(graph, MappedGraph.open(file, ValueCodec.INTEGER));
+    }
+
+    private static void assertDegrees(AbstractGraph<Integer> graph, AbstractCsrGraph<Integer> snapshot) {
+        for (int vertex = 0; vertex < 2; vertex++) {
+            assertEquals(graph.degree(vertex), snapshot.degree(vertex));
+            assertEquals(graph.getEdgesCount(vertex), snapshot.getEdgesCount(vertex));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Comprueba el algoritmo <b>Delta-Stepping</b> contra las distancias de
+ * <b>Floyd-Warshall</b>.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class DeltaSteppingTest {
+
+    @Test
+    public void matchesOracle() {
+        Random random = new Random(41);
+        double[] deltas = {Double.NaN, 0.5, 3, 100};
+        for (int round = 0; round < 32; round++) {
+            boolean directed = round % 2 == 0;
+            boolean weighted = round % 4 < 2;
+            int vertices = 1 + random.nextInt(30);
+            AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, directed, weighted, vertices,
+                    random.nextInt(3 * vertices));
+            double[][] distances = ShortestPathOracle.distances(graph);
+            DeltaStepping<Integer> search = new DeltaStepping<>(graph.freeze(), deltas[round % deltas.length]);
+            for (int source = 0; source < vertices; source++) {
+                ShortestDistances<Integer> result = search.search(source);
+                assertEquals(source, result.getSource());
+                int reachable = 0;
+                for (int target = 0; target < vertices; target++) {
+                    double expected = distances[source][target];
+                    if (expected == Double.POSITIVE_INFINITY) {
+                        assertEquals(-1, result.getDistance(target));
+                    } else {
+                        assertEquals(expected, result.getDistance(target), 1e-9);
+                        reachable++;
+                    }
+                }
+                assertEquals(reachable, result.getReachableCount());
+            }
+            assertNull(search.search(vertices));
+        }
+    }
+
+    @Test
+    public void parallelMatchesDjisktra() {
+        Random random = new Random(43);
+        int vertices = 5000;
+        AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, true, true, vertices, 4 * vertices);
+        FrozenGraph<Integer> frozen = graph.freeze();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShortestDistances<Integer> result = new DeltaStepping<>(frozen, 2, pool).search(0);
+            for (int sample = 0; sample < 50; sample++) {
+                int target = random.nextInt(vertices);
+                double expected = frozen.djisktra(0, target, new ArrayList<>()).getNumber().doubleValue();
+                assertEquals(expected, result.getDistance(target), 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 1, 1.0);
+        FrozenGraph<Integer> frozen = graph.freeze();
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping<>(frozen, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping<>(frozen, Double.POSITIVE_INFINITY));
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        assertThrows(CancellationException.class, () -> new DeltaStepping<>(frozen).search(0, token));
+        graph.insertEdge(1, 0, -1.0);
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping<>(graph.freeze()));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba el orden topologico y los caminos en grafos dirigidos aciclicos
+ * contra un recorrido por programacion dinamica.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class DirectedAcyclicTest {
+
+    private static final int VERTICES = 30;
+
+    @Test
+    public void topologicalSort() {
+        Random random = new Random(3);
+        WeightedEdgeDirectedGraph<Integer, Double> graph = randomDag(random);
+        List<Integer> sorted = graph.topologicalSort();
+        assertEquals(VERTICES, sorted.size());
+        int[] positions = new int[VERTICES];
+        for (int i = 0; i < VERTICES; i++) {
+            positions[sorted.get(i)] = i;
+        }
+        for (int tail = 0; tail < VERTICES; tail++) {
+            for (int head = 0; head < VERTICES; head++) {
+                if (graph.areAdjacents(tail, head)) {
+                    assertTrue(positions[tail] < positions[head]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cyclesAreRejected() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 1);
+        graph.insertEdge(1, 1);
+        assertThrows(IllegalStateException.class, graph::topologicalSort);
+        graph.removeEdge(1, 1);
+        assertEquals(List.of(0, 1), graph.topologicalSort());
+        graph.insertEdge(1, 0);
+        assertThrows(IllegalStateException.class, graph::topologicalSort);
+    }
+
+    @Test
+    public void negativeDistanceIsNotUnreachable() {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertVertex(2);
+        graph.insertEdge(0, 1, -1.0);
+        List<Integer> path = new ArrayList<>();
+        assertEquals(-1.0, graph.dagShortestPath(0, 1, path).getNumber());
+        assertEquals(List.of(0, 1), path);
+        path.clear();
+        assertNull(graph.dagShortestPath(0, 2, path));
+        assertNull(graph.dagLongestPath(1, 0, path));
+        assertTrue(path.isEmpty());
+        assertNull(graph.dagShortestPath(0, 9, path));
+    }
+
+    @Test
+    public void pathsMatchOracle() {
+        Random random = new Random(5);
+        for (int round = 0; round < 20; round++) {
+            WeightedEdgeDirectedGraph<Integer, Double> graph = randomDag(random);
+            double[][] shortest = oracle(graph, false);
+            double[][] longest = oracle(graph, true);
+            for (int tail = 0; tail < VERTICES; tail++) {
+                for (int head = 0; head < VERTICES; head++) {
+                    assertPath(graph, tail, head, shortest[tail][head], false);
+                    assertPath(graph, tail, head, longest[tail][head], true);
+                }
+            }
+        }
+    }
+
+    private static void assertPath(WeightedEdgeDirectedGraph<Integer, Double> graph, int tail, int head,
+            double expected, boolean longest) {
+        List<Integer> path = new ArrayList<>();
+        AritmethicNumber<?> distance = longest ? graph.dagLongestPath(tail, head, path)
+                : graph.dagShortestPath(tail, head, path);
+        if (Double.isNaN(expected)) {
+            assertNull(distance);
+            assertTrue(path.isEmpty());
+            return;
+        }
+        assertEquals(expected, distance.getNumber().doubleValue(), 1e-9);
+        assertEquals(tail, path.get(0));
+        assertEquals(head, path.get(path.size() - 1));
+        double sum = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            sum += graph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+        assertEquals(expected, sum, 1e-9);
+    }
+
+    /**
+     * Crea un grafo aciclico cuyas aristas van de un vertice menor a uno
+     * mayor, insertando los vertices en orden aleatorio.
+     */
+    private static WeightedEdgeDirectedGraph<Integer, Double> randomDag(Random random) {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        List<Integer> vertices = new ArrayList<>();
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            vertices.add(vertex);
+        }
+        Collections.shuffle(vertices, random);
+        vertices.forEach(graph::insertVertex);
+        for (int edge = 0; edge < 3 * VERTICES; edge++) {
+            int tail = random.nextInt(VERTICES - 1);
+            int head = tail + 1 + random.nextInt(VERTICES - 1 - tail);
+            graph.insertEdge(tail, head, (double) (random.nextInt(16) - 5));
+        }
+        return graph;
+    }
+
+    /**
+     * Calcula las distancias entre todos los pares de vertices en orden
+     * creciente de vertices, <b>NaN</b> si no existe un camino.
+     */
+    private static double[][] oracle(WeightedEdgeDirectedGraph<Integer, Double> graph, boolean longest) {
+        double[][] distances = new double[VERTICES][VERTICES];
+        for (int tail = 0; tail < VERTICES; tail++) {
+            Arrays.fill(distances[tail], Double.NaN);
+            distances[tail][tail] = 0;
+            for (int middle = tail; middle < VERTICES; middle++) {
+                if (Double.isNaN(distances[tail][middle])) {
+                    continue;
+                }
+                for (int head = middle + 1; head < VERTICES; head++) {
+                    if (graph.areAdjacents(middle, head)) {
+                        double candidate = distances[tail][middle] + graph.getEdgeWeight(middle, head);
+                        double current = distances[tail][head];
+                        if (Double.isNaN(current) || (longest ? candidate > current : candidate < current)) {
+                            distances[tail][head] = candidate;
+                        }
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+}
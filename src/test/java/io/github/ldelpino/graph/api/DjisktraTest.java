@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static io.github.ldelpino.graph.api.ShortestPathOracle.assertShortest;
+
+/**
+ * Comprueba el algoritmo de <b>Djisktra</b> de los grafos y de sus
+ * instantaneas contra las distancias de <b>Floyd-Warshall</b>.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class DjisktraTest {
+
+    @Test
+    public void matchesOracle() {
+        Random random = new Random(17);
+        for (int round = 0; round < 40; round++) {
+            boolean directed = round % 2 == 0;
+            boolean weighted = round % 4 < 2;
+            int vertices = 2 + random.nextInt(30);
+            AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, directed, weighted, vertices,
+                    random.nextInt(3 * vertices));
+            FrozenGraph<Integer> frozen = graph.freeze();
+            double[][] distances = ShortestPathOracle.distances(graph);
+            for (int tail = 0; tail < vertices; tail++) {
+                for (int head = 0; head < vertices; head++) {
+                    List<Integer> path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, graph.djisktra(tail, head, path), path);
+                    path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, frozen.djisktra(tail, head, path), path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void missingVertices() {
+        AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(new Random(1), true, true, 3, 3);
+        assertNull(graph.djisktra(0, 7, new ArrayList<>()));
+        assertNull(graph.freeze().djisktra(7, 0, new ArrayList<>()));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba la lectura de listas de aristas divididas en bloques, incluidas
+ * las lineas que atraviesan el limite entre dos bloques.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class EdgeListImporterTest {
+
+    /**
+     * Comentarios, lineas vacias, finales CRLF, separadores mezclados y una
+     * ultima linea sin fin de linea.
+     */
+    private static final String EDGES = "# cabecera\r\n"
+            + "a b 1\r\n"
+            + "bb,c,2\n"
+            + "% comentario\n"
+            + "\n"
+            + "c;a;3\r\n"
+            + "   \t \n"
+            + "a\tc 4\n"
+            + "dd  bb  5";
+
+    private static final List<String> VERTICES = List.of("a", "b", "bb", "c", "dd");
+
+    private static final String[][] WEIGHTED = {
+        {"a", "b", "1"}, {"bb", "c", "2"}, {"c", "a", "3"}, {"a", "c", "4"}, {"dd", "bb", "5"}};
+
+    @TempDir
+    Path directory;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void everyChunkSize() throws IOException {
+        Path file = write("edges.txt", EDGES);
+        long size = Files.size(file);
+        for (long chunkSize = 1; chunkSize <= size + 1; chunkSize++) {
+            Map<String, Integer> calls = new ConcurrentHashMap<>();
+            EdgeListImporter<String> importer = new EdgeListImporter<>(counting(calls), pool, chunkSize);
+            WeightedEdgeDirectedGraph<String, Integer> graph = importer.loadWeightedEdges(file,
+                    new WeightedEdgeDirectedGraph<>(), Integer::valueOf);
+            assertEquals(VERTICES, new ArrayList<>(graph.getVertices()), "chunk size " + chunkSize);
+            for (String[] edge : WEIGHTED) {
+                assertEquals(Integer.valueOf(edge[2]), graph.getEdgeWeight(edge[0], edge[1]),
+                        "chunk size " + chunkSize);
+            }
+            assertEquals(2 * WEIGHTED.length, graph.getTotalEdgesCount());
+            assertInternedOnce(calls, VERTICES.size());
+            SimpleDirectedGraph<String> simple = new EdgeListImporter<>(Function.<String>identity(), pool,
+                    chunkSize).load(file, new SimpleDirectedGraph<>());
+            assertEquals(VERTICES, new ArrayList<>(simple.getVertices()));
+            for (String[] edge : WEIGHTED) {
+                assertTrue(simple.areAdjacents(edge[0], edge[1]));
+            }
+        }
+    }
+
+    @Test
+    public void malformedLines() throws IOException {
+        Path missingHead = write("head.txt", "a b\nc\nd e\n");
+        Path missingWeight = write("weight.txt", "a b 1\r\nc d\r\ne f 2");
+        for (long chunkSize = 1; chunkSize <= 16; chunkSize++) {
+            EdgeListImporter<String> importer = new EdgeListImporter<>(Function.identity(), pool, chunkSize);
+            assertThrows(IOException.class, () -> importer.load(missingHead, new SimpleDirectedGraph<>()));
+            assertThrows(IOException.class, () -> importer.loadWeightedEdges(missingWeight,
+                    new WeightedEdgeDirectedGraph<String, Integer>(), Integer::valueOf));
+            importer.load(missingWeight, new SimpleDirectedGraph<>());
+        }
+    }
+
+    @Test
+    public void largeFile() throws IOException {
+        Random random = new Random(71);
+        Path file = directory.resolve("large.txt");
+        int lines = 200_000;
+        int keys = 1000;
+        long[] sums = new long[keys];
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int line = 0; line < lines; line++) {
+                int tail = random.nextInt(keys);
+                int head = random.nextInt(keys);
+                int weight = random.nextInt(100);
+                sums[tail] += weight;
+                writer.write(tail + " " + head + " " + weight + (line % 3 == 0 ? "\r\n" : "\n"));
+            }
+        }
+        Map<String, Integer> calls = new ConcurrentHashMap<>();
+        List<WeightedEdgePair<String, Integer>> edges = new ArrayList<>();
+        WeightedEdgeDirectedGraph<String, Integer> graph = new WeightedEdgeDirectedGraph<>() {
+            @Override
+            public int insertEdges(Iterable<? extends WeightedEdgePair<String, Integer>> pairs) {
+                pairs.forEach(edges::add);
+                return super.insertEdges(pairs);
+            }
+        };
+        new EdgeListImporter<>(counting(calls), pool).loadWeightedEdges(file, graph, Integer::valueOf);
+        assertTrue(Files.size(file) > (1 << 20));
+        assertEquals(lines, edges.size());
+        assertEquals(keys, graph.getVertexCount());
+        assertInternedOnce(calls, keys);
+        long[] loaded = new long[keys];
+        for (WeightedEdgePair<String, Integer> edge : edges) {
+            loaded[Integer.parseInt(edge.getTail())] += edge.getWeight();
+        }
+        for (int key = 0; key < keys; key++) {
+            assertEquals(sums[key], loaded[key]);
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Convierte cada campo a una nueva instancia y cuenta las conversiones.
+     */
+    private static Function<String, String> counting(Map<String, Integer> calls) {
+        return field -> {
+            calls.merge(field, 1, Integer::sum);
+            return new String(field);
+        };
+    }
+
+    private static void assertInternedOnce(Map<String, Integer> calls, int keys) {
+        assertEquals(keys, calls.size());
+        for (int count : calls.values()) {
+            assertEquals(1, count);
+        }
+    }
+}
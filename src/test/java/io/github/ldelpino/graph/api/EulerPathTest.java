@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que el camino de Euler recorra cada arista una sola vez, que
+ * comience en el vertice desbalanceado y que no exista en los grafos que no lo
+ * tienen.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class EulerPathTest {
+
+    @Test
+    public void directedCircuit() {
+        SimpleDirectedGraph<Integer> graph = directed(3, 0, 1, 1, 2, 2, 0);
+        assertEuler(graph, true);
+        assertEquals(0, graph.eulerPath().get(0));
+    }
+
+    @Test
+    public void directedPathStartsAtSource() {
+        SimpleDirectedGraph<Integer> graph = directed(4, 3, 0, 0, 1, 1, 2, 2, 0);
+        assertEuler(graph, true);
+        assertEquals(3, graph.eulerPath().get(0));
+        assertEquals(0, graph.eulerPath().get(graph.eulerPath().size() - 1));
+    }
+
+    @Test
+    public void directedSelfLoop() {
+        SimpleDirectedGraph<Integer> graph = directed(3, 0, 1, 1, 1, 1, 2);
+        assertEuler(graph, true);
+        assertEquals(List.of(0, 1, 1, 2), graph.eulerPath());
+    }
+
+    @Test
+    public void directedWithoutPath() {
+        assertEuler(directed(4, 0, 1, 1, 0, 2, 3, 3, 2), false);
+        assertEuler(directed(3, 0, 1, 0, 2), false);
+        assertEuler(directed(3), false);
+    }
+
+    @Test
+    public void notDirectedCircuit() {
+        assertEuler(notDirected(3, 0, 1, 1, 2, 2, 0), true);
+    }
+
+    @Test
+    public void notDirectedPathStartsAtOddVertex() {
+        SimpleNotDirectedGraph<Integer> graph = notDirected(4, 1, 2, 2, 3, 3, 1, 1, 0);
+        assertEuler(graph, true);
+        assertEquals(0, graph.eulerPath().get(0));
+    }
+
+    @Test
+    public void notDirectedSelfLoop() {
+        SimpleNotDirectedGraph<Integer> graph = notDirected(3, 0, 1, 1, 1, 1, 2);
+        assertEuler(graph, true);
+        assertEquals(List.of(0, 1, 1, 2), graph.eulerPath());
+    }
+
+    @Test
+    public void notDirectedWithoutPath() {
+        assertEuler(notDirected(6, 0, 1, 1, 2, 2, 0, 3, 4, 4, 5, 5, 3), false);
+        assertEuler(notDirected(5, 0, 1, 0, 2, 0, 3, 0, 4), false);
+    }
+
+    @Test
+    public void emptyGraph() {
+        assertFalse(new SimpleDirectedGraph<Integer>().isEulerPath());
+    }
+
+    @Test
+    public void randomGraphs() {
+        Random random = new Random(89);
+        for (int round = 0; round < 400; round++) {
+            int vertices = 1 + random.nextInt(6);
+            int[] edges = new int[2 * random.nextInt(8)];
+            for (int i = 0; i < edges.length; i++) {
+                edges[i] = random.nextInt(vertices);
+            }
+            AbstractGraph<Integer> graph = round % 2 == 0 ? directed(vertices, edges) : notDirected(vertices, edges);
+            assertEuler(graph, hasEulerPath(graph));
+        }
+    }
+
+    private static SimpleDirectedGraph<Integer> directed(int vertices, int... edges) {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int i = 0; i < edges.length; i += 2) {
+            graph.insertEdge(edges[i], edges[i + 1]);
+        }
+        return graph;
+    }
+
+    private static SimpleNotDirectedGraph<Integer> notDirected(int vertices, int... edges) {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int i = 0; i < edges.length; i += 2) {
+            graph.insertEdge(edges[i], edges[i + 1]);
+        }
+        return graph;
+    }
+
+    /**
+     * Comprueba el camino del grafo y de su instantanea, si existe, cada
+     * arista se recorre una sola vez.
+     */
+    private static void assertEuler(AbstractGraph<Integer> graph, boolean exists) {
+        assertEquals(exists, graph.isEulerPath());
+        assertEquals(exists, graph.freeze().isEulerPath());
+        List<Integer> path = graph.eulerPath();
+        assertEquals(path, graph.freeze().eulerPath());
+        if (!exists) {
+            assertTrue(path.isEmpty());
+            return;
+        }
+        Set<List<Integer>> edges = edges(graph);
+        Set<List<Integer>> used = new HashSet<>();
+        for (int i = 0; i + 1 < path.size(); i++) {
+            List<Integer> edge = edge(graph, path.get(i), path.get(i + 1));
+            assertTrue(edges.contains(edge), "edge " + edge);
+            assertTrue(used.add(edge), "edge used twice " + edge);
+        }
+        assertEquals(edges, used);
+        int[] balance = balance(graph);
+        int first = path.get(0);
+        if (graph.isDirected()) {
+            assertTrue(balance[first] >= 0);
+        } else {
+            assertTrue(balance[first] % 2 == 1 || isEven(balance));
+        }
+    }
+
+    /**
+     * Establece si existe el camino a partir de los grados de los vertices y
+     * de la conexion de los vertices con aristas.
+     */
+    private static boolean hasEulerPath(AbstractGraph<Integer> graph) {
+        Set<List<Integer>> edges = edges(graph);
+        if (edges.isEmpty()) {
+            return false;
+        }
+        int[] balance = balance(graph);
+        int unbalanced = 0;
+        for (int value : balance) {
+            if (graph.isDirected() ? value != 0 : value % 2 != 0) {
+                unbalanced++;
+                if (graph.isDirected() && Math.abs(value) > 1) {
+                    return false;
+                }
+            }
+        }
+        if (unbalanced > 2) {
+            return false;
+        }
+        //los vertices con aristas deben pertenecer a una componente debilmente
+        //conexa
+        Map<Integer, Integer> roots = new HashMap<>();
+        for (List<Integer> edge : edges) {
+            int first = root(roots, edge.get(0));
+            int second = root(roots, edge.get(1));
+            roots.put(first, second);
+        }
+        Set<Integer> components = new HashSet<>();
+        for (List<Integer> edge : edges) {
+            components.add(root(roots, edge.get(0)));
+        }
+        return components.size() == 1;
+    }
+
+    private static int root(Map<Integer, Integer> roots, int vertex) {
+        while (roots.containsKey(vertex) && roots.get(vertex) != vertex) {
+            vertex = roots.get(vertex);
+        }
+        return vertex;
+    }
+
+    /**
+     * Devuelve las aristas del grafo, las de un grafo no dirigido con sus
+     * extremos ordenados.
+     */
+    private static Set<List<Integer>> edges(AbstractGraph<Integer> graph) {
+        Set<List<Integer>> edges = new HashSet<>();
+        for (Integer tail : graph.getVertices()) {
+            for (Integer head : graph.getAdjacents(tail)) {
+                edges.add(edge(graph, tail, head));
+            }
+        }
+        return edges;
+    }
+
+    private static List<Integer> edge(AbstractGraph<Integer> graph, int tail, int head) {
+        return graph.isDirected() || tail <= head ? List.of(tail, head) : List.of(head, tail);
+    }
+
+    /**
+     * Devuelve la diferencia entre las aristas de salida y de entrada de cada
+     * vertice en un grafo dirigido, o el grado de cada vertice en un grafo no
+     * dirigido, donde un lazo suma dos.
+     */
+    private static int[] balance(AbstractGraph<Integer> graph) {
+        int[] balance = new int[graph.getVertexCount()];
+        for (List<Integer> edge : edges(graph)) {
+            balance[edge.get(0)] += 1;
+            balance[edge.get(1)] += graph.isDirected() ? -1 : 1;
+        }
+        return balance;
+    }
+
+    private static boolean isEven(int[] balance) {
+        for (int value : balance) {
+            if (value % 2 != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexEdgeDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba que la codificacion binaria y la serializacion de Java conserven
+ * los vertices, las aristas y los pesos de un grafo.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class GraphCodecTest {
+
+    private static final int VERTICES = 40;
+
+    @Test
+    public void weightedDirectedRoundTrip() throws IOException {
+        WeightedVertexEdgeDirectedGraph<Integer, Double, Double> graph = weightedGraph();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GraphCodec.write(graph, out, ValueCodec.INTEGER, ValueCodec.DOUBLE, ValueCodec.DOUBLE);
+        WeightedVertexEdgeDirectedGraph<Integer, Double, Double> read = GraphCodec.read(
+                new ByteArrayInputStream(out.toByteArray()), new WeightedVertexEdgeDirectedGraph<>(),
+                ValueCodec.INTEGER, ValueCodec.DOUBLE, ValueCodec.DOUBLE);
+        assertSameWeighted(graph, read);
+    }
+
+    @Test
+    public void notDirectedRoundTrip() throws IOException {
+        SimpleNotDirectedGraph<Integer> graph = notDirectedGraph();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GraphCodec.write(graph, out, ValueCodec.INTEGER, null, null);
+        SimpleNotDirectedGraph<Integer> read = GraphCodec.read(new ByteArrayInputStream(out.toByteArray()),
+                new SimpleNotDirectedGraph<>(), ValueCodec.INTEGER, null, null);
+        assertSameEdges(graph, read);
+    }
+
+    @Test
+    public void javaSerialization() throws IOException, ClassNotFoundException {
+        WeightedVertexEdgeDirectedGraph<Integer, Double, Double> weighted = weightedGraph();
+        assertSameWeighted(weighted, roundTrip(weighted));
+        SimpleNotDirectedGraph<Integer> notDirected = notDirectedGraph();
+        assertSameEdges(notDirected, roundTrip(notDirected));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <G> G roundTrip(G graph) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(graph);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (G) in.readObject();
+        }
+    }
+
+    private static WeightedVertexEdgeDirectedGraph<Integer, Double, Double> weightedGraph() {
+        Random random = new Random(11);
+        WeightedVertexEdgeDirectedGraph<Integer, Double, Double> graph = new WeightedVertexEdgeDirectedGraph<>();
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            graph.insertVertex(vertex, random.nextDouble());
+        }
+        for (int edge = 0; edge < 4 * VERTICES; edge++) {
+            graph.insertEdge(random.nextInt(VERTICES), random.nextInt(VERTICES), random.nextDouble() * 10);
+        }
+        return graph;
+    }
+
+    private static SimpleNotDirectedGraph<Integer> notDirectedGraph() {
+        Random random = new Random(13);
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int edge = 0; edge < 3 * VERTICES; edge++) {
+            graph.insertEdge(random.nextInt(VERTICES), random.nextInt(VERTICES));
+        }
+        return graph;
+    }
+
+    private static void assertSameWeighted(WeightedVertexEdgeDirectedGraph<Integer, Double, Double> expected,
+            WeightedVertexEdgeDirectedGraph<Integer, Double, Double> actual) {
+        assertSameEdges(expected, actual);
+        for (int tail = 0; tail < VERTICES; tail++) {
+            assertEquals(expected.getWeightVertex(tail), actual.getWeightVertex(tail));
+            for (int head = 0; head < VERTICES; head++) {
+                if (expected.areAdjacents(tail, head)) {
+                    assertEquals(expected.getEdgeWeight(tail, head), actual.getEdgeWeight(tail, head));
+                }
+            }
+        }
+    }
+
+    private static void assertSameEdges(AbstractGraph<Integer> expected, AbstractGraph<Integer> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getTotalEdgesCount(), actual.getTotalEdgesCount());
+        for (int tail = 0; tail < VERTICES; tail++) {
+            assertEquals(expected.degree(tail), actual.degree(tail));
+            for (int head = 0; head < VERTICES; head++) {
+                assertEquals(expected.areAdjacents(tail, head), actual.areAdjacents(tail, head));
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedVertexDirectedGraph;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba que las etiquetas exportadas a XML se lean sin cambios y que el
+ * tipo declarado de los pesos corresponda con sus valores.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class GraphExporterTest {
+
+    private static final String LABEL = "a\nb\r\nc\td <&> \"'";
+
+    @Test
+    public void gexfLabelRoundTrip() throws Exception {
+        Element node = (Element) export(GraphExporter.Format.GEXF).getElementsByTagName("node").item(0);
+        assertEquals(LABEL, node.getAttribute("label"));
+    }
+
+    @Test
+    public void graphMlLabelRoundTrip() throws Exception {
+        Element data = (Element) export(GraphExporter.Format.GRAPHML).getElementsByTagName("data").item(0);
+        assertEquals(LABEL, data.getTextContent());
+    }
+
+    @Test
+    public void controlCharactersDropped() throws Exception {
+        SimpleDirectedGraph<String> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex("a\u0000b\u0001c\u001Fd\uFFFF");
+        Element node = (Element) parse(graph, GraphExporter.Format.GEXF).getElementsByTagName("node").item(0);
+        assertEquals("abcd", node.getAttribute("label"));
+        Element data = (Element) parse(graph, GraphExporter.Format.GRAPHML).getElementsByTagName("data").item(0);
+        assertEquals("abcd", data.getTextContent());
+    }
+
+    @Test
+    public void textVertexWeights() throws Exception {
+        WeightedVertexDirectedGraph<String, String> graph = new WeightedVertexDirectedGraph<>();
+        graph.insertVertex("a", "heavy");
+        Document graphMl = parse(graph, GraphExporter.Format.GRAPHML);
+        assertEquals("string", key(graphMl, "key", "vweight").getAttribute("attr.type"));
+        Document gexf = parse(graph, GraphExporter.Format.GEXF);
+        assertEquals("string", key(gexf, "attribute", "weight").getAttribute("type"));
+        Element value = (Element) gexf.getElementsByTagName("attvalue").item(0);
+        assertEquals("heavy", value.getAttribute("value"));
+    }
+
+    @Test
+    public void numericWeights() throws Exception {
+        WeightedVertexDirectedGraph<String, Integer> vertices = new WeightedVertexDirectedGraph<>();
+        vertices.insertVertex("a", 3);
+        Document graphMl = parse(vertices, GraphExporter.Format.GRAPHML);
+        assertEquals("double", key(graphMl, "key", "vweight").getAttribute("attr.type"));
+        WeightedEdgeDirectedGraph<String, Double> edges = new WeightedEdgeDirectedGraph<>();
+        edges.insertVertex("a");
+        edges.insertVertex("b");
+        edges.insertEdge("a", "b", 1.5);
+        graphMl = parse(edges, GraphExporter.Format.GRAPHML);
+        assertEquals("double", key(graphMl, "key", "eweight").getAttribute("attr.type"));
+        Document gexf = parse(edges, GraphExporter.Format.GEXF);
+        Element edge = (Element) gexf.getElementsByTagName("edge").item(0);
+        assertEquals("1.5", edge.getAttribute("weight"));
+        assertEquals(0, gexf.getElementsByTagName("attributes").getLength());
+    }
+
+    private static Element key(Document document, String tag, String id) {
+        for (int i = 0; i < document.getElementsByTagName(tag).getLength(); i++) {
+            Element element = (Element) document.getElementsByTagName(tag).item(i);
+            if (id.equals(element.getAttribute("id"))) {
+                return element;
+            }
+        }
+        throw new AssertionError("Missing " + tag + " " + id);
+    }
+
+    private static Document export(GraphExporter.Format format)
+            throws IOException, ParserConfigurationException, SAXException {
+        SimpleDirectedGraph<String> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(LABEL);
+        return parse(graph, format);
+    }
+
+    private static Document parse(AbstractGraph<String> graph, GraphExporter.Format format)
+            throws IOException, ParserConfigurationException, SAXException {
+        StringWriter out = new StringWriter();
+        GraphExporter.write(graph, out, format);
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(out.toString())));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.vertex.Vertex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba el orden de las notificaciones de los recorridos iterativos y los
+ * algoritmos que se expresan sobre ellos, incluidos grafos mas profundos que
+ * la pila de llamadas.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class GraphTraversalTest {
+
+    /**
+     * El arbol 0 -> 1, 2; 1 -> 3, 4; 2 -> 5 con la arista de retroceso 4 -> 0.
+     */
+    private static SimpleDirectedGraph<Integer> tree() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 6; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(0, 2);
+        graph.insertEdge(1, 3);
+        graph.insertEdge(1, 4);
+        graph.insertEdge(2, 5);
+        graph.insertEdge(4, 0);
+        return graph;
+    }
+
+    @Test
+    public void breadthFirstOrder() {
+        SimpleDirectedGraph<Integer> graph = tree();
+        List<String> events = new ArrayList<>();
+        assertTrue(graph.newTraversal().breadthFirst(graph.getVertex(0), recorder(events)));
+        assertEquals(List.of("discover 0 null", "discover 1 0", "discover 2 0", "finish 0", "discover 3 1",
+                "discover 4 1", "finish 1", "discover 5 2", "finish 2", "finish 3", "examine 4 0 FINISHED",
+                "finish 4", "finish 5"), discoveries(events));
+    }
+
+    @Test
+    public void depthFirstOrder() {
+        SimpleDirectedGraph<Integer> graph = tree();
+        List<String> events = new ArrayList<>();
+        assertTrue(graph.newTraversal().depthFirst(graph.getVertex(0), recorder(events)));
+        assertEquals(List.of("discover 0 null", "discover 1 0", "discover 3 1", "finish 3", "discover 4 1",
+                "examine 4 0 ACTIVE", "finish 4", "finish 1", "discover 2 0", "discover 5 2", "finish 5",
+                "finish 2", "finish 0"), discoveries(events));
+    }
+
+    @Test
+    public void stopAndResume() {
+        SimpleDirectedGraph<Integer> graph = tree();
+        GraphTraversal<Integer> traversal = graph.newTraversal();
+        Vertex<Integer> stop = graph.getVertex(2);
+        assertFalse(traversal.depthFirst(graph.getVertex(0), new GraphTraversal.Visitor<>() {
+            @Override
+            public boolean discover(Vertex<Integer> vertex, Vertex<Integer> parent) {
+                return vertex != stop;
+            }
+        }));
+        assertTrue(traversal.isVisited(stop));
+        assertFalse(traversal.isVisited(graph.getVertex(5)));
+        assertEquals(GraphTraversal.State.ACTIVE, traversal.stateOf(graph.getVertex(0)));
+        assertEquals(GraphTraversal.State.FINISHED, traversal.stateOf(graph.getVertex(3)));
+        //un vertice ya visitado no inicia un nuevo recorrido
+        List<String> events = new ArrayList<>();
+        assertTrue(traversal.breadthFirst(graph.getVertex(0), recorder(events)));
+        assertTrue(events.isEmpty());
+        traversal.reset();
+        assertEquals(GraphTraversal.State.UNVISITED, traversal.stateOf(graph.getVertex(0)));
+    }
+
+    @Test
+    public void deepChain() {
+        int length = 200_000;
+        SimpleDirectedGraph<Integer> graph = chain(length);
+        assertTrue(graph.existPath(0, length - 1));
+        assertFalse(graph.existPath(length - 1, 0));
+        assertFalse(graph.isCyclic());
+        graph.insertEdge(length - 1, 0);
+        assertTrue(graph.isCyclic());
+        int cascade = 20_000;
+        SimpleDirectedGraph<Integer> shortChain = chain(cascade);
+        assertEquals(cascade / 2, shortChain.removeVertexCascade(cascade / 2).size());
+        assertEquals(cascade / 2, shortChain.getVertexCount());
+    }
+
+    @Test
+    public void existPathMatchesClosure() {
+        Random random = new Random(101);
+        for (int round = 0; round < 100; round++) {
+            int vertices = 1 + random.nextInt(15);
+            SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                graph.insertVertex(vertex);
+            }
+            for (int edge = random.nextInt(2 * vertices); edge > 0; edge--) {
+                graph.insertEdge(random.nextInt(vertices), random.nextInt(vertices));
+            }
+            boolean[][] reach = new boolean[vertices][vertices];
+            for (int tail = 0; tail < vertices; tail++) {
+                for (int head : graph.getAdjacents(tail)) {
+                    reach[tail][head] = true;
+                }
+            }
+            for (int middle = 0; middle < vertices; middle++) {
+                for (int tail = 0; tail < vertices; tail++) {
+                    for (int head = 0; head < vertices; head++) {
+                        reach[tail][head] |= reach[tail][middle] && reach[middle][head];
+                    }
+                }
+            }
+            for (int tail = 0; tail < vertices; tail++) {
+                for (int head = 0; head < vertices; head++) {
+                    assertEquals(tail != head && reach[tail][head], graph.existPath(tail, head));
+                }
+            }
+        }
+    }
+
+    /**
+     * Crea la cadena 0 -> 1 -> ... -> length - 1.
+     */
+    private static SimpleDirectedGraph<Integer> chain(int length) {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < length; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int vertex = 0; vertex + 1 < length; vertex++) {
+            graph.insertEdge(vertex, vertex + 1);
+        }
+        return graph;
+    }
+
+    private static GraphTraversal.Visitor<Integer> recorder(List<String> events) {
+        return new GraphTraversal.Visitor<>() {
+            @Override
+            public boolean discover(Vertex<Integer> vertex, Vertex<Integer> parent) {
+                events.add("discover " + vertex.getInfo() + " " + (parent != null ? parent.getInfo() : null));
+                return true;
+            }
+
+            @Override
+            public boolean examine(Vertex<Integer> tail, Vertex<Integer> head, GraphTraversal.State state) {
+                events.add("examine " + tail.getInfo() + " " + head.getInfo() + " " + state);
+                return true;
+            }
+
+            @Override
+            public void finish(Vertex<Integer> vertex) {
+                events.add("finish " + vertex.getInfo());
+            }
+        };
+    }
+
+    /**
+     * Devuelve los descubrimientos, las finalizaciones y las aristas hacia
+     * vertices ya descubiertos.
+     */
+    private static List<String> discoveries(List<String> events) {
+        List<String> result = new ArrayList<>();
+        for (String event : events) {
+            if (!event.startsWith("examine") || !event.endsWith("UNVISITED")) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
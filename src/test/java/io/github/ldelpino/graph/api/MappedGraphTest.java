@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static io.github.ldelpino.graph.api.ShortestPathOracle.assertShortest;
+
+/**
+ * Comprueba que un grafo escrito con {@link MappedGraph#write} y abierto con
+ * {@link MappedGraph#open} responda las consultas igual que la instantanea
+ * del grafo original.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class MappedGraphTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void roundTrip() throws IOException {
+        Random random = new Random(29);
+        for (int round = 0; round < 16; round++) {
+            boolean directed = round % 2 == 0;
+            boolean weighted = round % 4 < 2;
+            int vertices = 1 + random.nextInt(25);
+            AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, directed, weighted, vertices,
+                    random.nextInt(3 * vertices));
+            FrozenGraph<Integer> frozen = graph.freeze();
+            Path file = directory.resolve("graph" + round);
+            MappedGraph.write(graph, file, ValueCodec.INTEGER);
+            MappedGraph<Integer> mapped = MappedGraph.open(file, ValueCodec.INTEGER);
+            assertEquals(frozen.getVertexCount(), mapped.getVertexCount());
+            assertEquals(frozen.getTotalEdgesCount(), mapped.getTotalEdgesCount());
+            assertEquals(frozen.isDirected(), mapped.isDirected());
+            assertEquals(frozen.isWeigthedEdge(), mapped.isWeigthedEdge());
+            double[][] distances = ShortestPathOracle.distances(graph);
+            for (int tail = 0; tail < vertices; tail++) {
+                assertEquals(frozen.degree(tail), mapped.degree(tail));
+                assertEquals(frozen.getEdgesCount(tail), mapped.getEdgesCount(tail));
+                assertEquals(frozen.getAdjacents(tail), mapped.getAdjacents(tail));
+                for (int head = 0; head < vertices; head++) {
+                    assertEquals(frozen.areAdjacents(tail, head), mapped.areAdjacents(tail, head));
+                    if (mapped.areAdjacents(tail, head)) {
+                        assertEquals(frozen.getEdgeWeight(tail, head), mapped.getEdgeWeight(tail, head));
+                    }
+                    List<Integer> path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, mapped.djisktra(tail, head, path), path);
+                }
+            }
+            assertEquals(-1, mapped.indexOf(vertices));
+            assertNull(mapped.djisktra(0, vertices, new ArrayList<>()));
+        }
+    }
+}
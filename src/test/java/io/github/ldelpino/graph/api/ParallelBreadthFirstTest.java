@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import io.github.ldelpino.graph.generators.ErdosRenyiGenerator;
+import io.github.ldelpino.graph.generators.GraphGenerator;
+import io.github.ldelpino.graph.generators.RMatGenerator;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Comprueba el recorrido en anchura paralelo contra un recorrido en anchura
+ * secuencial.
+ * <p>
+ * Los grafos tienen varios miles de vertices para que los niveles se dividan
+ * en varias tareas y la frontera de los grafos sesgados cambie al conjunto de
+ * bits.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class ParallelBreadthFirstTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void randomGraphs() {
+        assertMatches(ErdosRenyiGenerator.withExpectedEdges(20_000, 60_000, true, 3), true);
+        assertMatches(ErdosRenyiGenerator.withExpectedEdges(20_000, 30_000, false, 5), false);
+    }
+
+    @Test
+    public void skewedGraphs() {
+        assertMatches(new RMatGenerator(14, 16L << 14, 7), true);
+        assertMatches(new RMatGenerator(14, 8L << 14, 11), false);
+    }
+
+    @Test
+    public void sourceWithoutEdges() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 4; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(1, 0);
+        graph.insertEdge(1, 2);
+        HopDistances<Integer> distances = new ParallelBreadthFirst<>(graph.freeze(), pool).search(0);
+        assertEquals(0, distances.getDistance(0));
+        assertEquals(-1, distances.getDistance(1));
+        assertEquals(-1, distances.getDistance(2));
+        assertEquals(1, distances.getReachableCount());
+        assertEquals(0, distances.getDepth());
+        assertNull(new ParallelBreadthFirst<>(graph.freeze(), pool).search(4));
+    }
+
+    private void assertMatches(GraphGenerator generator, boolean directed) {
+        AbstractGraph<Integer> graph = directed ? generator.fill(new SimpleDirectedGraph<>())
+                : generator.fill(new SimpleNotDirectedGraph<>());
+        FrozenGraph<Integer> frozen = graph.freeze();
+        ParallelBreadthFirst<Integer> search = new ParallelBreadthFirst<>(frozen, pool);
+        int count = frozen.getVertexCount();
+        //el vertice de mayor grado alcanza la mayor parte del grafo, el ultimo
+        //sin aristas de salida prueba un recorrido de un solo nivel
+        int hub = 0;
+        int isolated = -1;
+        for (int vertex = 0; vertex < count; vertex++) {
+            int edges = frozen.getAdjacents(vertex).size();
+            if (edges > frozen.getAdjacents(hub).size()) {
+                hub = vertex;
+            }
+            if (edges == 0) {
+                isolated = vertex;
+            }
+        }
+        int[] sources = isolated >= 0 ? new int[]{hub, 0, count / 2, isolated} : new int[]{hub, 0, count / 2};
+        for (int source : sources) {
+            int[] expected = sequential(frozen, source);
+            HopDistances<Integer> distances = search.search(source);
+            int reachable = 0;
+            int depth = 0;
+            for (int vertex = 0; vertex < count; vertex++) {
+                assertEquals(expected[vertex], distances.getDistance(vertex), "vertex " + vertex);
+                if (expected[vertex] >= 0) {
+                    reachable++;
+                    depth = Math.max(depth, expected[vertex]);
+                }
+            }
+            assertEquals(reachable, distances.getReachableCount());
+            assertEquals(depth, distances.getDepth());
+        }
+    }
+
+    /**
+     * Calcula la distancia en saltos desde un vertice con un recorrido en
+     * anchura secuencial, <b>-1</b> si el vertice no es alcanzable.
+     */
+    private static int[] sequential(FrozenGraph<Integer> graph, int source) {
+        int[] distances = new int[graph.getVertexCount()];
+        Arrays.fill(distances, -1);
+        distances[source] = 0;
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            for (int adjacent : graph.getAdjacents(vertex)) {
+                if (distances[adjacent] < 0) {
+                    distances[adjacent] = distances[vertex] + 1;
+                    queue.add(adjacent);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import io.github.ldelpino.graph.Graph;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que un recorrido de exactamente una longitud y un camino de a lo
+ * sumo una longitud se distingan en los grafos donde no coinciden.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class PathLengthTest {
+
+    @Test
+    public void directedChain() {
+        // 0 -> 1 -> 2, sin ciclos el unico recorrido tiene longitud 2
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(1, 2);
+        assertChain(graph);
+        assertChain(graph.freeze());
+    }
+
+    @Test
+    public void directedCycle() {
+        // 0 <-> 1 -> 2, el ciclo permite recorridos de longitud 2, 4, 6...
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(1, 0);
+        graph.insertEdge(1, 2);
+        assertCycle(graph);
+        assertCycle(graph.freeze());
+    }
+
+    @Test
+    public void notDirectedChain() {
+        // 0 - 1 - 2, se puede regresar por la misma arista
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(1, 2);
+        assertCycle(graph);
+        assertCycle(graph.freeze());
+    }
+
+    private static void assertChain(Graph<Integer> graph) {
+        assertFalse(graph.existPathWithLength(0, 2, 1));
+        assertTrue(graph.existPathWithLength(0, 2, 2));
+        assertFalse(graph.existPathWithLength(0, 2, 3));
+        assertFalse(graph.existPathWithin(0, 2, 1));
+        assertTrue(graph.existPathWithin(0, 2, 2));
+        assertTrue(graph.existPathWithin(0, 2, 3));
+        assertFalse(graph.existPathWithLength(2, 0, 2));
+        assertFalse(graph.existPathWithin(2, 0, 2));
+    }
+
+    private static void assertCycle(Graph<Integer> graph) {
+        assertTrue(graph.existPathWithLength(0, 2, 2));
+        assertFalse(graph.existPathWithLength(0, 2, 3));
+        assertTrue(graph.existPathWithLength(0, 2, 4));
+        assertTrue(graph.existPathWithin(0, 2, 3));
+        assertTrue(graph.existPathWithin(0, 2, 4));
+        assertFalse(graph.existPathWithin(0, 2, 1));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleBiFunction;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static io.github.ldelpino.graph.api.ShortestPathOracle.assertShortest;
+
+/**
+ * Comprueba las busquedas <b>A*</b> y <b>Djisktra bidireccional</b> contra las
+ * distancias de <b>Floyd-Warshall</b>.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class PointToPointTest {
+
+    @Test
+    public void matchesOracle() {
+        Random random = new Random(53);
+        for (int round = 0; round < 40; round++) {
+            boolean directed = round % 2 == 0;
+            boolean weighted = round % 4 < 2;
+            int vertices = 1 + random.nextInt(30);
+            AbstractGraph<Integer> graph = ShortestPathOracle.randomGraph(random, directed, weighted, vertices,
+                    random.nextInt(3 * vertices));
+            double[][] distances = ShortestPathOracle.distances(graph);
+            //la mitad de la distancia exacta es admisible
+            ToDoubleBiFunction<Integer, Integer> half = (vertex, head) -> distances[vertex][head]
+                    == Double.POSITIVE_INFINITY ? 0 : distances[vertex][head] / 2;
+            for (int tail = 0; tail < vertices; tail++) {
+                for (int head = 0; head < vertices; head++) {
+                    List<Integer> path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, graph.aStar(tail, head, (a, b) -> 0, path), path);
+                    path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, graph.aStar(tail, head, half, path), path);
+                    path = new ArrayList<>();
+                    assertShortest(graph, distances, tail, head, graph.bidirectionalDjisktra(tail, head, path),
+                            path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 1, 1.0);
+        assertNull(graph.aStar(0, 2, (a, b) -> 0, new ArrayList<>()));
+        assertNull(graph.bidirectionalDjisktra(2, 0, new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class, () -> graph.aStar(0, 1, (a, b) -> -1, new ArrayList<>()));
+        graph.insertVertex(2);
+        graph.insertEdge(1, 2, -1.0);
+        assertThrows(IllegalArgumentException.class, () -> graph.bidirectionalDjisktra(0, 2, new ArrayList<>()));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que las consultas tomen el bloqueo de lectura, que las
+ * modificaciones tomen el bloqueo de escritura y que varios lectores se
+ * ejecuten a la vez sin observar modificaciones a medias.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class ReadWriteGraphTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void lockKinds() {
+        CountingLock lock = new CountingLock();
+        SimpleNotDirectedGraph<Integer> graph = triangle();
+        ReadWriteGraph<Integer> rw = ReadWriteGraph.of(graph, lock);
+        rw.existVertex(0);
+        rw.getAdjacents(0);
+        rw.isCyclic();
+        rw.getAdyacentsMatrix();
+        rw.existPath(0, 2);
+        rw.djisktra(0, 2, new ArrayList<>());
+        assertEquals(6, lock.reads.get());
+        assertEquals(0, lock.writes.get());
+        rw.removeEdge(0, 1);
+        rw.removeVertex(2);
+        rw.write(() -> graph.insertEdge(0, 1));
+        rw.cleanGraph();
+        assertEquals(6, lock.reads.get());
+        assertEquals(4, lock.writes.get());
+        assertEquals(0, graph.getVertexCount());
+    }
+
+    @Test
+    public void readersShareTheLock() throws Exception {
+        ReadWriteGraph<Integer> rw = ReadWriteGraph.of(triangle());
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        //cada lector espera al otro dentro del bloqueo de lectura
+        Callable<Boolean> reader = () -> rw.read(() -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+                return rw.existVertex(0);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Future<Boolean> first = executor.submit(reader);
+        Future<Boolean> second = executor.submit(reader);
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertTrue(second.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void writerExcludesReaders() throws Exception {
+        ReadWriteGraph<Integer> rw = ReadWriteGraph.of(triangle());
+        CyclicBarrier inside = new CyclicBarrier(2);
+        CyclicBarrier release = new CyclicBarrier(2);
+        Future<Boolean> writer = executor.submit(() -> rw.write(() -> {
+            try {
+                inside.await(5, TimeUnit.SECONDS);
+                release.await(5, TimeUnit.SECONDS);
+                return rw.existVertex(0);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+        inside.await(5, TimeUnit.SECONDS);
+        Future<Boolean> reader = executor.submit(() -> rw.existVertex(0));
+        assertThrows(TimeoutException.class, () -> reader.get(200, TimeUnit.MILLISECONDS));
+        release.await(5, TimeUnit.SECONDS);
+        assertTrue(writer.get(10, TimeUnit.SECONDS));
+        assertTrue(reader.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void readersNeverSeeHalfUpdates() throws Exception {
+        SimpleNotDirectedGraph<Integer> graph = triangle();
+        graph.removeEdge(2, 0);
+        ReadWriteGraph<Integer> rw = ReadWriteGraph.of(graph);
+        int rounds = 2000;
+        //el escritor inserta y elimina juntas las aristas 0-1 y 1-2, por lo
+        //que existe un camino de 0 a 2 si y solo si ambas existen
+        Future<?> writer = executor.submit(() -> {
+            for (int round = 0; round < rounds; round++) {
+                rw.write(() -> graph.removeEdge(0, 1) & graph.removeEdge(1, 2));
+                rw.write(() -> graph.insertEdge(0, 1) & graph.insertEdge(1, 2));
+            }
+        });
+        List<Future<Boolean>> readers = new ArrayList<>();
+        for (int reader = 0; reader < 4; reader++) {
+            readers.add(executor.submit(() -> {
+                boolean consistent = true;
+                while (!writer.isDone()) {
+                    consistent &= rw.read(() -> graph.existPath(0, 2)
+                            == (graph.areAdjacents(0, 1) && graph.areAdjacents(1, 2)));
+                }
+                return consistent;
+            }));
+        }
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<Boolean> reader : readers) {
+            assertTrue(reader.get(10, TimeUnit.SECONDS));
+        }
+        assertTrue(rw.existPath(0, 2));
+        assertFalse(rw.areAdjacents(0, 2));
+    }
+
+    private static SimpleNotDirectedGraph<Integer> triangle() {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 1);
+        graph.insertEdge(1, 2);
+        graph.insertEdge(2, 0);
+        return graph;
+    }
+
+    /**
+     * Un bloqueo de lectura y escritura que cuenta las veces que se toma cada
+     * bloqueo.
+     */
+    private static final class CountingLock implements ReadWriteLock {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public Lock readLock() {
+            return counting(lock.readLock(), reads);
+        }
+
+        @Override
+        public Lock writeLock() {
+            return counting(lock.writeLock(), writes);
+        }
+
+        private static Lock counting(Lock lock, AtomicInteger counter) {
+            return new Lock() {
+                @Override
+                public void lock() {
+                    counter.incrementAndGet();
+                    lock.lock();
+                }
+
+                @Override
+                public void lockInterruptibly() throws InterruptedException {
+                    counter.incrementAndGet();
+                    lock.lockInterruptibly();
+                }
+
+                @Override
+                public boolean tryLock() {
+                    counter.incrementAndGet();
+                    return lock.tryLock();
+                }
+
+                @Override
+                public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+                    counter.incrementAndGet();
+                    return lock.tryLock(time, unit);
+                }
+
+                @Override
+                public void unlock() {
+                    lock.unlock();
+                }
+
+                @Override
+                public Condition newCondition() {
+                    return lock.newCondition();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.List;
+import java.util.Random;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeNotDirectedGraph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calcula las distancias entre todos los pares de vertices con el algoritmo de
+ * <b>Floyd-Warshall</b> y comprueba contra ellas los resultados de las
+ * busquedas de caminos mas cortos.
+ * <p>
+ * Los grafos tienen como vertices los enteros desde <b>0</b> hasta la
+ * cantidad de vertices menos uno.</p>
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+final class ShortestPathOracle {
+
+    private ShortestPathOracle() {
+    }
+
+    /**
+     * Crea un grafo aleatorio, con lazos, aristas repetidas y pesos enteros no
+     * negativos, incluido el cero.
+     */
+    static AbstractGraph<Integer> randomGraph(Random random, boolean directed, boolean weighted,
+            int vertices, int edges) {
+        int[] tails = new int[edges];
+        int[] heads = new int[edges];
+        double[] weights = new double[edges];
+        for (int edge = 0; edge < edges; edge++) {
+            tails[edge] = random.nextInt(vertices);
+            heads[edge] = random.nextInt(vertices);
+            weights[edge] = random.nextInt(20);
+        }
+        if (weighted && directed) {
+            WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                graph.insertVertex(vertex);
+            }
+            for (int edge = 0; edge < edges; edge++) {
+                graph.insertEdge(tails[edge], heads[edge], weights[edge]);
+            }
+            return graph;
+        }
+        if (weighted) {
+            WeightedEdgeNotDirectedGraph<Integer, Double> graph = new WeightedEdgeNotDirectedGraph<>();
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                graph.insertVertex(vertex);
+            }
+            for (int edge = 0; edge < edges; edge++) {
+                graph.insertEdge(tails[edge], heads[edge], weights[edge]);
+            }
+            return graph;
+        }
+        if (directed) {
+            SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                graph.insertVertex(vertex);
+            }
+            for (int edge = 0; edge < edges; edge++) {
+                graph.insertEdge(tails[edge], heads[edge]);
+            }
+            return graph;
+        }
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int edge = 0; edge < edges; edge++) {
+            graph.insertEdge(tails[edge], heads[edge]);
+        }
+        return graph;
+    }
+
+    /**
+     * Devuelve el peso de la arista entre dos vertices, <b>1</b> si el grafo
+     * no tiene peso en las aristas.
+     */
+    static double weight(AbstractGraph<Integer> graph, int tail, int head) {
+        return graph.isWeigthedEdge() ? weighted(graph).getEdgeWeight(tail, head) : 1;
+    }
+
+    /**
+     * Devuelve las distancias entre todos los pares de vertices, infinito si
+     * no existe un camino.
+     */
+    static double[][] distances(AbstractGraph<Integer> graph) {
+        int count = graph.getVertexCount();
+        double[][] distances = new double[count][count];
+        for (int tail = 0; tail < count; tail++) {
+            for (int head = 0; head < count; head++) {
+                distances[tail][head] = tail == head ? 0
+                        : graph.areAdjacents(tail, head) ? weight(graph, tail, head) : Double.POSITIVE_INFINITY;
+            }
+        }
+        for (int middle = 0; middle < count; middle++) {
+            for (int tail = 0; tail < count; tail++) {
+                for (int head = 0; head < count; head++) {
+                    double candidate = distances[tail][middle] + distances[middle][head];
+                    if (candidate < distances[tail][head]) {
+                        distances[tail][head] = candidate;
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Comprueba un resultado con el contrato de
+     * {@link io.github.ldelpino.graph.Graph#djisktra(java.lang.Object, java.lang.Object, java.util.List)}.
+     */
+    static void assertShortest(AbstractGraph<Integer> graph, double[][] distances, int tail, int head,
+            AritmethicNumber<?> result, List<Integer> path) {
+        assertNotNull(result);
+        if (graph.isWeigthedEdge()) {
+            assertInstanceOf(DoubleAritmethicNumber.class, result);
+        } else {
+            assertInstanceOf(IntegerAritmethicNumber.class, result);
+        }
+        double expected = distances[tail][head];
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertEquals(-1, result.getNumber().doubleValue());
+            assertTrue(path.isEmpty());
+            return;
+        }
+        assertEquals(expected, result.getNumber().doubleValue(), 1e-9);
+        assertEquals(tail, path.get(0));
+        assertEquals(head, path.get(path.size() - 1));
+        double sum = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            assertTrue(graph.areAdjacents(path.get(i), path.get(i + 1)));
+            sum += weight(graph, path.get(i), path.get(i + 1));
+        }
+        assertEquals(expected, sum, 1e-9);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeightedEdgeGraph<Integer, Double> weighted(AbstractGraph<Integer> graph) {
+        return (WeightedEdgeGraph<Integer, Double>) graph;
+    }
+}
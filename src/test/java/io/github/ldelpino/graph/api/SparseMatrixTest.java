@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Comprueba la forma de las matrices de incidencia con lazos, las conversiones
+ * de la matriz dispersa y que sus arreglos no puedan modificarse desde afuera.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class SparseMatrixTest {
+
+    @Test
+    public void directedIncidenceWithLoop() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 0);
+        graph.insertEdge(0, 1);
+        graph.insertEdge(2, 1);
+        SparseMatrix incidence = graph.getSparseIncidenceMatrix();
+        // 0 -> 0 es la columna 0, 0 -> 1 la columna 1 y 2 -> 1 la columna 2
+        assertEquals(3, incidence.getRowCount());
+        assertEquals(3, incidence.getColumnCount());
+        assertEquals(5, incidence.getNonZeroCount());
+        assertArrayEquals(new int[][]{{1, 1, 0}, {0, 1, 1}, {0, 0, 1}}, incidence.toDense());
+        assertColumnSizes(incidence, 1, 2, 2);
+    }
+
+    @Test
+    public void notDirectedIncidenceWithLoop() {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(0, 0);
+        graph.insertEdge(0, 1);
+        graph.insertEdge(2, 1);
+        SparseMatrix incidence = graph.getSparseIncidenceMatrix();
+        // cada arista ocupa una sola columna aunque aparezca en dos filas de adyacencia
+        assertEquals(3, incidence.getRowCount());
+        assertEquals(3, incidence.getColumnCount());
+        assertEquals(5, incidence.getNonZeroCount());
+        assertArrayEquals(new int[][]{{1, 1, 0}, {0, 1, 1}, {0, 0, 1}}, incidence.toDense());
+        assertColumnSizes(incidence, 1, 2, 2);
+        assertArrayEquals(incidence.toDense(), graph.getIncidenceMatrix());
+    }
+
+    @Test
+    public void coordinatesAndMatrixMarket() throws IOException {
+        SparseMatrix matrix = new SparseMatrix(2, 3, new int[]{0, 2, 3}, new int[]{0, 2, 1},
+                new double[]{1.5, 2, -1});
+        assertEquals(1.5, matrix.get(0, 0));
+        assertEquals(0, matrix.get(0, 1));
+        assertEquals(-1, matrix.get(1, 1));
+        assertArrayEquals(new int[]{0, 0, 1}, matrix.getRowIndices());
+        StringWriter out = new StringWriter();
+        matrix.writeMatrixMarket(out);
+        assertEquals("%%MatrixMarket matrix coordinate real general\n2 3 3\n1 1 1.5\n1 3 2.0\n2 2 -1.0\n",
+                out.toString());
+    }
+
+    @Test
+    public void arraysAreCopied() {
+        int[] offsets = {0, 1, 2};
+        int[] columns = {1, 0};
+        double[] values = {3, 4};
+        SparseMatrix matrix = new SparseMatrix(2, 2, offsets, columns, values);
+        columns[0] = 0;
+        values[0] = 7;
+        assertEquals(3, matrix.get(0, 1));
+        matrix.getColumnIndices()[0] = 0;
+        matrix.getValues()[0] = 7;
+        matrix.getRowOffsets()[1] = 0;
+        assertEquals(3, matrix.get(0, 1));
+        assertEquals(4, matrix.get(1, 0));
+    }
+
+    @Test
+    public void invalidColumns() {
+        // columnas desordenadas y fuera de la matriz
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 3, new int[]{0, 2}, new int[]{2, 1}, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 2, new int[]{0, 1}, new int[]{2}, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(2, 2, new int[]{0, 2, 1}, new int[]{0}, null));
+    }
+
+    private static void assertColumnSizes(SparseMatrix matrix, int... sizes) {
+        int[] counts = new int[matrix.getColumnCount()];
+        for (int column : matrix.getColumnIndices()) {
+            counts[column]++;
+        }
+        assertArrayEquals(sizes, counts);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba las componentes fuertemente conexas y su grafo de componentes
+ * contra la alcanzabilidad mutua calculada por fuerza bruta.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class StronglyConnectedComponentsTest {
+
+    @Test
+    public void matchesOracle() {
+        Random random = new Random(97);
+        for (int round = 0; round < 200; round++) {
+            int vertices = 1 + random.nextInt(25);
+            SimpleDirectedGraph<Integer> graph = graph(vertices);
+            //pocas aristas producen componentes pequenas y muchas un grafo
+            //fuertemente conexo
+            int edges = random.nextInt(vertices * (1 + round % 3));
+            for (int edge = 0; edge < edges; edge++) {
+                graph.insertEdge(random.nextInt(vertices), random.nextInt(vertices));
+            }
+            assertComponents(graph);
+        }
+    }
+
+    @Test
+    public void selfLoopIsCycle() {
+        SimpleDirectedGraph<Integer> graph = graph(2);
+        graph.insertEdge(0, 1);
+        assertFalse(graph.isCyclic());
+        graph.insertEdge(1, 1);
+        assertTrue(graph.isCyclic());
+        StronglyConnectedComponents<Integer> components = graph.stronglyConnectedComponents();
+        assertEquals(2, components.getComponentCount());
+        assertEquals(List.of(List.of(0), List.of(1)), components.getComponents());
+    }
+
+    @Test
+    public void directedAcyclicGraph() {
+        SimpleDirectedGraph<Integer> graph = graph(5);
+        graph.insertEdge(4, 3);
+        graph.insertEdge(3, 2);
+        graph.insertEdge(4, 2);
+        graph.insertEdge(2, 1);
+        graph.insertEdge(0, 1);
+        assertFalse(graph.isCyclic());
+        StronglyConnectedComponents<Integer> components = graph.stronglyConnectedComponents();
+        assertEquals(5, components.getComponentCount());
+        assertFalse(components.isStronglyConnected());
+        assertComponents(graph);
+    }
+
+    private static SimpleDirectedGraph<Integer> graph(int vertices) {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        return graph;
+    }
+
+    private static void assertComponents(SimpleDirectedGraph<Integer> graph) {
+        int count = graph.getVertexCount();
+        boolean[][] reach = new boolean[count][count];
+        boolean cyclic = false;
+        for (int tail = 0; tail < count; tail++) {
+            reach[tail][tail] = true;
+            for (int head : graph.getAdjacents(tail)) {
+                reach[tail][head] = true;
+                cyclic |= tail == head;
+            }
+        }
+        for (int middle = 0; middle < count; middle++) {
+            for (int tail = 0; tail < count; tail++) {
+                for (int head = 0; head < count; head++) {
+                    reach[tail][head] |= reach[tail][middle] && reach[middle][head];
+                }
+            }
+        }
+        StronglyConnectedComponents<Integer> components = graph.stronglyConnectedComponents();
+        Set<Integer> roots = new HashSet<>();
+        for (int vertex = 0; vertex < count; vertex++) {
+            int component = components.componentOf(vertex);
+            assertTrue(components.getComponent(component).contains(vertex));
+            boolean root = true;
+            for (int other = 0; other < count; other++) {
+                boolean mutual = reach[vertex][other] && reach[other][vertex];
+                assertEquals(mutual, components.areStronglyConnected(vertex, other));
+                assertEquals(mutual, component == components.componentOf(other));
+                root &= !mutual || other >= vertex;
+                cyclic |= mutual && other != vertex;
+            }
+            if (root) {
+                roots.add(vertex);
+            }
+        }
+        assertEquals(roots.size(), components.getComponentCount());
+        assertEquals(roots.size() == 1, components.isStronglyConnected());
+        assertEquals(cyclic, graph.isCyclic());
+        int members = 0;
+        for (List<Integer> component : components.getComponents()) {
+            members += component.size();
+        }
+        assertEquals(count, members);
+        Set<List<Integer>> expected = new HashSet<>();
+        for (int tail = 0; tail < count; tail++) {
+            for (int head : graph.getAdjacents(tail)) {
+                int from = components.componentOf(tail);
+                int to = components.componentOf(head);
+                if (from != to) {
+                    expected.add(List.of(from, to));
+                }
+            }
+        }
+        SparseMatrix condensation = components.getCondensation();
+        assertEquals(components.getComponentCount(), condensation.getRowCount());
+        assertEquals(expected.size(), condensation.getNonZeroCount());
+        int[] offsets = condensation.getRowOffsets();
+        int[] columns = condensation.getColumnIndices();
+        for (int row = 0; row < condensation.getRowCount(); row++) {
+            for (int k = offsets[row]; k < offsets[row + 1]; k++) {
+                //filas ordenadas sin repetidos y por encima de la diagonal
+                assertTrue(k == offsets[row] || columns[k] > columns[k - 1]);
+                assertTrue(columns[k] > row);
+                assertTrue(expected.contains(List.of(row, columns[k])));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.api;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.vertex.DefaultVertex;
+import io.github.ldelpino.graph.vertex.Vertex;
+import io.github.ldelpino.graph.vertex.WeightedVertex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que la coleccion de vertices mantenga el orden de insercion al
+ * eliminar vertices y reutilizar sus posiciones.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class VertexListTest {
+
+    @Test
+    public void insertionOrderAfterRemoval() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 5; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        graph.insertEdge(1, 2);
+        graph.insertEdge(2, 3);
+        graph.removeVertex(2);
+        graph.removeVertex(0);
+        // el vertice 5 reutiliza una posicion liberada pero queda al final
+        graph.insertVertex(5);
+        assertEquals(List.of(1, 3, 4, 5), new ArrayList<>(graph.getVertices()));
+        assertEquals(4, graph.getVertexCount());
+        assertFalse(graph.existEdge(1, 3));
+    }
+
+    @Test
+    public void removeIgnoresMutableHash() {
+        // el codigo hash del vertice cambia con su peso
+        VertexList<Integer> list = new VertexList<>();
+        WeightedVertex<Integer, Integer> weighted = new WeightedVertex<>(0, 1);
+        weighted.setIndex(0);
+        Vertex<Integer> other = new DefaultVertex<>(1);
+        other.setIndex(40);
+        assertTrue(list.add(weighted));
+        assertTrue(list.add(other));
+        assertFalse(list.add(other));
+        weighted.setWeight(7);
+        assertTrue(list.contains(weighted));
+        assertTrue(list.remove(weighted));
+        assertFalse(list.remove(weighted));
+        assertEquals(List.of(other), new ArrayList<>(list));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        VertexList<Integer> list = new VertexList<>();
+        for (int info = 0; info < 4; info++) {
+            Vertex<Integer> vertex = new DefaultVertex<>(info);
+            vertex.setIndex(3 - info);
+            list.add(vertex);
+        }
+        Iterator<Vertex<Integer>> iter = list.iterator();
+        while (iter.hasNext()) {
+            if (iter.next().getInfo() % 2 == 0) {
+                iter.remove();
+            }
+        }
+        List<Integer> infos = new ArrayList<>();
+        list.forEach((vertex) -> infos.add(vertex.getInfo()));
+        assertEquals(List.of(1, 3), infos);
+        assertEquals(2, list.size());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.generators;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import io.github.ldelpino.graph.graph_implementation.SimpleDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.SimpleNotDirectedGraph;
+import io.github.ldelpino.graph.graph_implementation.WeightedEdgeNotDirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que los generadores sean deterministas para una misma semilla y
+ * que emitan la cantidad y el tipo de aristas de su modelo.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class GraphGeneratorTest {
+
+    @Test
+    public void sameSeedSameEdges() {
+        GraphGenerator[][] generators = {
+            {new ErdosRenyiGenerator(500, 0.01, true, 1), new ErdosRenyiGenerator(500, 0.01, true, 1),
+                new ErdosRenyiGenerator(500, 0.01, true, 2)},
+            {new ErdosRenyiGenerator(500, 0.01, false, 1), new ErdosRenyiGenerator(500, 0.01, false, 1),
+                new ErdosRenyiGenerator(500, 0.01, false, 2)},
+            {new BarabasiAlbertGenerator(500, 3, 1), new BarabasiAlbertGenerator(500, 3, 1),
+                new BarabasiAlbertGenerator(500, 3, 2)},
+            {new RMatGenerator(9, 2000, 1), new RMatGenerator(9, 2000, 1), new RMatGenerator(9, 2000, 2)}};
+        for (GraphGenerator[] generator : generators) {
+            List<int[]> first = edges(generator[0]);
+            assertEquals(toStrings(first), toStrings(edges(generator[1])));
+            assertEquals(toStrings(first), toStrings(edges(generator[0])));
+            assertNotEquals(toStrings(first), toStrings(edges(generator[2])));
+        }
+    }
+
+    @Test
+    public void erdosRenyiWithoutLoopsOrDuplicates() {
+        for (boolean directed : new boolean[]{true, false}) {
+            for (double probability : new double[]{0.001, 0.05, 0.5}) {
+                int vertices = 400;
+                List<int[]> edges = edges(new ErdosRenyiGenerator(vertices, probability, directed, 7));
+                Set<Long> pairs = new HashSet<>();
+                for (int[] edge : edges) {
+                    assertTrue(edge[0] != edge[1], "self-loop");
+                    assertInRange(edge, vertices);
+                    int tail = directed ? edge[0] : Math.max(edge[0], edge[1]);
+                    int head = directed ? edge[1] : Math.min(edge[0], edge[1]);
+                    assertTrue(pairs.add((long) tail * vertices + head), "duplicate pair");
+                }
+                double pairCount = directed ? (double) vertices * (vertices - 1) : vertices * (vertices - 1) / 2.0;
+                double mean = pairCount * probability;
+                double deviation = Math.sqrt(mean * (1 - probability));
+                assertTrue(Math.abs(edges.size() - mean) < 6 * deviation, "edges " + edges.size());
+            }
+        }
+        assertEquals(0, edges(new ErdosRenyiGenerator(50, 0, true, 1)).size());
+        assertEquals(50 * 49 / 2, edges(new ErdosRenyiGenerator(50, 1, false, 1)).size());
+        assertThrows(IllegalArgumentException.class, () -> new ErdosRenyiGenerator(5, 1.5, true, 1));
+    }
+
+    @Test
+    public void barabasiAlbertEdges() {
+        int vertices = 1000;
+        int perVertex = 4;
+        List<int[]> edges = edges(new BarabasiAlbertGenerator(vertices, perVertex, 3));
+        assertEquals(perVertex * (vertices - perVertex), edges.size());
+        Set<Long> pairs = new HashSet<>();
+        for (int[] edge : edges) {
+            assertInRange(edge, vertices);
+            assertTrue(edge[0] > edge[1]);
+            assertTrue(pairs.add((long) edge[0] * vertices + edge[1]), "duplicate pair");
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BarabasiAlbertGenerator(3, 3, 1));
+    }
+
+    @Test
+    public void rMatEdges() {
+        List<int[]> edges = edges(new RMatGenerator(10, 5000, 5));
+        assertEquals(5000, edges.size());
+        for (int[] edge : edges) {
+            assertInRange(edge, 1 << 10);
+        }
+    }
+
+    @Test
+    public void fixedShapes() {
+        assertEquals(3 * 4 + 5 * 2, edges(new GridGenerator(3, 5, false)).size());
+        assertEquals(2 * (3 * 4 + 5 * 2), edges(new GridGenerator(3, 5, true)).size());
+        assertEquals(6 * 5, edges(new CompleteGenerator(6, true)).size());
+        assertEquals(6 * 5 / 2, edges(new CompleteGenerator(6, false)).size());
+    }
+
+    @Test
+    public void fillGraphs() {
+        GridGenerator grid = new GridGenerator(4, 4, false);
+        SimpleNotDirectedGraph<Integer> graph = grid.fill(new SimpleNotDirectedGraph<>());
+        assertEquals(16, graph.getVertexCount());
+        for (int[] edge : edges(grid)) {
+            assertTrue(graph.areAdjacents(edge[0], edge[1]));
+            assertTrue(graph.areAdjacents(edge[1], edge[0]));
+        }
+        WeightedEdgeNotDirectedGraph<Integer, Integer> weighted = grid.fillWeightedEdges(
+                new WeightedEdgeNotDirectedGraph<>(), (tail, head) -> tail + head);
+        for (int[] edge : edges(grid)) {
+            assertEquals(edge[0] + edge[1], weighted.getEdgeWeight(edge[0], edge[1]));
+        }
+        RMatGenerator rMat = new RMatGenerator(8, 3000, 9);
+        SimpleDirectedGraph<Integer> directed = rMat.fill(new SimpleDirectedGraph<>());
+        assertEquals(256, directed.getVertexCount());
+        for (int[] edge : edges(rMat)) {
+            assertTrue(directed.areAdjacents(edge[0], edge[1]));
+        }
+    }
+
+    private static List<int[]> edges(GraphGenerator generator) {
+        List<int[]> edges = new ArrayList<>();
+        generator.generate((tail, head) -> edges.add(new int[]{tail, head}));
+        return edges;
+    }
+
+    private static List<String> toStrings(List<int[]> edges) {
+        List<String> result = new ArrayList<>(edges.size());
+        for (int[] edge : edges) {
+            result.add(edge[0] + "-" + edge[1]);
+        }
+        return result;
+    }
+
+    private static void assertInRange(int[] edge, int vertices) {
+        assertTrue(edge[0] >= 0 && edge[0] < vertices && edge[1] >= 0 && edge[1] < vertices);
+    }
+}
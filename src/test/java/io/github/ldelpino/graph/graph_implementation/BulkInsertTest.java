@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import io.github.ldelpino.graph.api.AbstractGraph;
+import io.github.ldelpino.graph.api.EdgePair;
+import io.github.ldelpino.graph.api.WeightedEdgePair;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba que la insercion masiva de vertices y aristas devuelva la
+ * cantidad de elementos insertados y produzca el mismo grafo que la insercion
+ * de uno en uno.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class BulkInsertTest {
+
+    @Test
+    public void directedCount() {
+        List<EdgePair<Integer>> edges = List.of(EdgePair.of(0, 1), EdgePair.of(0, 1), EdgePair.of(1, 0),
+                EdgePair.of(2, 2), EdgePair.of(0, 9), EdgePair.of(9, 9), EdgePair.of(3, 2));
+        SimpleDirectedGraph<Integer> graph = directed(4);
+        assertEquals(4, graph.insertEdges(edges));
+        assertEquals(0, graph.insertEdges(edges));
+        assertSameGraph(sequential(directed(4), edges), graph);
+        //un iterable que no es una coleccion se inserta sin dimensionar
+        SimpleDirectedGraph<Integer> iterable = directed(4);
+        assertEquals(4, iterable.insertEdges(edges::iterator));
+        assertSameGraph(graph, iterable);
+    }
+
+    @Test
+    public void notDirectedCount() {
+        List<EdgePair<Integer>> edges = List.of(EdgePair.of(0, 1), EdgePair.of(1, 0), EdgePair.of(2, 2),
+                EdgePair.of(2, 2), EdgePair.of(0, 9), EdgePair.of(3, 1));
+        SimpleNotDirectedGraph<Integer> graph = notDirected(4);
+        assertEquals(3, graph.insertEdges(edges));
+        assertSameGraph(sequential(notDirected(4), edges), graph);
+        assertEquals(1, notDirected(4).insertEdges(List.of(EdgePair.of(3, 0))));
+    }
+
+    @Test
+    public void weightedKeepsFirstWeight() {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertices(List.of(0, 1));
+        assertEquals(1, graph.insertEdges(List.of(WeightedEdgePair.of(0, 1, 1.0), WeightedEdgePair.of(0, 1, 5.0),
+                WeightedEdgePair.of(0, 2, 2.0))));
+        assertEquals(1.0, graph.getEdgeWeight(0, 1));
+    }
+
+    @Test
+    public void verticesCount() {
+        SimpleDirectedGraph<Integer> graph = directed(1);
+        assertEquals(2, graph.insertVertices(List.of(0, 4, 4, 5)));
+        assertEquals(List.of(0, 4, 5), new ArrayList<>(graph.getVertices()));
+        WeightedVertexDirectedGraph<Integer, String> weighted = new WeightedVertexDirectedGraph<>();
+        weighted.insertVertex(0, "a");
+        Map<Integer, String> infos = new LinkedHashMap<>();
+        infos.put(0, "b");
+        infos.put(6, "c");
+        assertEquals(1, weighted.insertVertices(infos));
+        assertEquals(2, weighted.getVertexCount());
+        assertEquals("a", weighted.getWeightVertex(0));
+    }
+
+    @Test
+    public void matchesSequentialInsertion() {
+        Random random = new Random(103);
+        for (int round = 0; round < 100; round++) {
+            int vertices = 1 + random.nextInt(12);
+            List<EdgePair<Integer>> edges = new ArrayList<>();
+            for (int edge = random.nextInt(40); edge > 0; edge--) {
+                //algunas aristas tienen un vertice inexistente
+                edges.add(EdgePair.of(random.nextInt(vertices + 2), random.nextInt(vertices + 2)));
+            }
+            SimpleDirectedGraph<Integer> directed = directed(vertices);
+            SimpleDirectedGraph<Integer> expectedDirected = directed(vertices);
+            int insertedDirected = insertOneByOne(expectedDirected, edges);
+            assertEquals(insertedDirected, directed.insertEdges(edges));
+            assertSameGraph(expectedDirected, directed);
+            SimpleNotDirectedGraph<Integer> notDirected = notDirected(vertices);
+            SimpleNotDirectedGraph<Integer> expectedNotDirected = notDirected(vertices);
+            int insertedNotDirected = insertOneByOne(expectedNotDirected, edges);
+            assertEquals(insertedNotDirected, notDirected.insertEdges(edges));
+            assertSameGraph(expectedNotDirected, notDirected);
+        }
+    }
+
+    private static SimpleDirectedGraph<Integer> directed(int vertices) {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        return graph;
+    }
+
+    private static SimpleNotDirectedGraph<Integer> notDirected(int vertices) {
+        SimpleNotDirectedGraph<Integer> graph = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        return graph;
+    }
+
+    private static int insertOneByOne(AbstractGraph<Integer> graph, List<EdgePair<Integer>> edges) {
+        int inserted = 0;
+        for (EdgePair<Integer> edge : edges) {
+            if (!graph.existVertex(edge.getTail()) || !graph.existVertex(edge.getHead())) {
+                continue;
+            }
+            boolean added = graph instanceof SimpleDirectedGraph<Integer> directed
+                    ? directed.insertEdge(edge.getTail(), edge.getHead())
+                    : ((SimpleNotDirectedGraph<Integer>) graph).insertEdge(edge.getTail(), edge.getHead());
+            if (added) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    private static <G extends AbstractGraph<Integer>> G sequential(G graph, List<EdgePair<Integer>> edges) {
+        insertOneByOne(graph, edges);
+        return graph;
+    }
+
+    private static void assertSameGraph(AbstractGraph<Integer> expected, AbstractGraph<Integer> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getTotalEdgesCount(), actual.getTotalEdgesCount());
+        for (Integer tail : expected.getVertices()) {
+            assertEquals(expected.degree(tail), actual.degree(tail));
+            for (Integer head : expected.getVertices()) {
+                assertEquals(expected.areAdjacents(tail, head), actual.areAdjacents(tail, head));
+            }
+        }
+    }
+}
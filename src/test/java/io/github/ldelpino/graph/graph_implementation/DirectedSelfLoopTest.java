@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import java.util.List;
+import io.github.ldelpino.graph.api.EdgePair;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que un lazo en un grafo dirigido se cuente una vez como arista de
+ * salida y otra como arista de entrada de su vertice.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class DirectedSelfLoopTest {
+
+    @Test
+    public void insertAndRemoveLoop() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        assertTrue(graph.insertEdge(0, 0));
+        assertFalse(graph.insertEdge(0, 0));
+        assertTrue(graph.areAdjacents(0, 0));
+        assertEquals(2, graph.degree(0));
+        assertEquals(2, graph.getEdgesCount(0));
+        assertTrue(graph.insertEdge(1, 0));
+        assertEquals(3, graph.degree(0));
+        assertEquals(1, graph.degree(1));
+        assertTrue(graph.removeEdge(0, 0));
+        assertFalse(graph.areAdjacents(0, 0));
+        assertEquals(1, graph.degree(0));
+        assertEquals(1, graph.getEdgesCount(0));
+        assertFalse(graph.removeEdge(0, 0));
+    }
+
+    @Test
+    public void insertEdgesCountsLoops() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        assertEquals(3, graph.insertEdges(List.of(EdgePair.of(0, 0), EdgePair.of(0, 1), EdgePair.of(1, 0),
+                EdgePair.of(0, 0))));
+        assertEquals(4, graph.degree(0));
+        assertEquals(2, graph.degree(1));
+    }
+
+    @Test
+    public void weightedLoop() {
+        WeightedEdgeDirectedGraph<Integer, Double> graph = new WeightedEdgeDirectedGraph<>();
+        graph.insertVertex(0);
+        assertTrue(graph.insertEdge(0, 0, 2.5));
+        assertEquals(2, graph.degree(0));
+        assertEquals(2.5, graph.getEdgeWeight(0, 0));
+        assertTrue(graph.removeEdge(0, 0));
+        assertEquals(0, graph.degree(0));
+    }
+
+    @Test
+    public void removeVertexWithLoop() {
+        SimpleDirectedGraph<Integer> graph = new SimpleDirectedGraph<>();
+        graph.insertVertex(0);
+        graph.insertVertex(1);
+        graph.insertEdge(0, 0);
+        graph.insertEdge(1, 0);
+        assertEquals(0, graph.removeVertex(0));
+        assertEquals(0, graph.degree(1));
+        assertEquals(0, graph.getTotalEdgesCount());
+    }
+}
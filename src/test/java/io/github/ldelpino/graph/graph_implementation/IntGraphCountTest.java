@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import io.github.ldelpino.graph.api.AbstractIntGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba la cantidad de aristas de los grafos de vertices enteros frente a
+ * la de los grafos de vertices con informacion, y el limite de los vertices.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class IntGraphCountTest {
+
+    @Test
+    public void directedEdgeCount() {
+        IntDirectedGraph ints = new IntDirectedGraph();
+        SimpleDirectedGraph<Integer> boxed = new SimpleDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            ints.insertVertex(vertex);
+            boxed.insertVertex(vertex);
+        }
+        int[][] edges = {{0, 1}, {1, 0}, {1, 2}, {2, 2}};
+        for (int[] edge : edges) {
+            ints.insertEdge(edge[0], edge[1]);
+            boxed.insertEdge(edge[0], edge[1]);
+        }
+        // cada arista una vez frente a una vez en su cola y otra en su cabeza
+        assertEquals(4, ints.getTotalEdgesCount());
+        assertEquals(2 * ints.getTotalEdgesCount(), boxed.getTotalEdgesCount());
+    }
+
+    @Test
+    public void notDirectedEdgeCount() {
+        IntNotDirectedGraph ints = new IntNotDirectedGraph();
+        SimpleNotDirectedGraph<Integer> boxed = new SimpleNotDirectedGraph<>();
+        for (int vertex = 0; vertex < 3; vertex++) {
+            ints.insertVertex(vertex);
+            boxed.insertVertex(vertex);
+        }
+        int[][] edges = {{0, 1}, {1, 2}, {2, 2}};
+        for (int[] edge : edges) {
+            ints.insertEdge(edge[0], edge[1]);
+            boxed.insertEdge(edge[0], edge[1]);
+        }
+        // el lazo se cuenta una sola vez en ambos grafos
+        assertEquals(3, ints.getTotalEdgesCount());
+        assertEquals(2 * ints.getTotalEdgesCount() - 1, boxed.getTotalEdgesCount());
+    }
+
+    @Test
+    public void vertexBounds() {
+        IntDirectedGraph graph = new IntDirectedGraph();
+        assertFalse(graph.insertVertex(-1));
+        assertThrows(IllegalArgumentException.class, () -> graph.insertVertex(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> graph.insertVertex(AbstractIntGraph.MAX_VERTEX + 1));
+        assertEquals(0, graph.getVertexCount());
+        assertTrue(graph.insertVertex(1000));
+        assertTrue(graph.existVertex(1000));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2021 Lazaro Cesar del Pino Olivera
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.graph.graph_implementation;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import io.github.ldelpino.graph.api.AbstractIntGraph;
+import io.github.ldelpino.graph.api.IntCursor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba la insercion y eliminacion de aristas en los vertices con muchos
+ * adyacentes de los grafos de vertices enteros.
+ *
+ * @author Lazaro Cesar del Pino Olivera <elrojo960905@gmail.com>
+ * @since jdk-16.0.1
+ * @version 1.0.0
+ */
+public class IntGraphHubTest {
+
+    private static final int VERTICES = 500;
+
+    @Test
+    public void directedHub() {
+        checkHub(new IntDirectedGraph());
+    }
+
+    @Test
+    public void notDirectedHub() {
+        checkHub(new IntNotDirectedGraph());
+    }
+
+    @Test
+    public void largeHub() {
+        IntDirectedGraph graph = new IntDirectedGraph(100_001);
+        for (int vertex = 0; vertex <= 100_000; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        for (int head = 1; head <= 100_000; head++) {
+            assertTrue(graph.insertEdge(0, head));
+        }
+        assertFalse(graph.insertEdge(0, 50_000));
+        assertEquals(100_000, graph.outDegree(0));
+        assertTrue(graph.removeVertex(50_000));
+        assertEquals(99_999, graph.outDegree(0));
+        assertFalse(graph.areAdjacents(0, 50_000));
+    }
+
+    private static void checkHub(AbstractIntGraph graph) {
+        Random random = new Random(7);
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            graph.insertVertex(vertex);
+        }
+        Set<Integer> expected = new HashSet<>();
+        for (int step = 0; step < 20_000; step++) {
+            int head = random.nextInt(VERTICES);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(head), graph.removeEdge(0, head));
+            } else {
+                assertEquals(expected.add(head), graph.insertEdge(0, head));
+            }
+            if (step % 1000 == 0) {
+                assertAdjacents(graph, expected);
+            }
+        }
+        assertAdjacents(graph, expected);
+        for (int head = 0; head < VERTICES; head++) {
+            assertEquals(expected.contains(head), graph.areAdjacents(0, head));
+        }
+    }
+
+    private static void assertAdjacents(AbstractIntGraph graph, Set<Integer> expected) {
+        Set<Integer> actual = new HashSet<>();
+        IntCursor cursor = graph.getAdjacents(0);
+        while (cursor.hasNext()) {
+            assertTrue(actual.add(cursor.next()));
+        }
+        assertEquals(expected, actual);
+    }
+}